@@ -1,6 +1,8 @@
 package com.fmd.email_processor;
 
 import com.fmd.email_processor.dto.BatchJobProperties;
+import com.fmd.email_processor.dto.EmailConnectionPoolProperties;
+import com.fmd.email_processor.dto.EmailServerProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -19,7 +21,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
  */
 @Slf4j
 @SpringBootApplication
-@EnableConfigurationProperties(BatchJobProperties.class)
+@EnableConfigurationProperties({BatchJobProperties.class, EmailServerProperties.class, EmailConnectionPoolProperties.class})
 public class EmailProcessorApplication {
 
 	/**
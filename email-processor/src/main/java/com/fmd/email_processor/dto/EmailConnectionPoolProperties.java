@@ -0,0 +1,64 @@
+package com.fmd.email_processor.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for the pool of email server connections.
+ * <p>
+ * This class holds the size and timeouts of the pool that keeps authenticated
+ * connections to the email server open between fetches and flag updates. The
+ * read-only and read-write lanes of the pool are each sized with these values.
+ * </p>
+ *
+ * @param maxPerLane         the maximum number of connections in each lane
+ * @param maxWaitMs          the time in milliseconds to wait for a connection when a lane is exhausted
+ * @param idleTimeoutMs      the time in milliseconds after which an idle connection is closed
+ * @param evictionIntervalMs the interval in milliseconds between runs of the idle connection evictor
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Validated
+@ConfigurationProperties(prefix = "batch.job.email.pool")
+public record EmailConnectionPoolProperties(
+        @Min(1)
+        @Max(64)
+        Integer maxPerLane,
+
+        @Min(0)
+        Long maxWaitMs,
+
+        @Min(1_000)
+        Long idleTimeoutMs,
+
+        @Min(1_000)
+        Long evictionIntervalMs
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * Initializes with default values if not specified in application properties.
+     */
+    public EmailConnectionPoolProperties {
+        if (maxPerLane == null) {
+            log.warn("Max connections per lane is not specified, using default value of 4.");
+            maxPerLane = 4;
+        }
+        if (maxWaitMs == null) {
+            log.warn("Max wait is not specified, using default value of 30 seconds.");
+            maxWaitMs = 30_000L;
+        }
+        if (idleTimeoutMs == null) {
+            log.warn("Idle timeout is not specified, using default value of 5 minutes.");
+            idleTimeoutMs = 300_000L;
+        }
+        if (evictionIntervalMs == null) {
+            log.warn("Eviction interval is not specified, using default value of 60 seconds.");
+            evictionIntervalMs = 60_000L;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.fmd.email_processor.pool;
+
+import com.fmd.email_processor.dto.EmailServerConnection;
+import com.fmd.email_processor.dto.EmailServerProperties;
+import com.fmd.email_processor.util.EmailServerConnectionUtil;
+import jakarta.mail.Folder;
+import jakarta.mail.MessagingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+
+/**
+ * Creates, validates and closes the connections of one lane of the
+ * {@link EmailServerConnectionPool}.
+ * <p>
+ * Each connection is an authenticated store with the configured folder open
+ * in the mode of the lane. A connection is validated by asking its open folder
+ * for the message count, which the IMAP provider answers with a NOOP round
+ * trip to the server once the folder has been idle, so connections dropped by
+ * the server or the network are detected before they are handed out.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+class EmailServerConnectionFactory extends BasePooledObjectFactory<EmailServerConnection> {
+
+    private final EmailServerProperties emailServerProperties;
+    private final boolean readWrite;
+
+    /**
+     * Connects to the email server and opens the folder in the mode of the lane.
+     *
+     * @return the new connection
+     * @throws MessagingException if there is an error connecting to the server or opening the folder
+     */
+    @Override
+    public EmailServerConnection create() throws MessagingException {
+        return EmailServerConnectionUtil.openConnection(emailServerProperties, readWrite);
+    }
+
+    @Override
+    public PooledObject<EmailServerConnection> wrap(EmailServerConnection connection) {
+        return new DefaultPooledObject<>(connection);
+    }
+
+    /**
+     * Checks that the folder of the connection is still open on the server.
+     *
+     * @param pooledObject the pooled connection
+     * @return true if the connection can be used, false if it must be discarded
+     */
+    @Override
+    public boolean validateObject(PooledObject<EmailServerConnection> pooledObject) {
+        Folder folder = pooledObject.getObject().folder();
+        try {
+            return folder.isOpen() && folder.getMessageCount() >= 0;
+        } catch (MessagingException | RuntimeException e) {
+            log.debug("Email server connection failed validation: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Closes the folder and store of the connection.
+     *
+     * @param pooledObject the pooled connection
+     */
+    @Override
+    public void destroyObject(PooledObject<EmailServerConnection> pooledObject) {
+        pooledObject.getObject().close();
+    }
+}
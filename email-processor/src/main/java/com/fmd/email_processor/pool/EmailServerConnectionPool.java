@@ -0,0 +1,212 @@
+package com.fmd.email_processor.pool;
+
+import com.fmd.email_processor.dto.EmailConnectionPoolProperties;
+import com.fmd.email_processor.dto.EmailServerConnection;
+import com.fmd.email_processor.dto.EmailServerProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.mail.Folder;
+import jakarta.mail.MessagingException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Bounded pool of authenticated connections to the email server.
+ * <p>
+ * Opening a connection costs a TLS handshake, an IMAP login and a folder
+ * select, so connections are kept open and reused across fetches and flag
+ * updates. Connections with the folder open read-only and read-write are kept
+ * in separate lanes, each bounded by {@link EmailConnectionPoolProperties#maxPerLane()},
+ * so flag updates never wait behind fetches. Connections are validated before
+ * each use and closed once idle for {@link EmailConnectionPoolProperties#idleTimeoutMs()}.
+ * </p>
+ * <p>
+ * The size and activity of each lane are published as metrics under
+ * {@value #METRIC_PREFIX}, tagged with the lane.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class EmailServerConnectionPool implements MeterBinder, DisposableBean {
+
+    public static final String METRIC_PREFIX = "email.connection.pool";
+
+    private final Map<Lane, GenericObjectPool<EmailServerConnection>> lanes = new EnumMap<>(Lane.class);
+
+    /**
+     * Mode in which the folder of a connection is open.
+     */
+    public enum Lane {
+        /** Folder open read-only, for searching and reading emails. */
+        READ_ONLY("read-only"),
+        /** Folder open read-write, for updating flags on emails. */
+        READ_WRITE("read-write");
+
+        private final String tag;
+
+        Lane(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * Work done with the open folder of a pooled connection.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    public interface FolderCallback<T> {
+
+        /**
+         * Works with the folder, which must not be closed or kept beyond the call.
+         *
+         * @param folder the open folder
+         * @return the result
+         * @throws MessagingException if there is an error communicating with the email server
+         */
+        T doInFolder(Folder folder) throws MessagingException;
+    }
+
+    /**
+     * Creates the lanes of the pool. No connection is opened until one is needed.
+     *
+     * @param emailServerProperties the properties of the email server to connect to
+     * @param poolProperties        the size and timeouts of the pool
+     */
+    public EmailServerConnectionPool(EmailServerProperties emailServerProperties,
+                                     EmailConnectionPoolProperties poolProperties) {
+        for (Lane lane : Lane.values()) {
+            var factory = new EmailServerConnectionFactory(emailServerProperties, lane == Lane.READ_WRITE);
+            lanes.put(lane, new GenericObjectPool<>(factory, config(poolProperties)));
+        }
+        log.info("Email server connection pool created with up to {} connections per lane", poolProperties.maxPerLane());
+    }
+
+    /**
+     * Runs the callback with the folder of a connection from the given lane.
+     * <p>
+     * The connection is returned to the lane afterwards. If the callback
+     * fails, the connection is discarded, since its state on the server is
+     * unknown, and the next use opens a new one.
+     * </p>
+     *
+     * @param lane     the lane to take the connection from
+     * @param callback the work to do with the folder
+     * @param <T>      the type of the result
+     * @return the result of the callback
+     * @throws MessagingException if no connection could be obtained or the callback fails
+     */
+    public <T> T execute(Lane lane, FolderCallback<T> callback) throws MessagingException {
+        GenericObjectPool<EmailServerConnection> pool = lanes.get(lane);
+        EmailServerConnection connection = borrow(lane, pool);
+        boolean broken = true;
+        try {
+            T result = callback.doInFolder(connection.folder());
+            broken = false;
+            return result;
+        } finally {
+            if (broken) {
+                invalidate(lane, pool, connection);
+            } else {
+                pool.returnObject(connection);
+            }
+        }
+    }
+
+    /**
+     * Registers the gauges and counters of each lane.
+     *
+     * @param registry the meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        lanes.forEach((lane, pool) -> {
+            gauge(registry, "active", "Connections in use", lane, pool, GenericObjectPool::getNumActive);
+            gauge(registry, "idle", "Connections open and available", lane, pool, GenericObjectPool::getNumIdle);
+            gauge(registry, "pending", "Threads waiting for a connection", lane, pool, GenericObjectPool::getNumWaiters);
+            counter(registry, "created", "Connections opened", lane, pool, GenericObjectPool::getCreatedCount);
+            counter(registry, "destroyed", "Connections closed", lane, pool, GenericObjectPool::getDestroyedCount);
+            counter(registry, "borrowed", "Connections handed out", lane, pool, GenericObjectPool::getBorrowedCount);
+            counter(registry, "validation.failures", "Connections closed after failing validation", lane, pool,
+                    GenericObjectPool::getDestroyedByBorrowValidationCount);
+            counter(registry, "evicted", "Connections closed after idling", lane, pool,
+                    GenericObjectPool::getDestroyedByEvictorCount);
+        });
+    }
+
+    /**
+     * Closes the idle connections of all lanes. Connections in use are closed when returned.
+     */
+    @Override
+    public void destroy() {
+        log.info("Closing email server connection pool");
+        lanes.values().forEach(GenericObjectPool::close);
+    }
+
+    private static EmailServerConnection borrow(Lane lane, GenericObjectPool<EmailServerConnection> pool)
+            throws MessagingException {
+        try {
+            return pool.borrowObject();
+        } catch (MessagingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MessagingException("Failed to obtain " + lane.tag + " connection to email server", e);
+        }
+    }
+
+    private static void invalidate(Lane lane, GenericObjectPool<EmailServerConnection> pool,
+                                   EmailServerConnection connection) {
+        try {
+            pool.invalidateObject(connection);
+        } catch (Exception e) {
+            log.warn("Failed to discard {} connection to email server: {}", lane.tag, e.getMessage());
+        }
+    }
+
+    private static GenericObjectPoolConfig<EmailServerConnection> config(EmailConnectionPoolProperties properties) {
+        GenericObjectPoolConfig<EmailServerConnection> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(properties.maxPerLane());
+        config.setMaxIdle(properties.maxPerLane());
+        config.setMinIdle(0);
+        config.setMaxWait(Duration.ofMillis(properties.maxWaitMs()));
+        config.setTestOnBorrow(true);
+        config.setMinEvictableIdleDuration(Duration.ofMillis(properties.idleTimeoutMs()));
+        config.setTimeBetweenEvictionRuns(Duration.ofMillis(properties.evictionIntervalMs()));
+        config.setNumTestsPerEvictionRun(properties.maxPerLane());
+        // Metrics are published through Micrometer instead
+        config.setJmxEnabled(false);
+        return config;
+    }
+
+    private static void gauge(MeterRegistry registry, String name, String description, Lane lane,
+                              GenericObjectPool<EmailServerConnection> pool,
+                              ToDoubleFunction<GenericObjectPool<EmailServerConnection>> value) {
+        Gauge.builder(METRIC_PREFIX + "." + name, pool, value)
+                .description(description)
+                .tag("lane", lane.tag)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, String description, Lane lane,
+                                GenericObjectPool<EmailServerConnection> pool,
+                                ToDoubleFunction<GenericObjectPool<EmailServerConnection>> value) {
+        FunctionCounter.builder(METRIC_PREFIX + "." + name, pool, value)
+                .description(description)
+                .tag("lane", lane.tag)
+                .register(registry);
+    }
+}
@@ -1,13 +1,11 @@
 package com.fmd.email_processor.service.impl;
 
 import com.fmd.email_processor.dto.EmailMessage;
-import com.fmd.email_processor.dto.EmailServerConnection;
-import com.fmd.email_processor.dto.EmailServerProperties;
 import com.fmd.email_processor.dto.mapper.MessageMapper;
+import com.fmd.email_processor.pool.EmailServerConnectionPool;
+import com.fmd.email_processor.pool.EmailServerConnectionPool.Lane;
 import com.fmd.email_processor.service.EmailServerService;
-import com.fmd.email_processor.util.EmailServerConnectionUtil;
 import jakarta.mail.Flags.Flag;
-import jakarta.mail.Folder;
 import jakarta.mail.Message;
 import jakarta.mail.search.*;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +20,8 @@ import java.util.*;
  * <p>
  * This service handles interactions with the email server, including fetching emails,
  * marking them as processed, and deleting them based on specified criteria.
+ * Connections are taken from the {@link EmailServerConnectionPool}, read-only
+ * ones for fetching and read-write ones for updating flags.
  * </p>
  *
  * @author Shailesh Halor
@@ -33,7 +33,7 @@ import java.util.*;
 @RequiredArgsConstructor
 public class EmailServerServiceImpl implements EmailServerService {
 
-    private final EmailServerProperties emailServerProperties;
+    private final EmailServerConnectionPool connectionPool;
 
     /**
      * Fetches emails from the mail server based on the specified criteria.
@@ -56,16 +56,17 @@ public class EmailServerServiceImpl implements EmailServerService {
             return List.of();
         }
 
-        try (EmailServerConnection connection = EmailServerConnectionUtil.openConnection(emailServerProperties, false)) {
+        try {
             log.debug("Fetching emails with criteria: subjectLike={}, emailReceivedAfter={}", subjectLike, emailReceivedAfter);
-            Folder folder = connection.folder();
-            Message[] messages = folder.search(searchTerm);
+            return connectionPool.execute(Lane.READ_ONLY, folder -> {
+                Message[] messages = folder.search(searchTerm);
 
-            // Stream processing instead of explicit for-loop
-            return Arrays.stream(messages)
-                    .map(MessageMapper::mapTo)
-                    .filter(Objects::nonNull)
-                    .toList();
+                // Map while the connection is held, the message content is loaded lazily
+                return Arrays.stream(messages)
+                        .map(MessageMapper::mapTo)
+                        .filter(Objects::nonNull)
+                        .toList();
+            });
         } catch (Exception e) {
             log.error("Failed to fetch emails from server", e);
             return List.of();
@@ -103,15 +104,21 @@ public class EmailServerServiceImpl implements EmailServerService {
             log.warn("Message ID is null or blank. Cannot update flag.");
             return;
         }
-        try (EmailServerConnection connection = EmailServerConnectionUtil.openConnection(emailServerProperties, true)) {
+        try {
             log.debug("Updating flag {} on email with messageId={}", flag, messageId);
-            Folder folder = connection.folder();
-            SearchTerm searchTerm = new HeaderTerm("Message-ID", messageId);
-            Message[] messages = folder.search(searchTerm);
+            connectionPool.execute(Lane.READ_WRITE, folder -> {
+                SearchTerm searchTerm = new HeaderTerm("Message-ID", messageId);
+                Message[] messages = folder.search(searchTerm);
 
-            for (Message message : messages) {
-                message.setFlag(flag, true);
-            }
+                for (Message message : messages) {
+                    message.setFlag(flag, true);
+                }
+                // The pooled folder stays open, so expunge now rather than on close
+                if (flag == Flag.DELETED && messages.length > 0) {
+                    folder.expunge();
+                }
+                return null;
+            });
         } catch (Exception e) {
             log.error("Failed to update flag {} on messageId {}", flag, messageId, e);
         }
@@ -1,7 +1,9 @@
 package com.fmd.email_processor.integration;
 
+import com.fmd.email_processor.dto.EmailConnectionPoolProperties;
 import com.fmd.email_processor.dto.EmailServerProperties;
 import com.fmd.email_processor.entity.OrderRequest;
+import com.fmd.email_processor.pool.EmailServerConnectionPool;
 import com.fmd.email_processor.repository.OrderRequestRepository;
 import com.fmd.email_processor.repository.ProcessedEmailRepository;
 import com.fmd.email_processor.service.impl.EmailProcessingServiceImpl;
@@ -11,6 +13,7 @@ import com.icegreen.greenmail.util.GreenMailUtil;
 import com.icegreen.greenmail.util.ServerSetup;
 import com.icegreen.greenmail.util.ServerSetupTest;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +24,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 @DataJpaTest
 @ExtendWith(SpringExtension.class)
@@ -33,6 +38,7 @@ class EmailProcessingIntegrationTest {
     @Autowired
     private ProcessedEmailRepository processedEmailRepository;
 
+    private final List<EmailServerConnectionPool> connectionPools = new ArrayList<>();
     private EmailProcessingServiceImpl emailProcessingService;
 
     @BeforeEach
@@ -45,11 +51,23 @@ class EmailProcessingIntegrationTest {
                 ServerSetupTest.IMAP.getPort(),
                 "imap"
         );
-        EmailServerServiceImpl emailServerService = new EmailServerServiceImpl(props);
+        EmailServerServiceImpl emailServerService = new EmailServerServiceImpl(connectionPool(props));
         emailProcessingService = new EmailProcessingServiceImpl(emailServerService, processedEmailRepository);
         greenMail.setUser("user@localhost", "user", "password");
     }
 
+    @AfterEach
+    void tearDown() {
+        connectionPools.forEach(EmailServerConnectionPool::destroy);
+    }
+
+    private EmailServerConnectionPool connectionPool(EmailServerProperties props) {
+        EmailServerConnectionPool connectionPool = new EmailServerConnectionPool(props,
+                new EmailConnectionPoolProperties(null, null, null, null));
+        connectionPools.add(connectionPool);
+        return connectionPool;
+    }
+
     @Test
     @DisplayName("should fetch and persist new emails end-to-end")
     void fetchAndPersistNewEmails_endToEnd() {
@@ -114,7 +132,7 @@ class EmailProcessingIntegrationTest {
                 3143,
                 "imap"
         );
-        EmailServerServiceImpl badServer = new EmailServerServiceImpl(badProps);
+        EmailServerServiceImpl badServer = new EmailServerServiceImpl(connectionPool(badProps));
         EmailProcessingServiceImpl badProcessing = new EmailProcessingServiceImpl(badServer, processedEmailRepository);
         OrderRequest order = OrderRequest.builder().name("E").status("NEW").processed(false).retryCount(0).createdAt(Instant.now().minusSeconds(60)).build();
         order = orderRequestRepository.save(order);
@@ -0,0 +1,136 @@
+package com.fmd.email_processor.pool;
+
+import com.fmd.email_processor.dto.EmailConnectionPoolProperties;
+import com.fmd.email_processor.dto.EmailServerConnection;
+import com.fmd.email_processor.dto.EmailServerProperties;
+import com.fmd.email_processor.pool.EmailServerConnectionPool.Lane;
+import com.fmd.email_processor.util.EmailServerConnectionUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Folder;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Store;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+class EmailServerConnectionPoolTest {
+    private EmailServerConnectionPool connectionPool;
+    private MockedStatic<EmailServerConnectionUtil> util;
+
+    @BeforeEach
+    void setUp() {
+        connectionPool = new EmailServerConnectionPool(Mockito.mock(EmailServerProperties.class),
+                new EmailConnectionPoolProperties(1, 100L, 60_000L, 60_000L));
+        util = Mockito.mockStatic(EmailServerConnectionUtil.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        util.close();
+        connectionPool.destroy();
+    }
+
+    private static Folder openFolder() throws MessagingException {
+        Folder folder = Mockito.mock(Folder.class);
+        Mockito.when(folder.isOpen()).thenReturn(true);
+        Mockito.when(folder.getMessageCount()).thenReturn(0);
+        return folder;
+    }
+
+    private void connectTo(boolean readWrite, Folder first, Folder... more) {
+        EmailServerConnection[] connections = new EmailServerConnection[more.length];
+        for (int i = 0; i < more.length; i++) {
+            connections[i] = new EmailServerConnection(Mockito.mock(Store.class), more[i]);
+        }
+        util.when(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.eq(readWrite)))
+                .thenReturn(new EmailServerConnection(Mockito.mock(Store.class), first), connections);
+    }
+
+    @Test
+    @DisplayName("execute should open one connection per lane and reuse it")
+    void execute_shouldReuseConnectionPerLane() throws Exception {
+        Folder readOnly = openFolder();
+        Folder readWrite = openFolder();
+        connectTo(false, readOnly);
+        connectTo(true, readWrite);
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertThat(connectionPool.<Folder>execute(Lane.READ_ONLY, folder -> folder)).isSameAs(readOnly);
+            Assertions.assertThat(connectionPool.<Folder>execute(Lane.READ_WRITE, folder -> folder)).isSameAs(readWrite);
+        }
+        util.verify(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.anyBoolean()), Mockito.times(2));
+    }
+
+    @Test
+    @DisplayName("execute should replace a connection that fails validation")
+    void execute_shouldReplaceInvalidConnection() throws Exception {
+        Folder stale = openFolder();
+        Folder fresh = openFolder();
+        connectTo(false, stale, fresh);
+        connectionPool.execute(Lane.READ_ONLY, folder -> folder);
+
+        Mockito.when(stale.getMessageCount()).thenThrow(new MessagingException("connection reset"));
+        Assertions.assertThat(connectionPool.<Folder>execute(Lane.READ_ONLY, folder -> folder)).isSameAs(fresh);
+        Mockito.verify(stale).close(true);
+    }
+
+    @Test
+    @DisplayName("execute should fail when the lane stays exhausted")
+    void execute_shouldFailWhenLaneExhausted() throws Exception {
+        Folder folder = openFolder();
+        connectTo(false, folder);
+
+        Assertions.assertThatThrownBy(() -> connectionPool.execute(Lane.READ_ONLY,
+                        outer -> connectionPool.execute(Lane.READ_ONLY, inner -> inner)))
+                .isInstanceOf(MessagingException.class)
+                .hasMessageContaining("read-only");
+    }
+
+    @Test
+    @DisplayName("execute should replace a connection whose callback throws an error")
+    void execute_shouldReplaceConnectionAfterError() throws Exception {
+        Folder broken = openFolder();
+        Folder fresh = openFolder();
+        connectTo(false, broken, fresh);
+
+        Assertions.assertThatThrownBy(() -> connectionPool.execute(Lane.READ_ONLY, folder -> {
+                    throw new StackOverflowError();
+                }))
+                .isInstanceOf(StackOverflowError.class);
+        Assertions.assertThat(connectionPool.<Folder>execute(Lane.READ_ONLY, folder -> folder)).isSameAs(fresh);
+        Mockito.verify(broken).close(true);
+    }
+
+    @Test
+    @DisplayName("bindTo should publish lane metrics")
+    void bindTo_shouldPublishLaneMetrics() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        connectionPool.bindTo(registry);
+        connectTo(true, openFolder());
+
+        connectionPool.execute(Lane.READ_WRITE, folder -> folder);
+
+        Assertions.assertThat(registry.get("email.connection.pool.borrowed").tag("lane", "read-write").functionCounter().count())
+                .isEqualTo(1);
+        Assertions.assertThat(registry.get("email.connection.pool.idle").tag("lane", "read-write").gauge().value())
+                .isEqualTo(1);
+        Assertions.assertThat(registry.get("email.connection.pool.created").tag("lane", "read-only").functionCounter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("destroy should close idle connections")
+    void destroy_shouldCloseIdleConnections() throws Exception {
+        Folder folder = openFolder();
+        connectTo(false, folder);
+        connectionPool.execute(Lane.READ_ONLY, f -> f);
+
+        connectionPool.destroy();
+
+        Mockito.verify(folder).close(true);
+    }
+}
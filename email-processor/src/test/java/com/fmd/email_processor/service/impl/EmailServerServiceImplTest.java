@@ -1,15 +1,19 @@
 package com.fmd.email_processor.service.impl;
 
+import com.fmd.email_processor.dto.EmailConnectionPoolProperties;
 import com.fmd.email_processor.dto.EmailMessage;
 import com.fmd.email_processor.dto.EmailServerConnection;
 import com.fmd.email_processor.dto.EmailServerProperties;
+import com.fmd.email_processor.pool.EmailServerConnectionPool;
 import com.fmd.email_processor.util.EmailServerConnectionUtil;
 import jakarta.mail.Flags.Flag;
 import jakarta.mail.Folder;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
+import jakarta.mail.Store;
 import jakarta.mail.search.SearchTerm;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class EmailServerServiceImplTest {
+    private EmailServerConnectionPool connectionPool;
     private EmailServerServiceImpl service;
 
     @BeforeEach
@@ -33,16 +38,27 @@ class EmailServerServiceImplTest {
         Mockito.when(emailServerProperties.port()).thenReturn(993);
         Mockito.when(emailServerProperties.username()).thenReturn("user");
         Mockito.when(emailServerProperties.password()).thenReturn("pass");
-        service = new EmailServerServiceImpl(emailServerProperties);
+        connectionPool = new EmailServerConnectionPool(emailServerProperties,
+                new EmailConnectionPoolProperties(2, 1_000L, 60_000L, 60_000L));
+        service = new EmailServerServiceImpl(connectionPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionPool.destroy();
+    }
+
+    private static EmailServerConnection openConnection(Folder folder) {
+        Mockito.when(folder.isOpen()).thenReturn(true);
+        return new EmailServerConnection(Mockito.mock(Store.class), folder);
     }
 
     @Test
     @DisplayName("fetchEmails should return mapped emails")
     void fetchEmails_shouldReturnMappedEmails() throws Exception {
-        EmailServerConnection connection = Mockito.mock(EmailServerConnection.class);
         Folder folder = Mockito.mock(Folder.class);
+        EmailServerConnection connection = openConnection(folder);
         Message msg = Mockito.mock(Message.class);
-        Mockito.when(connection.folder()).thenReturn(folder);
         Mockito.when(folder.search(Mockito.any(SearchTerm.class))).thenReturn(new Message[]{msg});
         try (MockedStatic<EmailServerConnectionUtil> util = Mockito.mockStatic(EmailServerConnectionUtil.class)) {
             util.when(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.anyBoolean())).thenReturn(connection);
@@ -71,10 +87,9 @@ class EmailServerServiceImplTest {
     @Test
     @DisplayName("markEmailAsProcessed should update SEEN flag")
     void markEmailAsProcessed_shouldUpdateSeenFlag() throws Exception {
-        EmailServerConnection connection = Mockito.mock(EmailServerConnection.class);
         Folder folder = Mockito.mock(Folder.class);
+        EmailServerConnection connection = openConnection(folder);
         Message msg = Mockito.mock(Message.class);
-        Mockito.when(connection.folder()).thenReturn(folder);
         Mockito.when(folder.search(Mockito.any(SearchTerm.class))).thenReturn(new Message[]{msg});
         try (MockedStatic<EmailServerConnectionUtil> util = Mockito.mockStatic(EmailServerConnectionUtil.class)) {
             util.when(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.eq(true))).thenReturn(connection);
@@ -86,15 +101,15 @@ class EmailServerServiceImplTest {
     @Test
     @DisplayName("deleteEmail should update DELETED flag")
     void deleteEmail_shouldUpdateDeletedFlag() throws Exception {
-        EmailServerConnection connection = Mockito.mock(EmailServerConnection.class);
         Folder folder = Mockito.mock(Folder.class);
+        EmailServerConnection connection = openConnection(folder);
         Message msg = Mockito.mock(Message.class);
-        Mockito.when(connection.folder()).thenReturn(folder);
         Mockito.when(folder.search(Mockito.any(SearchTerm.class))).thenReturn(new Message[]{msg});
         try (MockedStatic<EmailServerConnectionUtil> util = Mockito.mockStatic(EmailServerConnectionUtil.class)) {
             util.when(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.eq(true))).thenReturn(connection);
             service.deleteEmail("mid");
             Mockito.verify(msg).setFlag(Flag.DELETED, true);
+            Mockito.verify(folder).expunge();
         }
     }
 
@@ -119,4 +134,46 @@ class EmailServerServiceImplTest {
             assertDoesNotThrow(() -> service.markEmailAsProcessed("mid"));
         }
     }
+
+    @Test
+    @DisplayName("fetchEmails and markEmailAsProcessed should reuse pooled connections")
+    void fetchAndMark_shouldReuseConnections() throws Exception {
+        Folder readOnlyFolder = Mockito.mock(Folder.class);
+        Folder readWriteFolder = Mockito.mock(Folder.class);
+        EmailServerConnection readOnly = openConnection(readOnlyFolder);
+        EmailServerConnection readWrite = openConnection(readWriteFolder);
+        Mockito.when(readOnlyFolder.search(Mockito.any(SearchTerm.class))).thenReturn(new Message[0]);
+        Mockito.when(readWriteFolder.search(Mockito.any(SearchTerm.class))).thenReturn(new Message[0]);
+        try (MockedStatic<EmailServerConnectionUtil> util = Mockito.mockStatic(EmailServerConnectionUtil.class)) {
+            util.when(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.eq(false))).thenReturn(readOnly);
+            util.when(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.eq(true))).thenReturn(readWrite);
+            for (int i = 0; i < 3; i++) {
+                service.fetchEmails("sub", Instant.now());
+                service.markEmailAsProcessed("mid");
+            }
+            util.verify(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.eq(false)));
+            util.verify(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.eq(true)));
+            Mockito.verify(readOnlyFolder, Mockito.times(3)).search(Mockito.any(SearchTerm.class));
+            Mockito.verify(readWriteFolder, Mockito.times(3)).search(Mockito.any(SearchTerm.class));
+        }
+    }
+
+    @Test
+    @DisplayName("fetchEmails should discard the connection after a failure")
+    void fetchEmails_shouldDiscardConnectionOnFailure() throws Exception {
+        Folder brokenFolder = Mockito.mock(Folder.class);
+        Folder folder = Mockito.mock(Folder.class);
+        EmailServerConnection broken = openConnection(brokenFolder);
+        EmailServerConnection connection = openConnection(folder);
+        Mockito.when(brokenFolder.search(Mockito.any(SearchTerm.class))).thenThrow(new MessagingException("fail"));
+        Mockito.when(folder.search(Mockito.any(SearchTerm.class))).thenReturn(new Message[0]);
+        try (MockedStatic<EmailServerConnectionUtil> util = Mockito.mockStatic(EmailServerConnectionUtil.class)) {
+            util.when(() -> EmailServerConnectionUtil.openConnection(Mockito.any(), Mockito.eq(false)))
+                    .thenReturn(broken, connection);
+            Assertions.assertThat(service.fetchEmails("sub", Instant.now())).isEmpty();
+            Assertions.assertThat(service.fetchEmails("sub", Instant.now())).isEmpty();
+            Mockito.verify(brokenFolder).close(true);
+            Mockito.verify(folder).search(Mockito.any(SearchTerm.class));
+        }
+    }
 }
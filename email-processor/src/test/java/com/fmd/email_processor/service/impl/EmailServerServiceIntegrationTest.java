@@ -1,11 +1,17 @@
 package com.fmd.email_processor.service.impl;
 
+import com.fmd.email_processor.dto.EmailConnectionPoolProperties;
 import com.fmd.email_processor.dto.EmailMessage;
 import com.fmd.email_processor.dto.EmailServerProperties;
+import com.fmd.email_processor.pool.EmailServerConnectionPool;
 import com.icegreen.greenmail.junit5.GreenMailExtension;
 import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetup;
 import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Flags.Flag;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,8 +22,9 @@ import java.util.List;
 
 class EmailServerServiceIntegrationTest {
     @RegisterExtension
-    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.IMAP);
+    static GreenMailExtension greenMail = new GreenMailExtension(new ServerSetup[]{ServerSetupTest.SMTP, ServerSetupTest.IMAP});
 
+    private EmailServerConnectionPool connectionPool;
     private EmailServerServiceImpl service;
 
     @BeforeEach
@@ -27,11 +34,17 @@ class EmailServerServiceIntegrationTest {
                 "user",
                 "password",
                 "INBOX",
-                3143,
+                ServerSetupTest.IMAP.getPort(),
                 "imap"
         );
-        service = new EmailServerServiceImpl(props);
-        greenMail.setUser("user", "password");
+        connectionPool = new EmailServerConnectionPool(props, new EmailConnectionPoolProperties(null, null, null, null));
+        service = new EmailServerServiceImpl(connectionPool);
+        greenMail.setUser("user@localhost", "user", "password");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionPool.destroy();
     }
 
     @Test
@@ -44,5 +57,32 @@ class EmailServerServiceIntegrationTest {
         EmailMessage msg = emails.getFirst();
         Assertions.assertThat(msg.subject()).isEqualTo("123");
     }
-}
 
+    @Test
+    @DisplayName("should reuse one connection per lane and see emails arriving between fetches")
+    void fetchAndMark_shouldReuseConnections() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        connectionPool.bindTo(registry);
+
+        GreenMailUtil.sendTextEmailTest("user@localhost", "sender@localhost", "456", "first");
+        greenMail.waitForIncomingEmail(1);
+        List<EmailMessage> first = service.fetchEmails("456", Instant.now().minusSeconds(60));
+        service.markEmailAsProcessed(first.getFirst().messageId());
+
+        GreenMailUtil.sendTextEmailTest("user@localhost", "sender@localhost", "456", "second");
+        greenMail.waitForIncomingEmail(2);
+        List<EmailMessage> second = service.fetchEmails("456", Instant.now().minusSeconds(60));
+        service.markEmailAsProcessed(second.getLast().messageId());
+
+        Assertions.assertThat(second).hasSize(2);
+        Assertions.assertThat(greenMail.getManagers().getImapHostManager()
+                        .getInbox(greenMail.getUserManager().getUser("user")).getMessages())
+                .allMatch(message -> message.getFlags().contains(Flag.SEEN));
+        Assertions.assertThat(registry.get("email.connection.pool.created").tag("lane", "read-only").functionCounter().count())
+                .isEqualTo(1);
+        Assertions.assertThat(registry.get("email.connection.pool.created").tag("lane", "read-write").functionCounter().count())
+                .isEqualTo(1);
+        Assertions.assertThat(registry.get("email.connection.pool.idle").tag("lane", "read-only").gauge().value())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.fmd.security_service.benchmark;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.expression.WebExpressionAuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.authority.RoleMaskAuthorizationManager;
+import com.fmd.security_service.cache.CachedAuthentication;
+import com.fmd.security_service.dto.JwtPayload;
+import com.fmd.security_service.security.JwtAuthentication;
+
+/**
+ * Benchmarks one authorization decision for the {@code Admin} or {@code User}
+ * rule of the API endpoints, by role mask ({@code MASK}), by authority lookup
+ * ({@code AUTHORITIES}, {@code hasAnyAuthority}) and by SpEL expression
+ * ({@code SPEL}, as evaluated for {@code @PreAuthorize}). The authentication is
+ * the one the JWT filter creates for a cached token.
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    /**
+     * Ways of deciding the access rule.
+     */
+    public enum Evaluator {
+        /** {@link RoleMaskAuthorizationManager}, a single AND of role masks. */
+        MASK,
+        /** {@link AuthorityAuthorizationManager#hasAnyAuthority(String...)}. */
+        AUTHORITIES,
+        /** The {@code hasAnyAuthority} SpEL expression, evaluated per request. */
+        SPEL
+    }
+
+    @Param({"MASK", "AUTHORITIES", "SPEL"})
+    private Evaluator evaluator;
+
+    private AuthorizationManager<RequestAuthorizationContext> authorizationManager;
+    private Supplier<Authentication> authentication;
+    private RequestAuthorizationContext context;
+
+    @Setup
+    public void setUp() {
+        var authorityRegistry = new AuthorityRegistry();
+        authorizationManager = switch (evaluator) {
+            case MASK -> RoleMaskAuthorizationManager.hasAnyRole(authorityRegistry, "Admin", "User");
+            case AUTHORITIES -> AuthorityAuthorizationManager.hasAnyAuthority("Admin", "User");
+            case SPEL -> new WebExpressionAuthorizationManager("hasAnyAuthority('Admin', 'User')");
+        };
+        // A User token, the second role checked by the rule
+        var roles = List.of("User");
+        var payload = new JwtPayload("issuer", Instant.now(), Instant.ofEpochSecond(4_102_444_800L), "audience",
+                "username", "User Name", roles, null, null);
+        var jwtAuthentication = new JwtAuthentication(
+                new CachedAuthentication(payload, authorityRegistry.resolve(roles)), () -> null);
+        authentication = () -> jwtAuthentication;
+        context = new RequestAuthorizationContext(new MockHttpServletRequest("GET", "/api/auth-request"));
+    }
+
+    /**
+     * Decides the access rule for the authentication.
+     *
+     * @return whether access is granted
+     */
+    @Benchmark
+    public boolean check() {
+        return authorizationManager.check(authentication, context).isGranted();
+    }
+}
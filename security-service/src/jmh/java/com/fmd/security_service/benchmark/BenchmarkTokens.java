@@ -0,0 +1,216 @@
+package com.fmd.security_service.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.fmd.security_service.accesslog.AuthAccessLog;
+import com.fmd.security_service.dto.JwtAccessLogProperties;
+import com.fmd.security_service.dto.JwtClaimProjectionProperties;
+import com.fmd.security_service.dto.JwtRevocationProperties;
+import com.fmd.security_service.dto.JwtSignatureProperties;
+import com.fmd.security_service.projection.ClaimProjection;
+import com.fmd.security_service.revocation.JwtRevocationStore;
+import com.fmd.security_service.signature.JwtAlgorithm;
+import com.fmd.security_service.signature.JwtKeyStore;
+import com.fmd.security_service.signature.JwtSignatureVerifier;
+import com.fmd.security_service.signature.SignatureVerificationMode;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Token fixtures shared by the benchmarks.
+ * <p>
+ * Builds bearer tokens of each {@link TokenKind}, and signed tokens with a
+ * matching {@link JwtSignatureVerifier} for each supported algorithm.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@UtilityClass
+public class BenchmarkTokens {
+
+    // Far-future expiration (2100-01-01) so valid tokens never expire mid-run
+    private static final long VALID_EXP = 4_102_444_800L;
+    private static final byte[] HMAC_SECRET = "benchmark-secret-0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Kinds of token exercised by the benchmarks.
+     */
+    public enum TokenKind {
+        /** Well-formed token with two roles that passes validation. */
+        VALID,
+        /** Well-formed token whose expiration is in the past. */
+        EXPIRED,
+        /** Token whose payload is not valid base64url JSON. */
+        MALFORMED,
+        /** Valid token carrying an 8 KB role list, as sent by misbehaving clients. */
+        OVERSIZED
+    }
+
+    /**
+     * Returns an unsigned (HS256 header, dummy signature) bearer token of the
+     * given kind.
+     *
+     * @param kind the kind of token
+     * @return the Authorization header value
+     */
+    public static String bearer(TokenKind kind) {
+        String payload = switch (kind) {
+            case VALID -> payload(VALID_EXP, "\"User\",\"Admin\"");
+            case EXPIRED -> payload(1_000_000_000L, "\"User\",\"Admin\"");
+            case MALFORMED -> null;
+            case OVERSIZED -> payload(VALID_EXP, IntStream.range(0, 512)
+                    .mapToObj(i -> "\"Role-" + i + "\"")
+                    .collect(Collectors.joining(",")));
+        };
+        if (payload == null) {
+            return "Bearer eyJhbGciOiJIUzI1NiJ9.bm90LWpzb24tYXQtYWxs.c2ln";
+        }
+        return "Bearer " + base64Url("{\"alg\":\"HS256\"}") + "." + base64Url(payload) + ".c2ln";
+    }
+
+    /**
+     * Returns a valid bearer token signed with the given algorithm, or with a
+     * dummy signature for {@code null}.
+     *
+     * @param algorithm the signing algorithm, or {@code null} for an unsigned token
+     * @param keys      the key pairs used for RS256 and ES256
+     * @return the Authorization header value
+     */
+    public static String signedBearer(JwtAlgorithm algorithm, SigningKeys keys) {
+        if (algorithm == null) {
+            return bearer(TokenKind.VALID);
+        }
+        String header = base64Url("{\"alg\":\"" + algorithm + "\",\"kid\":\"" + algorithm + "\"}");
+        String signingInput = header + "." + base64Url(payload(VALID_EXP, "\"User\",\"Admin\""));
+        byte[] input = signingInput.getBytes(StandardCharsets.US_ASCII);
+        try {
+            byte[] signature;
+            if (algorithm == JwtAlgorithm.HS256) {
+                Mac mac = Mac.getInstance(algorithm.getJcaName());
+                mac.init(new SecretKeySpec(HMAC_SECRET, algorithm.getJcaName()));
+                signature = mac.doFinal(input);
+            } else {
+                PrivateKey privateKey = algorithm == JwtAlgorithm.RS256
+                        ? keys.rsa().getPrivate()
+                        : keys.ec().getPrivate();
+                Signature signer = Signature.getInstance(algorithm.getJcaName());
+                signer.initSign(privateKey);
+                signer.update(input);
+                signature = signer.sign();
+            }
+            return "Bearer " + signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot sign benchmark token", e);
+        }
+    }
+
+    /**
+     * Builds an enforcing verifier with one key per algorithm, keyed by the
+     * algorithm name.
+     *
+     * @param keys the key pairs used for RS256 and ES256
+     * @return the signature verifier
+     */
+    public static JwtSignatureVerifier enforcingVerifier(SigningKeys keys) {
+        var properties = new JwtSignatureProperties(SignatureVerificationMode.ENFORCE, null, Map.of(
+                "HS256", new JwtSignatureProperties.Key(JwtAlgorithm.HS256,
+                        Base64.getEncoder().encodeToString(HMAC_SECRET), null),
+                "RS256", new JwtSignatureProperties.Key(JwtAlgorithm.RS256, null,
+                        Base64.getEncoder().encodeToString(keys.rsa().getPublic().getEncoded())),
+                "ES256", new JwtSignatureProperties.Key(JwtAlgorithm.ES256, null,
+                        Base64.getEncoder().encodeToString(keys.ec().getPublic().getEncoded()))));
+        return new JwtSignatureVerifier(properties, new JwtKeyStore(properties));
+    }
+
+    /**
+     * Builds a verifier that skips signature verification.
+     *
+     * @return the signature verifier
+     */
+    public static JwtSignatureVerifier disabledVerifier() {
+        var properties = new JwtSignatureProperties(SignatureVerificationMode.DISABLED, null, null);
+        return new JwtSignatureVerifier(properties, new JwtKeyStore(properties));
+    }
+
+    /**
+     * Builds a revocation store without a revocation list file, so no token is
+     * revoked.
+     *
+     * @return the revocation store
+     */
+    public static JwtRevocationStore emptyRevocationStore() {
+        return new JwtRevocationStore(new JwtRevocationProperties(null, null, null), event -> {
+        });
+    }
+
+    /**
+     * Builds a claim projection without configured claims, so tokens are
+     * parsed without retaining any other claims.
+     *
+     * @return the claim projection
+     */
+    public static ClaimProjection emptyClaimProjection() {
+        return new ClaimProjection(new JwtClaimProjectionProperties(null));
+    }
+
+    /**
+     * Builds and starts an access log with the default sampling, writing to
+     * the (disabled) benchmark logging.
+     *
+     * @return the running access log
+     */
+    public static AuthAccessLog startedAccessLog() {
+        var accessLog = new AuthAccessLog(new JwtAccessLogProperties(null, null));
+        accessLog.start();
+        return accessLog;
+    }
+
+    /**
+     * RSA and EC key pairs used to sign benchmark tokens.
+     *
+     * @param rsa the RSA 2048 key pair
+     * @param ec  the EC P-256 key pair
+     */
+    public record SigningKeys(KeyPair rsa, KeyPair ec) {
+
+        /**
+         * Generates fresh key pairs.
+         *
+         * @return the generated key pairs
+         */
+        public static SigningKeys generate() {
+            try {
+                var rsa = KeyPairGenerator.getInstance("RSA");
+                rsa.initialize(2048);
+                var ec = KeyPairGenerator.getInstance("EC");
+                ec.initialize(256);
+                return new SigningKeys(rsa.generateKeyPair(), ec.generateKeyPair());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Cannot generate benchmark keys", e);
+            }
+        }
+    }
+
+    private static String payload(long exp, String roles) {
+        return "{\"iss\":\"Benchmark\",\"iat\":1747927692,\"exp\":" + exp
+                + ",\"aud\":\"audience\",\"sub\":\"username\",\"name\":\"Johnny\",\"roles\":[" + roles + "]}";
+    }
+
+    private static String base64Url(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,54 @@
+package com.fmd.security_service.benchmark;
+
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fmd.security_service.dto.ApiError;
+import com.fmd.security_service.utils.ErrorResponseUtil;
+
+/**
+ * Benchmarks writing a 401 error body with
+ * {@link ErrorResponseUtil#writeErrorResponse}, the cost paid for every
+ * rejected request.
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseUtilBenchmark {
+
+    /**
+     * Writes a 401 error response for a rejected request.
+     *
+     * @return the response holding the written body
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public MockHttpServletResponse writeUnauthorized() throws IOException {
+        var response = new MockHttpServletResponse();
+        var apiError = new ApiError(UNAUTHORIZED,
+                "Authentication failed: Full authentication is required to access this resource",
+                "/api/authenticate");
+        ErrorResponseUtil.writeErrorResponse(response, UNAUTHORIZED.value(), apiError);
+        return response;
+    }
+}
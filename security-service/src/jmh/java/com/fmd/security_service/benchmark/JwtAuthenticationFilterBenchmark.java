@@ -0,0 +1,110 @@
+package com.fmd.security_service.benchmark;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fmd.security_service.benchmark.BenchmarkTokens.TokenKind;
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.cache.JwtTokenCache;
+import com.fmd.security_service.dto.JwtCacheProperties;
+import com.fmd.security_service.filter.JwtAuthenticationFilter;
+import com.fmd.security_service.metrics.JwtMetrics;
+import com.fmd.security_service.security.AccessRules;
+import com.fmd.security_service.service.impl.JwtAuthenticationServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Benchmarks {@link JwtAuthenticationFilter} end to end for each
+ * {@link TokenKind}, with the token cache enabled and with a zero-size cache
+ * that forces a full validation on every request. The {@code metrics} parameter
+ * compares recording to a Prometheus registry with no-op meters, to keep the
+ * metrics overhead measured.
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    // No-op chain: the benchmark measures the filter only
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"VALID", "EXPIRED", "MALFORMED", "OVERSIZED"})
+    private TokenKind tokenKind;
+
+    @Param({"0", "10000"})
+    private long cacheSize;
+
+    @Param({"false", "true"})
+    private boolean metrics;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        var tokenCache = new JwtTokenCache(new JwtCacheProperties(cacheSize, Duration.ofMinutes(5), cacheSize,
+                Duration.ofMinutes(1)));
+        // An empty composite registry hands out no-op meters
+        MeterRegistry meterRegistry = metrics ? new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)
+                : new CompositeMeterRegistry();
+        tokenCache.bindTo(meterRegistry);
+        filter = new JwtAuthenticationFilter(new JwtAuthenticationServiceImpl(tokenCache,
+                BenchmarkTokens.disabledVerifier(), new AuthorityRegistry(), new JwtMetrics(meterRegistry),
+                BenchmarkTokens.emptyRevocationStore(), BenchmarkTokens.startedAccessLog(),
+                BenchmarkTokens.emptyClaimProjection()), AccessRules.PUBLIC_PATHS);
+        request = new MockHttpServletRequest("GET", "/api/authenticate");
+        request.addHeader("Authorization", BenchmarkTokens.bearer(tokenKind));
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Runs the request through the filter.
+     *
+     * @return the authentication set by the filter, if any
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Benchmark
+    public Object doFilter() throws ServletException, IOException {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,63 @@
+package com.fmd.security_service.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fmd.security_service.benchmark.BenchmarkTokens.TokenKind;
+import com.fmd.security_service.utils.JwtUtil;
+
+/**
+ * Benchmarks {@link JwtUtil#validateAndExtractPayload(String)} for each
+ * {@link TokenKind}.
+ * <p>
+ * Rejected tokens are measured including the cost of throwing the exception,
+ * which is what the service pays for them.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    @Param({"VALID", "EXPIRED", "MALFORMED", "OVERSIZED"})
+    private TokenKind tokenKind;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = BenchmarkTokens.bearer(tokenKind);
+    }
+
+    /**
+     * Validates the token and extracts its payload.
+     *
+     * @return the payload, or the exception for rejected tokens
+     */
+    @Benchmark
+    public Object validateAndExtractPayload() {
+        try {
+            return JwtUtil.validateAndExtractPayload(token);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.fmd.security_service.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fmd.security_service.benchmark.BenchmarkTokens.TokenKind;
+import com.fmd.security_service.payload.PayloadDecoder;
+import com.fmd.security_service.payload.PayloadDecoders;
+import com.fmd.security_service.payload.ScalarPayloadDecoder;
+
+/**
+ * Benchmarks decoding the payload segment of a token with the scalar decoder
+ * ({@code SCALAR}) and the {@code jdk.incubator.vector} decoder
+ * ({@code VECTOR}), which also scans the JSON for the {@code exp} and
+ * {@code sub} claims. Expired tokens are measured including the exception the
+ * vector decoder throws for them. The fork adds the incubator module; compare
+ * {@link JwtUtilBenchmark} run with and without it for the whole validation.
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class PayloadDecoderBenchmark {
+
+    /**
+     * Payload decoders compared.
+     */
+    public enum Decoder {
+        /** {@link ScalarPayloadDecoder}, one 4-character group at a time. */
+        SCALAR,
+        /** The vector decoder chosen by {@link PayloadDecoders#best()}. */
+        VECTOR
+    }
+
+    @Param({"SCALAR", "VECTOR"})
+    private Decoder decoder;
+
+    @Param({"VALID", "EXPIRED", "OVERSIZED"})
+    private TokenKind tokenKind;
+
+    private PayloadDecoder payloadDecoder;
+    private String token;
+    private int payloadStart;
+    private int payloadEnd;
+
+    @Setup
+    public void setUp() {
+        payloadDecoder = decoder == Decoder.VECTOR ? PayloadDecoders.best() : new ScalarPayloadDecoder();
+        if (decoder == Decoder.VECTOR && payloadDecoder instanceof ScalarPayloadDecoder) {
+            throw new IllegalStateException("Vector decoder not available in the benchmark JVM");
+        }
+        token = BenchmarkTokens.bearer(tokenKind);
+        payloadStart = token.indexOf('.') + 1;
+        payloadEnd = token.indexOf('.', payloadStart);
+    }
+
+    /**
+     * Decodes the payload segment of the token.
+     *
+     * @return the decoded payload, or the exception for rejected tokens
+     */
+    @Benchmark
+    public Object decode() {
+        try {
+            return payloadDecoder.decode(token, payloadStart, payloadEnd);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.fmd.security_service.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fmd.security_service.dto.JwtPayload;
+import com.fmd.security_service.signature.JwtAlgorithm;
+import com.fmd.security_service.signature.JwtSignatureVerifier;
+import com.fmd.security_service.utils.JwtUtil;
+
+/**
+ * Benchmarks the cost that signature verification adds per token.
+ * <p>
+ * {@code NONE} validates an unsigned token with verification disabled and is
+ * the baseline; the other parameters validate a token signed with that
+ * algorithm using an enforcing verifier. The difference to {@code NONE} is the
+ * added cost per token.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignatureVerificationBenchmark {
+
+    @Param({"NONE", "HS256", "RS256", "ES256"})
+    private String algorithm;
+
+    private String token;
+    private JwtSignatureVerifier verifier;
+
+    @Setup
+    public void setUp() {
+        JwtAlgorithm jwtAlgorithm = JwtAlgorithm.fromHeader(algorithm);
+        var keys = BenchmarkTokens.SigningKeys.generate();
+        token = BenchmarkTokens.signedBearer(jwtAlgorithm, keys);
+        verifier = jwtAlgorithm == null
+                ? BenchmarkTokens.disabledVerifier()
+                : BenchmarkTokens.enforcingVerifier(keys);
+    }
+
+    /**
+     * Validates the token, verifying its signature.
+     *
+     * @return the validated payload
+     */
+    @Benchmark
+    public JwtPayload validateAndVerify() {
+        return JwtUtil.validateAndExtractPayload(token, verifier);
+    }
+}
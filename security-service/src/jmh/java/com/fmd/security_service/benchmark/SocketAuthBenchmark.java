@@ -0,0 +1,130 @@
+package com.fmd.security_service.benchmark;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.benchmark.BenchmarkTokens.TokenKind;
+import com.fmd.security_service.cache.JwtTokenCache;
+import com.fmd.security_service.dto.JwtCacheProperties;
+import com.fmd.security_service.metrics.JwtMetrics;
+import com.fmd.security_service.service.impl.JwtAuthenticationServiceImpl;
+import com.fmd.security_service.socket.SocketAuthServer;
+
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * Benchmarks the round trip of one auth check through
+ * {@link SocketAuthServer}, over a Unix domain socket ({@code UNIX}) and over
+ * loopback TCP ({@code TCP}). The client keeps one connection open and sends
+ * one request at a time; the token is valid and served from the token cache,
+ * so the difference between the two is the transport.
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SocketAuthBenchmark {
+
+    /**
+     * Transports the server is bound to.
+     */
+    public enum Transport {
+        /** Unix domain socket in a temporary directory. */
+        UNIX,
+        /** TCP on the loopback interface. */
+        TCP
+    }
+
+    @Param({"UNIX", "TCP"})
+    private Transport transport;
+
+    private Path socketDirectory;
+    private SocketAuthServer server;
+    private SocketChannel channel;
+    private ByteBuffer request;
+    private final ByteBuffer response = ByteBuffer.allocate(256);
+
+    @Setup
+    public void setUp() throws IOException {
+        var authorityRegistry = new AuthorityRegistry();
+        var service = new JwtAuthenticationServiceImpl(
+                new JwtTokenCache(new JwtCacheProperties(10_000L, Duration.ofMinutes(5), 10_000L,
+                        Duration.ofMinutes(1))),
+                BenchmarkTokens.disabledVerifier(), authorityRegistry, new JwtMetrics(new CompositeMeterRegistry()),
+                BenchmarkTokens.emptyRevocationStore(), BenchmarkTokens.startedAccessLog(),
+                BenchmarkTokens.emptyClaimProjection());
+        server = new SocketAuthServer(service, authorityRegistry);
+
+        SocketAddress address;
+        if (transport == Transport.UNIX) {
+            socketDirectory = Files.createTempDirectory("socket-auth");
+            address = server.start(UnixDomainSocketAddress.of(socketDirectory.resolve("auth.sock")));
+        } else {
+            address = server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        }
+        channel = SocketChannel.open(address);
+        request = ByteBuffer.wrap((BenchmarkTokens.bearer(TokenKind.VALID) + "\n")
+                .getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        channel.close();
+        server.close();
+        if (socketDirectory != null) {
+            Files.deleteIfExists(socketDirectory.resolve("auth.sock"));
+            Files.deleteIfExists(socketDirectory);
+        }
+    }
+
+    /**
+     * Sends one request and reads its response line.
+     *
+     * @return the length of the response
+     * @throws IOException if the connection fails
+     */
+    @Benchmark
+    public int roundTrip() throws IOException {
+        request.rewind();
+        while (request.hasRemaining()) {
+            channel.write(request);
+        }
+        response.clear();
+        do {
+            if (channel.read(response) < 0) {
+                throw new IOException("Connection closed by the server");
+            }
+        } while (response.get(response.position() - 1) != '\n');
+        return response.position();
+    }
+}
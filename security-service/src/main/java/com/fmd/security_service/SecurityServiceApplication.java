@@ -2,6 +2,19 @@ package com.fmd.security_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.fmd.security_service.aot.SecurityServiceRuntimeHints;
+import com.fmd.security_service.dto.JwtAccessLogProperties;
+import com.fmd.security_service.dto.JwtCacheControlProperties;
+import com.fmd.security_service.dto.JwtCacheProperties;
+import com.fmd.security_service.dto.JwtClaimProjectionProperties;
+import com.fmd.security_service.dto.JwtExtAuthzProperties;
+import com.fmd.security_service.dto.JwtIntrospectionProperties;
+import com.fmd.security_service.dto.JwtRevocationProperties;
+import com.fmd.security_service.dto.JwtSignatureProperties;
+import com.fmd.security_service.dto.JwtUnixSocketProperties;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -18,6 +31,11 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @SpringBootApplication
+@ImportRuntimeHints(SecurityServiceRuntimeHints.class)
+@EnableConfigurationProperties({JwtCacheProperties.class, JwtSignatureProperties.class,
+		JwtRevocationProperties.class, JwtIntrospectionProperties.class, JwtClaimProjectionProperties.class,
+		JwtCacheControlProperties.class, JwtExtAuthzProperties.class, JwtUnixSocketProperties.class,
+		JwtAccessLogProperties.class})
 public class SecurityServiceApplication {
 
 	/**
@@ -0,0 +1,152 @@
+package com.fmd.security_service.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import com.fmd.security_service.metrics.JwtMetrics.Outcome;
+
+/**
+ * Bounded, lock-free ring buffer of access log events, written by any number
+ * of request threads and read by the single access log writer.
+ * <p>
+ * The entries are allocated once and reused. Each slot has a sequence number
+ * telling whose turn it is: a producer claims the next position with a single
+ * compare-and-set, fills the entry and publishes it by advancing the sequence;
+ * the consumer reads published entries in order and hands the slot back one
+ * lap later. A producer that finds the slot still unread gives up instead of
+ * waiting, so logging never blocks a request.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+final class AccessLogRingBuffer {
+
+    private final Entry[] entries;
+    // Position + 1 once the entry at that position is published, position + capacity once it is consumed
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // Only read and written by the consumer
+    private long head;
+
+    /**
+     * Creates an empty ring buffer.
+     *
+     * @param capacity the minimum number of entries, rounded up to a power of
+     *                 two
+     */
+    AccessLogRingBuffer(int capacity) {
+        int size = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.entries = new Entry[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the capacity, a power of two
+     */
+    int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Adds an event, unless the buffer is full.
+     *
+     * @param timestamp the time of the event in milliseconds since the epoch
+     * @param outcome   the authentication outcome
+     * @param subject   the token subject, may be null
+     * @param reason    the rejection reason, may be null
+     * @return {@code true} if the event was added, {@code false} if the buffer
+     *         is full
+     */
+    boolean offer(long timestamp, Outcome outcome, String subject, String reason) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long lag = sequences.get(index) - position;
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    entries[index].set(timestamp, outcome, subject, reason);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (lag < 0) {
+                // The entry one lap back has not been read yet
+                return false;
+            } else {
+                // Another producer claimed this position first
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Hands every published event to the consumer, in order. Must only be
+     * called from one thread at a time.
+     *
+     * @param consumer receives each entry, which must not be kept after the
+     *                 call
+     * @return the number of events drained
+     */
+    int drain(Consumer<Entry> consumer) {
+        int drained = 0;
+        while (true) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                return drained;
+            }
+            var entry = entries[index];
+            try {
+                consumer.accept(entry);
+            } finally {
+                entry.set(0L, null, null, null);
+                sequences.lazySet(index, head + entries.length);
+                head++;
+                drained++;
+            }
+        }
+    }
+
+    /**
+     * Reusable slot of the ring buffer.
+     */
+    static final class Entry {
+        private long timestamp;
+        private Outcome outcome;
+        private String subject;
+        private String reason;
+
+        private void set(long timestamp, Outcome outcome, String subject, String reason) {
+            this.timestamp = timestamp;
+            this.outcome = outcome;
+            this.subject = subject;
+            this.reason = reason;
+        }
+
+        long timestamp() {
+            return timestamp;
+        }
+
+        Outcome outcome() {
+            return outcome;
+        }
+
+        String subject() {
+            return subject;
+        }
+
+        String reason() {
+            return reason;
+        }
+    }
+}
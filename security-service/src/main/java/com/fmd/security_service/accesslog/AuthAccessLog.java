@@ -0,0 +1,199 @@
+package com.fmd.security_service.accesslog;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fmd.security_service.dto.JwtAccessLogProperties;
+import com.fmd.security_service.metrics.JwtMetrics.Outcome;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asynchronous, sampled access log of authentication outcomes.
+ * <p>
+ * Request threads only put an event into an {@link AccessLogRingBuffer},
+ * without locking or formatting; a single writer thread formats the events
+ * and writes them, one line each, to the {@value #LOGGER_NAME} logger.
+ * Rejections are always logged, successful authentications for the
+ * configured fraction of requests. When the writer falls behind and the
+ * buffer is full, events are dropped rather than slowing requests down; drops
+ * are counted in {@value #DROPPED_METRIC} and reported by the writer.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class AuthAccessLog implements MeterBinder {
+
+    /**
+     * Name of the logger the access log lines are written to.
+     */
+    public static final String LOGGER_NAME = "com.fmd.security_service.access";
+
+    /**
+     * Name of the counter of events dropped because the buffer was full.
+     */
+    public static final String DROPPED_METRIC = "security.jwt.access.log.dropped";
+
+    // How long the writer sleeps when the buffer is empty
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AccessLogRingBuffer buffer;
+    private final double successSampleRate;
+    private final Consumer<String> sink;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    // Only used by the writer thread
+    private final StringBuilder line = new StringBuilder(128);
+    private long reportedDropped;
+    private volatile boolean running = true;
+
+    /**
+     * Creates the access log writing to the {@value #LOGGER_NAME} logger.
+     *
+     * @param properties the access log configuration properties
+     */
+    @Autowired
+    public AuthAccessLog(JwtAccessLogProperties properties) {
+        this(properties, LoggerFactory.getLogger(LOGGER_NAME)::info);
+    }
+
+    /**
+     * Creates the access log writing lines to the given sink.
+     *
+     * @param properties the access log configuration properties
+     * @param sink       receives each formatted line on the writer thread
+     */
+    AuthAccessLog(JwtAccessLogProperties properties, Consumer<String> sink) {
+        this.buffer = new AccessLogRingBuffer(properties.capacity());
+        this.successSampleRate = properties.successSampleRate();
+        this.sink = sink;
+        this.writer = Thread.ofPlatform().name("auth-access-log").daemon().unstarted(this::run);
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    @PostConstruct
+    public void start() {
+        writer.start();
+        log.info("Auth access log started, buffering {} events, logging {}% of successes", buffer.capacity(),
+                successSampleRate * 100);
+    }
+
+    /**
+     * Stops the writer thread after it has written the events still buffered.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * Records an authentication outcome. Successful authentications are
+     * sampled, other outcomes always recorded.
+     *
+     * @param outcome the outcome of the authentication attempt
+     * @param subject the token subject, may be null
+     * @param reason  the rejection reason, may be null
+     */
+    public void record(Outcome outcome, String subject, String reason) {
+        if (outcome == Outcome.AUTHENTICATED && !sampled()) {
+            return;
+        }
+        if (!buffer.offer(System.currentTimeMillis(), outcome, subject, reason)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Returns the number of events dropped because the buffer was full.
+     *
+     * @return the dropped event count
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Registers the dropped event counter.
+     *
+     * @param registry the meter registry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(DROPPED_METRIC, dropped, LongAdder::sum)
+                .description("Access log events dropped because the buffer was full")
+                .register(registry);
+    }
+
+    private boolean sampled() {
+        return successSampleRate >= 1
+                || successSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < successSampleRate;
+    }
+
+    /**
+     * Writes buffered events until stopped, sleeping briefly whenever the
+     * buffer is empty.
+     */
+    private void run() {
+        while (running) {
+            if (drain() == 0) {
+                reportDropped();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+        reportDropped();
+    }
+
+    private int drain() {
+        try {
+            return buffer.drain(this::write);
+        } catch (RuntimeException e) {
+            // A failing sink loses the event, not the writer
+            log.error("Failed to write auth access log event", e);
+            return 1;
+        }
+    }
+
+    private void write(AccessLogRingBuffer.Entry entry) {
+        line.setLength(0);
+        line.append(Instant.ofEpochMilli(entry.timestamp())).append(" outcome=").append(entry.outcome().tag());
+        if (entry.subject() != null) {
+            line.append(" sub=").append(entry.subject());
+        }
+        if (entry.reason() != null) {
+            line.append(" reason=\"").append(entry.reason()).append('"');
+        }
+        sink.accept(line.toString());
+    }
+
+    private void reportDropped() {
+        long total = dropped.sum();
+        if (total > reportedDropped) {
+            log.warn("Auth access log buffer full, dropped {} event(s)", total - reportedDropped);
+            reportedDropped = total;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.fmd.security_service.aot;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import com.fmd.security_service.dto.ApiError;
+import com.fmd.security_service.dto.JwtHeader;
+import com.fmd.security_service.dto.JwtPayload;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runtime hints for the native image build.
+ * <p>
+ * Spring AOT covers the beans, configuration properties and the security
+ * filter chain, but not the types read and written with the service's own
+ * Jackson mappers: {@link JwtPayload} is deserialized from every token,
+ * {@link JwtHeader} from every token when signatures are verified, and
+ * {@link ApiError} is serialized for error statuses without a pre-encoded
+ * template. All are registered for binding, which covers their record
+ * constructors, accessors and Jackson annotations. Lombok needs no hints, its
+ * code is generated at compile time.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class SecurityServiceRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Registers reflection hints for the JSON header, payload and error types.
+     *
+     * @param hints       the hints to contribute to
+     * @param classLoader the class loader, unused
+     */
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        log.debug("Registering runtime hints for JWT header, payload and error bodies");
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                JwtHeader.class, JwtPayload.class, ApiError.class);
+    }
+}
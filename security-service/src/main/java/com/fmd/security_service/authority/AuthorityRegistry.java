@@ -0,0 +1,150 @@
+package com.fmd.security_service.authority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Canonicalizing registry of the role combinations seen in tokens.
+ * <p>
+ * Tokens only carry a handful of distinct role combinations, so each one is
+ * resolved to a single shared {@link RoleSet} instead of building a new
+ * authority list per token. Roles are canonicalized by removing duplicates and
+ * sorting, so {@code [User, Admin]} and {@code [Admin, User, Admin]} resolve
+ * to the same instance.
+ * </p>
+ * <p>
+ * The registry is bounded to protect against tokens with arbitrary role
+ * combinations. Once full, unseen combinations still resolve to a correct, but
+ * not interned, role set.
+ * </p>
+ * <p>
+ * The registry also assigns one bit to each role used in an access rule, at
+ * most 64. Rules are compiled to masks at startup with
+ * {@link #requireMask(String...)}, and each role set is created with the mask
+ * of its roles, so access checks need no role lookups at request time. Roles
+ * not used in any rule get no bit.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class AuthorityRegistry {
+
+    // Upper bound on the number of interned role combinations
+    static final int MAX_ROLE_SETS = 1024;
+
+    // Role lists exactly as they appear in tokens, for the common lookup
+    private final Map<List<String>, RoleSet> byTokenRoles = new ConcurrentHashMap<>();
+    // Canonical (distinct, sorted) role lists, so differently ordered lists share an instance
+    private final Map<List<String>, RoleSet> byCanonicalRoles = new ConcurrentHashMap<>();
+    private final AtomicBoolean overflowLogged = new AtomicBoolean();
+    // Bit of each role used in an access rule, assigned at startup
+    private final Map<String, Long> roleBits = new ConcurrentHashMap<>();
+
+    /**
+     * Resolves the roles of a token to their shared role set.
+     *
+     * @param roles the roles from the token, may be null
+     * @return the interned role set for the roles
+     */
+    public RoleSet resolve(List<String> roles) {
+        if (roles == null || roles.isEmpty()) {
+            return RoleSet.EMPTY;
+        }
+
+        // Fast path: this exact list was seen before
+        RoleSet roleSet = byTokenRoles.get(roles);
+        if (roleSet != null) {
+            return roleSet;
+        }
+
+        List<String> canonicalRoles = List.copyOf(new TreeSet<>(roles));
+        if (byTokenRoles.size() >= MAX_ROLE_SETS) {
+            if (overflowLogged.compareAndSet(false, true)) {
+                log.warn("Authority registry is full with {} role combinations, new combinations are not interned",
+                        MAX_ROLE_SETS);
+            }
+            RoleSet existing = byCanonicalRoles.get(canonicalRoles);
+            return existing != null ? existing : new RoleSet(canonicalRoles, maskOf(canonicalRoles));
+        }
+
+        roleSet = byCanonicalRoles.computeIfAbsent(canonicalRoles, key -> new RoleSet(key, maskOf(key)));
+        // Copy the key, the list from the token may be mutable
+        byTokenRoles.putIfAbsent(List.copyOf(roles), roleSet);
+        log.debug("Interned role set {}", roleSet);
+        return roleSet;
+    }
+
+    /**
+     * Compiles the roles required by an access rule into a mask, assigning a bit
+     * to each role not seen in a rule before.
+     * <p>
+     * Called while the security configuration is built, before any token is
+     * authenticated: role sets carry the mask computed when they are created, so
+     * new bits cannot be assigned once role sets exist.
+     * </p>
+     *
+     * @param roles the roles of the rule, any of which grants access
+     * @return the mask with the bits of the roles
+     * @throws IllegalStateException if more than 64 roles are used in rules, or
+     *                               a new role is added after role sets were
+     *                               created
+     */
+    public synchronized long requireMask(String... roles) {
+        long mask = 0L;
+        for (String role : roles) {
+            Long bit = roleBits.get(role);
+            if (bit == null) {
+                if (roleBits.size() == Long.SIZE) {
+                    throw new IllegalStateException("At most " + Long.SIZE + " roles can be used in access rules");
+                }
+                if (!byCanonicalRoles.isEmpty()) {
+                    throw new IllegalStateException("Role " + role
+                            + " must be used in an access rule before tokens are authenticated");
+                }
+                bit = 1L << roleBits.size();
+                roleBits.put(role, bit);
+                log.debug("Assigned role {} to bit {}", role, roleBits.size() - 1);
+            }
+            mask |= bit;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the mask of the given roles, ignoring roles without a bit.
+     *
+     * @param roles the role names
+     * @return the mask with the bits of the roles used in access rules
+     */
+    public long maskOf(Collection<String> roles) {
+        long mask = 0L;
+        for (String role : roles) {
+            Long bit = roleBits.get(role);
+            if (bit != null) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the number of distinct role combinations interned so far.
+     *
+     * @return the number of interned role sets
+     */
+    public int size() {
+        return byCanonicalRoles.size();
+    }
+}
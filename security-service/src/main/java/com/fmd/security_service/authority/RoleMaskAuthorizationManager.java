@@ -0,0 +1,133 @@
+package com.fmd.security_service.authority;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.fmd.security_service.security.JwtAuthentication;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Authorization manager granting access if the authentication has any of the
+ * required roles, decided with a single AND of role masks.
+ * <p>
+ * The required roles are compiled to a mask once, when the access rules are
+ * built. A {@link JwtAuthentication} carries the mask of its role set, computed
+ * once per role combination when the token is resolved, so the decision reads
+ * one field and allocates nothing. Other authentications fall back to mapping
+ * their authorities to a mask. This replaces {@code hasAnyAuthority} rules and
+ * the SpEL evaluated per request for {@code @PreAuthorize}.
+ * </p>
+ *
+ * @param <T> the type of object being authorized
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public final class RoleMaskAuthorizationManager<T> implements AuthorizationManager<T> {
+
+    // Decisions are immutable, so the two outcomes are shared
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final AuthorityRegistry authorityRegistry;
+    private final long requiredMask;
+    private final String description;
+
+    /**
+     * Creates a manager for the compiled mask of the required roles.
+     *
+     * @param authorityRegistry the registry that assigned the role bits
+     * @param requiredMask      the mask of the required roles
+     * @param description       the required roles, for logging
+     */
+    private RoleMaskAuthorizationManager(AuthorityRegistry authorityRegistry, long requiredMask, String description) {
+        this.authorityRegistry = authorityRegistry;
+        this.requiredMask = requiredMask;
+        this.description = description;
+    }
+
+    /**
+     * Creates a manager granting access to authentications with any of the
+     * given roles.
+     *
+     * @param authorityRegistry the registry assigning the role bits
+     * @param roles             the roles, any of which grants access
+     * @param <T>               the type of object being authorized
+     * @return the authorization manager
+     * @throws IllegalStateException if the roles cannot be assigned bits
+     */
+    public static <T> RoleMaskAuthorizationManager<T> hasAnyRole(AuthorityRegistry authorityRegistry,
+            String... roles) {
+        long requiredMask = authorityRegistry.requireMask(roles);
+        log.debug("Compiled access rule for any of {} to mask {}", Arrays.toString(roles),
+                Long.toBinaryString(requiredMask));
+        return new RoleMaskAuthorizationManager<>(authorityRegistry, requiredMask, Arrays.toString(roles));
+    }
+
+    /**
+     * Decides access for the authentication of a servlet request.
+     *
+     * @param authentication the supplier of the current authentication
+     * @param object         the object being authorized
+     * @return the granted or denied decision
+     */
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, T object) {
+        return isGranted(authentication.get()) ? GRANTED : DENIED;
+    }
+
+    /**
+     * Returns the same rule as a reactive authorization manager, for the
+     * reactive runtime.
+     *
+     * @return the reactive authorization manager
+     */
+    public ReactiveAuthorizationManager<T> reactive() {
+        return (authentication, object) -> authentication
+                .map(value -> isGranted(value) ? GRANTED : DENIED)
+                .defaultIfEmpty(DENIED);
+    }
+
+    /**
+     * Returns whether the authentication has any of the required roles.
+     *
+     * @param authentication the authentication, may be null
+     * @return true if access is granted
+     */
+    boolean isGranted(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        return (roleMask(authentication) & requiredMask) != 0L;
+    }
+
+    /**
+     * Returns the role mask of an authentication.
+     *
+     * @param authentication the authentication
+     * @return the mask of its roles used in access rules
+     */
+    private long roleMask(Authentication authentication) {
+        if (authentication instanceof JwtAuthentication jwtAuthentication) {
+            // Computed once per role set, when the token was resolved
+            return jwtAuthentication.getRoleSet().getMask();
+        }
+        // Not set by the JWT filters, e.g. an anonymous authentication
+        return authorityRegistry.maskOf(authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+    }
+
+    @Override
+    public String toString() {
+        return "RoleMaskAuthorizationManager[hasAnyRole=" + description + "]";
+    }
+}
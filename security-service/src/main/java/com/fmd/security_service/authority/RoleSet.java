@@ -0,0 +1,101 @@
+package com.fmd.security_service.authority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import lombok.Getter;
+
+/**
+ * Immutable, canonical set of roles carried by a token, with the authorities
+ * and summaries derived from it.
+ * <p>
+ * Instances are interned by the {@link AuthorityRegistry}, so every token with
+ * the same distinct roles shares one instance. Equality is therefore identity:
+ * two interned role sets are equal only if they are the same object.
+ * </p>
+ * <p>
+ * The role set also carries its role mask: one bit per role used in an access
+ * rule, as assigned by the registry. Access checks compare it with the
+ * required roles of a path in a single AND, see
+ * {@link RoleMaskAuthorizationManager}.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+public final class RoleSet {
+
+    /**
+     * Role set of a token without any roles.
+     */
+    public static final RoleSet EMPTY = new RoleSet(List.of(), 0L);
+
+    // Distinct roles in sorted order
+    private final List<String> roles;
+    // Authorities built from the roles, in the same order
+    private final List<SimpleGrantedAuthority> authorities;
+    // Roles for constant-time membership checks
+    private final Set<String> roleNames;
+    // Comma-joined roles, e.g. for the X-Auth-Roles header
+    private final String joined;
+    // Bits of the roles used in access rules, computed once per role set
+    private final long mask;
+
+    /**
+     * Creates a role set from roles that are already distinct and sorted.
+     *
+     * @param canonicalRoles the distinct roles in sorted order
+     * @param mask           the bits of the roles used in access rules
+     */
+    RoleSet(List<String> canonicalRoles, long mask) {
+        this.roles = List.copyOf(canonicalRoles);
+        this.mask = mask;
+        this.authorities = roles.stream().map(SimpleGrantedAuthority::new).toList();
+        this.roleNames = Set.copyOf(roles);
+        this.joined = String.join(",", roles);
+    }
+
+    /**
+     * Returns whether this role set contains the given role.
+     *
+     * @param role the role name
+     * @return true if the role is present
+     */
+    public boolean hasRole(String role) {
+        return roleNames.contains(role);
+    }
+
+    /**
+     * Returns whether this role set contains any of the given roles.
+     *
+     * @param candidates the role names to look for
+     * @return true if at least one of the roles is present
+     */
+    public boolean hasAnyRole(Collection<String> candidates) {
+        for (String candidate : candidates) {
+            if (roleNames.contains(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether this role set has no roles.
+     *
+     * @return true if there are no roles
+     */
+    public boolean isEmpty() {
+        return roles.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "RoleSet" + roles;
+    }
+}
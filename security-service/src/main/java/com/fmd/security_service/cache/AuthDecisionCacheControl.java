@@ -0,0 +1,108 @@
+package com.fmd.security_service.cache;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.VARY;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+
+import org.springframework.stereotype.Component;
+
+import com.fmd.security_service.dto.JwtCacheControlProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HTTP caching headers for auth decisions.
+ * <p>
+ * An accepted token is cacheable for its remaining lifetime, capped by
+ * {@code security.jwt.cache-control.max-age}, so nginx can answer repeated
+ * auth_request calls for the same token from its cache. Rejections are
+ * {@code no-store}, or short-lived if
+ * {@code security.jwt.cache-control.rejected-max-age} is set. Every decision
+ * varies on the {@code Authorization} header, and accepted ones carry the token
+ * fingerprint in {@value #CACHE_KEY_HEADER} as a cache key hint.
+ * </p>
+ * <p>
+ * A cached decision is not re-checked against the revocation list, so the max
+ * age also bounds how long a revoked token can still pass through the cache.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class AuthDecisionCacheControl {
+
+    /**
+     * Response header carrying the hex SHA-256 fingerprint of the token, the
+     * key an accepted decision can be cached and purged under.
+     */
+    public static final String CACHE_KEY_HEADER = "X-Auth-Cache-Key";
+
+    private static final String NO_STORE = "no-store";
+
+    private final long maxAgeSeconds;
+    // Fixed for every rejection, built once
+    private final String rejectedCacheControl;
+
+    /**
+     * Creates the cache control from the configured max ages.
+     *
+     * @param properties the cache control configuration properties
+     */
+    public AuthDecisionCacheControl(JwtCacheControlProperties properties) {
+        this.maxAgeSeconds = properties.maxAge().toSeconds();
+        long rejectedMaxAgeSeconds = properties.rejectedMaxAge().toSeconds();
+        this.rejectedCacheControl = rejectedMaxAgeSeconds > 0 ? "max-age=" + rejectedMaxAgeSeconds : NO_STORE;
+        log.info("Auth decisions cacheable for at most {}s, rejections: {}", maxAgeSeconds, rejectedCacheControl);
+    }
+
+    /**
+     * Writes the caching headers of an accepted token.
+     *
+     * @param authorization the Authorization header value of the request
+     * @param expiration    the expiration of the token
+     * @param headers       the consumer of header name and value
+     */
+    public void writeAccepted(String authorization, Instant expiration, BiConsumer<String, String> headers) {
+        long maxAge = maxAge(expiration, Instant.now());
+        headers.accept(VARY, AUTHORIZATION);
+        if (maxAge > 0) {
+            headers.accept(CACHE_CONTROL, "max-age=" + maxAge + ", must-revalidate");
+            headers.accept(CACHE_KEY_HEADER, TokenFingerprint.of(authorization).toHex());
+        } else {
+            headers.accept(CACHE_CONTROL, NO_STORE);
+        }
+    }
+
+    /**
+     * Writes the caching headers of a rejection (401 or 403).
+     *
+     * @param headers the consumer of header name and value
+     */
+    public void writeRejected(BiConsumer<String, String> headers) {
+        headers.accept(VARY, AUTHORIZATION);
+        headers.accept(CACHE_CONTROL, rejectedCacheControl);
+    }
+
+    /**
+     * Returns how long an accepted decision may be cached: the remaining
+     * lifetime of the token, capped by the configured max age.
+     *
+     * @param expiration the expiration of the token
+     * @param now        the current time
+     * @return the max age in whole seconds, zero if not cacheable
+     */
+    long maxAge(Instant expiration, Instant now) {
+        if (expiration == null) {
+            return 0L;
+        }
+        // Whole seconds left, rounded down so the cache never outlives the token
+        long remaining = expiration.getEpochSecond() - now.getEpochSecond() - (now.getNano() > 0 ? 1 : 0);
+        return Math.max(0L, Math.min(remaining, maxAgeSeconds));
+    }
+}
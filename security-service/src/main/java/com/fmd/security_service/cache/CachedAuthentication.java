@@ -0,0 +1,34 @@
+package com.fmd.security_service.cache;
+
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.fmd.security_service.authority.RoleSet;
+import com.fmd.security_service.dto.JwtPayload;
+
+/**
+ * Result of a successful token validation, kept in the {@link JwtTokenCache}.
+ * <p>
+ * Holds the validated payload together with the shared role set resolved from
+ * its roles, so cache hits can populate the security context without
+ * rebuilding the authorities.
+ * </p>
+ *
+ * @param payload the validated JWT payload
+ * @param roleSet the interned role set of the payload roles
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public record CachedAuthentication(JwtPayload payload, RoleSet roleSet) {
+
+    /**
+     * Returns the immutable authorities of the payload roles.
+     *
+     * @return the shared authorities
+     */
+    public List<SimpleGrantedAuthority> authorities() {
+        return roleSet.getAuthorities();
+    }
+}
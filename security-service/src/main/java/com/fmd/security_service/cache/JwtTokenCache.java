@@ -0,0 +1,263 @@
+package com.fmd.security_service.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fmd.security_service.dto.JwtCacheProperties;
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.revocation.RevocationListReloadedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded, concurrent cache of validated bearer tokens.
+ * <p>
+ * Tokens are keyed by their {@link TokenFingerprint}, so raw tokens are never
+ * retained. Each entry expires when its token expires, capped by the configured
+ * maximum TTL, and the least valuable entries are evicted once the configured
+ * maximum size is reached. Hit and miss counts are recorded for monitoring.
+ * </p>
+ * <p>
+ * Tokens that fail validation are remembered in a second, smaller negative
+ * cache for a short time. Bots tend to replay the same expired or malformed
+ * token, and a remembered rejection is answered with a single lookup, without
+ * decoding the token or throwing an exception.
+ * </p>
+ * <p>
+ * Both caches are published as Micrometer cache metrics, under the cache names
+ * {@value #TOKEN_CACHE_NAME} and {@value #REJECTED_CACHE_NAME}.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class JwtTokenCache implements MeterBinder {
+
+    /**
+     * Cache name of the validated token cache in metrics.
+     */
+    public static final String TOKEN_CACHE_NAME = "jwt.tokens";
+
+    /**
+     * Cache name of the rejected token cache in metrics.
+     */
+    public static final String REJECTED_CACHE_NAME = "jwt.rejected.tokens";
+
+    private final Cache<TokenFingerprint, CachedAuthentication> cache;
+    // Fingerprints of recently rejected tokens, the value is unused
+    private final Cache<TokenFingerprint, Boolean> rejected;
+
+    /**
+     * Creates the token cache with the configured size and TTL limits.
+     *
+     * @param properties the token cache configuration properties
+     */
+    @Autowired
+    public JwtTokenCache(JwtCacheProperties properties) {
+        this(properties, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    /**
+     * Creates the token cache timed by the given ticker, reading token
+     * expirations against the given clock.
+     *
+     * @param properties the token cache configuration properties
+     * @param clock      the wall clock token expirations are compared with
+     * @param ticker     the time source of the caches
+     */
+    JwtTokenCache(JwtCacheProperties properties, Clock clock, Ticker ticker) {
+        log.debug("Creating JWT token cache with max size {} and max TTL {}",
+                properties.maxSize(), properties.maxTtl());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfter(new TokenExpiry(properties.maxTtl(), clock.instant(), ticker.read()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        log.debug("Creating rejected token cache with max size {} and TTL {}",
+                properties.negativeMaxSize(), properties.negativeTtl());
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(properties.negativeMaxSize())
+                .expireAfterWrite(properties.negativeTtl())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached authentication for the token, validating and caching it
+     * with the given validator on a miss.
+     * <p>
+     * Exceptions thrown by the validator propagate unchanged and nothing is
+     * cached as valid. If the token was rejected with a
+     * {@link JwtParseException} or {@link JwtAuthenticationException}, it is
+     * remembered as rejected and later lookups return {@code null} without
+     * calling the validator. A missing token is passed straight to the
+     * validator.
+     * </p>
+     *
+     * @param token     the bearer token, as found in the Authorization header
+     * @param validator the function validating the token on a cache miss
+     * @return the cached or newly validated authentication, or {@code null} if
+     *         the token was recently rejected
+     */
+    public CachedAuthentication get(String token, Function<String, CachedAuthentication> validator) {
+        if (token == null) {
+            return validator.apply(null);
+        }
+
+        var fingerprint = TokenFingerprint.of(token);
+        if (rejected.getIfPresent(fingerprint) != null) {
+            return null;
+        }
+        try {
+            return cache.get(fingerprint, key -> validator.apply(token));
+        } catch (JwtParseException | JwtAuthenticationException e) {
+            rejected.put(fingerprint, Boolean.TRUE);
+            throw e;
+        }
+    }
+
+    /**
+     * Publishes size, hit, miss and eviction metrics of both caches.
+     *
+     * @param registry the meter registry to bind to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, TOKEN_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(registry, rejected, REJECTED_CACHE_NAME);
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return the cache hit count
+     */
+    public long hitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * Returns the number of lookups that required validating the token.
+     *
+     * @return the cache miss count
+     */
+    public long missCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Returns the number of lookups answered from the rejected token cache.
+     *
+     * @return the number of replayed rejected tokens
+     */
+    public long rejectedHitCount() {
+        return rejected.stats().hitCount();
+    }
+
+    /**
+     * Returns the approximate number of remembered rejected tokens.
+     *
+     * @return the estimated rejected token cache size
+     */
+    public long rejectedEstimatedSize() {
+        return rejected.estimatedSize();
+    }
+
+    /**
+     * Returns the approximate number of cached tokens.
+     *
+     * @return the estimated cache size
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Removes all cached and rejected tokens.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        rejected.invalidateAll();
+    }
+
+    /**
+     * Drops all validated tokens after the revocation list has been reloaded, so
+     * a newly revoked token is not served from the cache. Rejected tokens stay
+     * remembered, since revocation never makes a token valid again.
+     *
+     * @param event the revocation list reload event
+     */
+    @EventListener
+    public void onRevocationListReloaded(RevocationListReloadedEvent event) {
+        log.debug("Revocation list reloaded with {} revoked token(s), invalidating cached tokens",
+                event.revokedCount());
+        cache.invalidateAll();
+    }
+
+    /**
+     * Expires each entry at its token's expiration time, capped by the maximum
+     * TTL.
+     * <p>
+     * The cache time of an entry is mapped to a wall clock instant from the
+     * instant and ticker reading taken together when the cache was created, so
+     * expirations follow the cache's own ticker.
+     * </p>
+     *
+     * @param maxTtl      the maximum time an entry stays cached
+     * @param origin      the wall clock instant at cache creation
+     * @param originTicks the ticker reading at cache creation
+     */
+    private record TokenExpiry(Duration maxTtl, Instant origin, long originTicks)
+            implements Expiry<TokenFingerprint, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(TokenFingerprint key, CachedAuthentication value, long currentTime) {
+            Instant now = origin.plusNanos(currentTime - originTicks);
+            // Validated payloads always carry an expiration, checked by JwtUtil
+            Duration untilExpiry = Duration.between(now, value.payload().expiration());
+            Duration ttl = untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+            return Math.max(0, ttl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenFingerprint key, CachedAuthentication value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(TokenFingerprint key, CachedAuthentication value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
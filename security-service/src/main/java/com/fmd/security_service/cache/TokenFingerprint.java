@@ -0,0 +1,74 @@
+package com.fmd.security_service.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Fixed-size fingerprint of a bearer token used as a cache key.
+ * <p>
+ * Holds the first 128 bits of the SHA-256 digest of the token, so caches never
+ * retain the raw token and keys have a constant, small footprint. A
+ * cryptographic digest is used because a crafted collision would let one token
+ * reuse another token's cached authentication.
+ * </p>
+ *
+ * @param high the first 64 bits of the digest
+ * @param low  the next 64 bits of the digest
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public record TokenFingerprint(long high, long low) {
+
+    // Prototype digest, cloned per call to avoid the provider lookup of getInstance
+    private static final MessageDigest SHA_256_PROTOTYPE = sha256();
+
+    /**
+     * Computes the fingerprint of the given token.
+     *
+     * @param token the token to fingerprint
+     * @return the fingerprint of the token
+     */
+    public static TokenFingerprint of(String token) {
+        byte[] digest = newDigest().digest(token.getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        return new TokenFingerprint(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Returns the fingerprint as a 32-character lowercase hex string.
+     *
+     * @return the hex representation of the fingerprint
+     */
+    public String toHex() {
+        return "%016x%016x".formatted(high, low);
+    }
+
+    /**
+     * Returns a fresh SHA-256 digest cloned from the prototype.
+     *
+     * @return a new SHA-256 MessageDigest
+     */
+    private static MessageDigest newDigest() {
+        try {
+            return (MessageDigest) SHA_256_PROTOTYPE.clone();
+        } catch (CloneNotSupportedException e) {
+            return sha256();
+        }
+    }
+
+    /**
+     * Looks up the SHA-256 MessageDigest, which every JDK is required to provide.
+     *
+     * @return a new SHA-256 MessageDigest
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.fmd.security_service.controller;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
+import com.fmd.security_service.projection.ClaimProjection;
+import com.fmd.security_service.security.JwtAuthentication;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Functional endpoint used as the nginx {@code auth_request} target.
+ * <p>
+ * Returns {@code 204 No Content} with the authenticated identity in the
+ * {@value #AUTH_USER_HEADER} and {@value #AUTH_ROLES_HEADER} response headers,
+ * so nginx can forward it upstream (via {@code auth-response-headers}) without
+ * the JWT being parsed again. Claims configured under
+ * {@code security.jwt.claims.headers} are added as further headers by the
+ * {@link ClaimProjection}. The response is cacheable for the remaining token
+ * lifetime, see {@link AuthDecisionCacheControl}, so nginx can cache the
+ * decision. It is served by a plain router function, with
+ * no annotation-based argument resolution, method security or response body.
+ * Access rules for the path are defined in
+ * {@link com.fmd.security_service.security.SecurityConfig}. The reactive
+ * profile serves the same endpoint from {@link ReactiveAuthRequestRouter}.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = SERVLET)
+public class AuthRequestRouter {
+
+    /**
+     * Path of the auth_request endpoint.
+     */
+    public static final String AUTH_REQUEST_PATH = "/api/auth-request";
+
+    /**
+     * Response header carrying the authenticated subject.
+     */
+    public static final String AUTH_USER_HEADER = "X-Auth-User";
+
+    /**
+     * Response header carrying the comma-separated roles of the subject.
+     */
+    public static final String AUTH_ROLES_HEADER = "X-Auth-Roles";
+
+    /**
+     * Routes {@code GET /api/auth-request} to the auth_request handler.
+     *
+     * @param claimProjection the projection of claims into response headers
+     * @param cacheControl    the caching headers of auth decisions
+     * @return the router function for the auth_request endpoint
+     */
+    @Bean
+    public RouterFunction<ServerResponse> authRequestRoute(ClaimProjection claimProjection,
+            AuthDecisionCacheControl cacheControl) {
+        return RouterFunctions.route()
+                .GET(AUTH_REQUEST_PATH, request -> authRequest(request, claimProjection, cacheControl))
+                .build();
+    }
+
+    /**
+     * Handles an auth_request sub-request that already passed the JWT filter and
+     * the access rules.
+     *
+     * @param request         the server request
+     * @param claimProjection the projection of claims into response headers
+     * @param cacheControl    the caching headers of auth decisions
+     * @return an empty 204 response with the identity headers
+     */
+    static ServerResponse authRequest(ServerRequest request, ClaimProjection claimProjection,
+            AuthDecisionCacheControl cacheControl) {
+        // Set by JwtAuthenticationFilter, guaranteed by the access rules for this path
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        log.debug("auth_request accepted for user [{}]", authentication.getName());
+
+        return ServerResponse.noContent()
+                .header(AUTH_USER_HEADER, authentication.getName())
+                .header(AUTH_ROLES_HEADER, joinRoles(authentication))
+                .headers(headers -> {
+                    projectClaims(authentication, claimProjection, headers::set);
+                    cacheAccepted(authentication, request.headers().firstHeader(HttpHeaders.AUTHORIZATION),
+                            cacheControl, headers::set);
+                })
+                .build();
+    }
+
+    /**
+     * Writes the caching headers of the accepted request, cacheable until the
+     * token expires.
+     *
+     * @param authentication the authenticated request
+     * @param authorization  the Authorization header value of the request
+     * @param cacheControl   the caching headers of auth decisions
+     * @param headers        the consumer of header name and value
+     */
+    static void cacheAccepted(Authentication authentication, String authorization,
+            AuthDecisionCacheControl cacheControl, BiConsumer<String, String> headers) {
+        // Authentications not set by the JWT filters have no expiration and are not cached
+        var expiration = authentication instanceof JwtAuthentication jwtAuthentication
+                ? jwtAuthentication.getPayload().expiration()
+                : null;
+        cacheControl.writeAccepted(authorization, expiration, headers);
+    }
+
+    /**
+     * Writes the projected claims of the authentication as headers.
+     *
+     * @param authentication  the authenticated request
+     * @param claimProjection the projection of claims into response headers
+     * @param headers         the consumer of header name and value
+     */
+    static void projectClaims(Authentication authentication, ClaimProjection claimProjection,
+            BiConsumer<String, String> headers) {
+        if (authentication instanceof JwtAuthentication jwtAuthentication && !claimProjection.isEmpty()) {
+            // Read from the payload cached with the token, the JWT is not decoded again
+            claimProjection.project(jwtAuthentication.getPayload(), headers);
+        }
+    }
+
+    /**
+     * Joins the authorities of the authentication into the roles header value.
+     *
+     * @param authentication the authenticated request
+     * @return the comma-separated roles
+     */
+    static String joinRoles(Authentication authentication) {
+        if (authentication instanceof JwtAuthentication jwtAuthentication) {
+            // Joined once per distinct role set
+            return jwtAuthentication.getRoleSet().getJoined();
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,237 @@
+package com.fmd.security_service.controller;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_BAD_REQUEST;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fmd.security_service.dto.ApiError;
+import com.fmd.security_service.dto.JwtIntrospectionProperties;
+import com.fmd.security_service.dto.JwtPayload;
+import com.fmd.security_service.dto.TokenIntrospection;
+import com.fmd.security_service.service.TokenIntrospectionService;
+import com.fmd.security_service.utils.ErrorResponseUtil;
+import com.fmd.security_service.utils.JwtUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Functional endpoint for batch token introspection.
+ * <p>
+ * Takes a JSON array of tokens, as Authorization header values or bare JWTs,
+ * and validates them in parallel through the {@link TokenIntrospectionService}.
+ * The response is a JSON array with one result per token, in request order,
+ * streamed to the client as the results complete:
+ * </p>
+ *
+ * <pre>
+ * [{"active":true,"sub":"username","exp":4102444800,...},{"active":false,"error":"expired"}]
+ * </pre>
+ * <p>
+ * Claims use their JWT names, with timestamps in seconds since the epoch. The
+ * body is read token by token, so a request is rejected as soon as it holds
+ * more than {@code security.jwt.introspection.max-batch-size} tokens or a
+ * token longer than {@link JwtUtil#MAX_TOKEN_LENGTH}, without reading the rest.
+ * Access rules for the path are defined in
+ * {@link com.fmd.security_service.security.AccessRules}.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = SERVLET)
+public class IntrospectionRouter {
+
+    /**
+     * Path of the batch introspection endpoint.
+     */
+    public static final String INTROSPECT_PATH = "/api/introspect";
+
+    // Thread-safe factory for the streamed request and response bodies
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .streamReadConstraints(StreamReadConstraints.builder()
+                    .maxStringLength(JwtUtil.MAX_TOKEN_LENGTH)
+                    .build())
+            .build();
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+    private final JwtIntrospectionProperties introspectionProperties;
+
+    /**
+     * Routes {@code POST /api/introspect} to the batch introspection handler.
+     *
+     * @return the router function for the introspection endpoint
+     */
+    @Bean
+    public RouterFunction<ServerResponse> introspectionRoute() {
+        return RouterFunctions.route()
+                .POST(INTROSPECT_PATH, this::introspect)
+                .build();
+    }
+
+    /**
+     * Validates the tokens in the request body and streams the results.
+     *
+     * @param request the server request, with a JSON array of tokens as body
+     * @return the streamed results, or 400 if the body is not a JSON array of
+     *         tokens or the batch is too large
+     * @throws IOException if the request body cannot be read
+     */
+    ServerResponse introspect(ServerRequest request) throws IOException {
+        int maxBatchSize = introspectionProperties.maxBatchSize();
+        List<String> tokens;
+        try {
+            tokens = readTokens(request.servletRequest().getInputStream(), maxBatchSize);
+        } catch (JsonProcessingException e) {
+            log.debug("Rejected introspection request: {}", e.getOriginalMessage());
+            return badRequest(request, "Request body must be a JSON array of tokens of at most "
+                    + JwtUtil.MAX_TOKEN_LENGTH + " characters");
+        }
+        if (tokens == null) {
+            log.debug("Rejected introspection batch of more than {} tokens", maxBatchSize);
+            return badRequest(request, "At most " + maxBatchSize + " tokens can be introspected at once");
+        }
+
+        log.debug("Introspecting batch of {} tokens", tokens.size());
+        var results = tokenIntrospectionService.introspectAll(tokens).iterator();
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .build((servletRequest, servletResponse) -> {
+                    try (JsonGenerator generator = JSON_FACTORY.createGenerator(servletResponse.getOutputStream(),
+                            JsonEncoding.UTF8)) {
+                        writeResults(generator, results);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Reads the JSON array of tokens from the request body, one token at a
+     * time, and stops at the first token over the batch size.
+     *
+     * @param body         the request body
+     * @param maxBatchSize the maximum number of tokens accepted
+     * @return the tokens, or null if the array holds more than
+     *         {@code maxBatchSize} tokens
+     * @throws JsonProcessingException if the body is not a JSON array of
+     *                                 strings, or a token is too long
+     * @throws IOException             if the request body cannot be read
+     */
+    static List<String> readTokens(InputStream body, int maxBatchSize) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a JSON array of tokens");
+            }
+            List<String> tokens = new ArrayList<>();
+            JsonToken next;
+            while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (tokens.size() == maxBatchSize) {
+                    return null;
+                }
+                if (next == JsonToken.VALUE_STRING) {
+                    tokens.add(parser.getText());
+                } else if (next == JsonToken.VALUE_NULL) {
+                    tokens.add(null);
+                } else {
+                    throw new JsonParseException(parser, "Expected a token string");
+                }
+            }
+            return tokens;
+        }
+    }
+
+    private static ServerResponse badRequest(ServerRequest request, String message) {
+        var apiError = new ApiError(BAD_REQUEST, message, request.path());
+        return ServerResponse.status(BAD_REQUEST).build((servletRequest, servletResponse) -> {
+            ErrorResponseUtil.writeErrorResponse(servletResponse, SC_BAD_REQUEST, apiError);
+            return null;
+        });
+    }
+
+    /**
+     * Writes the results as a JSON array, each as soon as it is available.
+     *
+     * @param generator the generator writing the response body
+     * @param results   the introspection results, in token order
+     * @throws IOException if writing fails
+     */
+    static void writeResults(JsonGenerator generator, Iterator<TokenIntrospection> results) throws IOException {
+        generator.writeStartArray();
+        while (results.hasNext()) {
+            TokenIntrospection result = results.next();
+            generator.writeStartObject();
+            generator.writeBooleanField("active", result.active());
+            if (result.active()) {
+                writeClaims(generator, result.claims());
+            } else {
+                generator.writeStringField("error", result.error());
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes the non-null claims of a validated token.
+     *
+     * @param generator the generator writing the response body
+     * @param claims    the validated claims
+     * @throws IOException if writing fails
+     */
+    private static void writeClaims(JsonGenerator generator, JwtPayload claims) throws IOException {
+        writeString(generator, "sub", claims.subject());
+        writeString(generator, "iss", claims.issuer());
+        writeString(generator, "aud", claims.audience());
+        writeEpochSeconds(generator, "iat", claims.issuedAt());
+        writeEpochSeconds(generator, "exp", claims.expiration());
+        writeString(generator, "jti", claims.tokenId());
+        writeString(generator, "name", claims.name());
+        if (claims.roles() != null) {
+            generator.writeArrayFieldStart("roles");
+            for (String role : claims.roles()) {
+                generator.writeString(role);
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    private static void writeEpochSeconds(JsonGenerator generator, String name, Instant value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(name, value.getEpochSecond());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.fmd.security_service.controller;
+
+import static com.fmd.security_service.controller.AuthRequestRouter.AUTH_REQUEST_PATH;
+import static com.fmd.security_service.controller.AuthRequestRouter.AUTH_ROLES_HEADER;
+import static com.fmd.security_service.controller.AuthRequestRouter.AUTH_USER_HEADER;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
+import com.fmd.security_service.projection.ClaimProjection;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link AuthRequestRouter}, serving the nginx
+ * {@code auth_request} target on the reactive (Netty) profile.
+ * <p>
+ * Responds exactly like the servlet endpoint: {@code 204 No Content} with the
+ * identity in the {@value AuthRequestRouter#AUTH_USER_HEADER} and
+ * {@value AuthRequestRouter#AUTH_ROLES_HEADER} headers, plus the projected
+ * claims and the caching headers. Access rules are
+ * defined in {@link com.fmd.security_service.security.ReactiveSecurityConfig}.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnWebApplication(type = REACTIVE)
+public class ReactiveAuthRequestRouter {
+
+    /**
+     * Routes {@code GET /api/auth-request} to the auth_request handler.
+     *
+     * @param claimProjection the projection of claims into response headers
+     * @param cacheControl    the caching headers of auth decisions
+     * @return the router function for the auth_request endpoint
+     */
+    @Bean
+    public RouterFunction<ServerResponse> reactiveAuthRequestRoute(ClaimProjection claimProjection,
+            AuthDecisionCacheControl cacheControl) {
+        return RouterFunctions.route()
+                .GET(AUTH_REQUEST_PATH, request -> authRequest(request, claimProjection, cacheControl))
+                .build();
+    }
+
+    /**
+     * Handles an auth_request sub-request that already passed the JWT filter and
+     * the access rules.
+     *
+     * @param request         the server request
+     * @param claimProjection the projection of claims into response headers
+     * @param cacheControl    the caching headers of auth decisions
+     * @return an empty 204 response with the identity headers
+     */
+    static Mono<ServerResponse> authRequest(ServerRequest request, ClaimProjection claimProjection,
+            AuthDecisionCacheControl cacheControl) {
+        // Set by ReactiveJwtAuthenticationFilter, guaranteed by the access rules for this path
+        return request.principal()
+                .cast(Authentication.class)
+                .flatMap(authentication -> {
+                    log.debug("auth_request accepted for user [{}]", authentication.getName());
+                    return ServerResponse.noContent()
+                            .header(AUTH_USER_HEADER, authentication.getName())
+                            .header(AUTH_ROLES_HEADER, AuthRequestRouter.joinRoles(authentication))
+                            .headers(headers -> {
+                                AuthRequestRouter.projectClaims(authentication, claimProjection, headers::set);
+                                AuthRequestRouter.cacheAccepted(authentication,
+                                        request.headers().firstHeader(HttpHeaders.AUTHORIZATION), cacheControl,
+                                        headers::set);
+                            })
+                            .build();
+                });
+    }
+}
@@ -1,19 +1,27 @@
 package com.fmd.security_service.controller;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
+
 /**
  * SecurityController handles security-related endpoints.
  * It provides an endpoint for user authentication.
  * <p>
  * This service authenticates users using Spring Security to validate
- * the JWT token passed in the Authorization header.
+ * the JWT token passed in the Authorization header. The roles required for
+ * the endpoint are checked by the access rules in
+ * {@link com.fmd.security_service.security.SecurityConfig}. Like the
+ * auth_request endpoint, the response is cacheable for the remaining token
+ * lifetime, see {@link AuthDecisionCacheControl}.
  *
  * @author Shailesh Halor
  * @version 1.0
@@ -21,27 +29,35 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @Slf4j
 @RestController
+@RequiredArgsConstructor
 @RequestMapping("/api/authenticate")
 public class SecurityController {
 
+    private final AuthDecisionCacheControl cacheControl;
+
     /**
      * Endpoint to authenticate a user.
      * <p>
      * This method is called when a user attempts to authenticate.
      * It returns a success message if the authentication is successful.
      *
-     * @return a success message indicating successful authentication
+     * @param authentication the authentication set by the JWT filter
+     * @param authorization  the Authorization header value of the request
+     * @return a success message indicating successful authentication, with
+     *         the caching headers of the accepted token
      */
     @GetMapping
-    @PreAuthorize("hasAnyAuthority('Admin', 'User')")
-    public String postMethodName(Authentication authentication) {
+    public ResponseEntity<String> postMethodName(Authentication authentication,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
 
-        // Retrieve the user details from the SecurityContext (set by JWT filter)
-        var userDetails = (UserDetails) authentication.getPrincipal();
-        String username = userDetails.getUsername();
+        // The subject of the JWT authentication set by the JWT filter
+        String username = authentication.getName();
 
-        log.info("User '{}' authenticated successfully", username);
-        return "User '" + username + "' authenticated successfully";
+        log.debug("User '{}' authenticated successfully", username);
+        return ResponseEntity.ok()
+                .headers(headers -> AuthRequestRouter.cacheAccepted(authentication, authorization, cacheControl,
+                        headers::set))
+                .body("User '" + username + "' authenticated successfully");
     }
 
 }
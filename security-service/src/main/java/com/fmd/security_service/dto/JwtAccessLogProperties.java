@@ -0,0 +1,44 @@
+package com.fmd.security_service.dto;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration properties for the auth access log.
+ * <p>
+ * Every rejected token is logged; successful authentications are logged for
+ * the given fraction of requests only. Events wait in a ring buffer of the
+ * given capacity for the access log writer, and are dropped and counted when
+ * it is full.
+ * </p>
+ *
+ * @param successSampleRate the fraction of successful authentications logged,
+ *                          from 0 (none) to 1 (all)
+ * @param capacity          the number of events the ring buffer holds,
+ *                          rounded up to a power of two
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@ConfigurationProperties(prefix = "security.jwt.access-log")
+public record JwtAccessLogProperties(
+        Double successSampleRate,
+        Integer capacity
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * Initializes with default values if not specified in application properties.
+     */
+    public JwtAccessLogProperties {
+        if (successSampleRate == null || successSampleRate < 0 || successSampleRate > 1) {
+            log.warn("Access log success sample rate is not specified or invalid, using default value of 0.01.");
+            successSampleRate = 0.01;
+        }
+        if (capacity == null || capacity <= 0) {
+            log.warn("Access log capacity is not specified or invalid, using default value of 8192.");
+            capacity = 8192;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fmd.security_service.dto;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration properties for the HTTP caching of auth decisions, e.g. by
+ * nginx {@code proxy_cache} in front of {@code /api/auth-request}.
+ * <p>
+ * An accepted token may be cached for its remaining lifetime, but never longer
+ * than {@code maxAge}. Rejections may be cached for {@code rejectedMaxAge};
+ * when that is zero they are marked {@code no-store}.
+ * </p>
+ *
+ * @param maxAge         the longest time an accepted token's decision may be
+ *                       cached, zero to disable caching
+ * @param rejectedMaxAge how long a 401 or 403 may be cached, zero for
+ *                       {@code no-store}
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@ConfigurationProperties(prefix = "security.jwt.cache-control")
+public record JwtCacheControlProperties(
+        Duration maxAge,
+        Duration rejectedMaxAge
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * Initializes with default values if not specified in application properties.
+     */
+    public JwtCacheControlProperties {
+        if (maxAge == null || maxAge.isNegative()) {
+            log.warn("Auth decision cache max age is not specified or invalid, using default value of 60 seconds.");
+            maxAge = Duration.ofSeconds(60);
+        }
+        if (rejectedMaxAge == null || rejectedMaxAge.isNegative()) {
+            log.warn("Rejected auth decision cache max age is not specified or invalid, using default value of 0.");
+            rejectedMaxAge = Duration.ZERO;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.fmd.security_service.dto;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration properties for the verified-token cache.
+ * <p>
+ * Entries live until the token expires, but never longer than
+ * {@code maxTtl}, and the cache never holds more than {@code maxSize} entries.
+ * Rejected tokens are remembered separately for {@code negativeTtl}, up to
+ * {@code negativeMaxSize} entries, so replayed invalid tokens are rejected
+ * without validating them again.
+ * </p>
+ *
+ * @param maxSize         the maximum number of cached tokens
+ * @param maxTtl          the maximum time a token stays cached, regardless of
+ *                        its expiry
+ * @param negativeMaxSize the maximum number of remembered rejected tokens
+ * @param negativeTtl     how long a rejected token is remembered
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@ConfigurationProperties(prefix = "security.jwt.cache")
+public record JwtCacheProperties(
+        Long maxSize,
+        Duration maxTtl,
+        Long negativeMaxSize,
+        Duration negativeTtl
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * Initializes with default values if not specified in application properties.
+     */
+    public JwtCacheProperties {
+        if (maxSize == null) {
+            log.warn("Token cache max size is not specified, using default value of 10000.");
+            maxSize = 10_000L;
+        }
+        if (maxTtl == null) {
+            log.warn("Token cache max TTL is not specified, using default value of 5 minutes.");
+            maxTtl = Duration.ofMinutes(5);
+        }
+        if (negativeMaxSize == null) {
+            log.warn("Rejected token cache max size is not specified, using default value of 10000.");
+            negativeMaxSize = 10_000L;
+        }
+        if (negativeTtl == null) {
+            log.warn("Rejected token cache TTL is not specified, using default value of 1 minute.");
+            negativeTtl = Duration.ofMinutes(1);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.fmd.security_service.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for projecting JWT claims into the auth_request
+ * response headers.
+ * <p>
+ * Maps claim names to the header that carries them, for example:
+ * </p>
+ * <pre>
+ * security.jwt.claims.headers.tenant=X-Auth-Tenant
+ * security.jwt.claims.headers.name=X-Auth-Name
+ * </pre>
+ *
+ * @param headers the response header name per claim name, in configuration
+ *                order
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "security.jwt.claims")
+public record JwtClaimProjectionProperties(
+        Map<String, String> headers
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * No claims are projected if none are configured.
+     */
+    public JwtClaimProjectionProperties {
+        headers = headers == null ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+    }
+}
@@ -0,0 +1,40 @@
+package com.fmd.security_service.dto;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration properties for the gRPC authorization server implementing the
+ * Envoy {@code ext_authz} {@code Check} API.
+ * <p>
+ * The server is disabled by default. When enabled it listens on its own port,
+ * next to the HTTP and management ports.
+ * </p>
+ *
+ * @param enabled whether the gRPC authorization server is started
+ * @param port    the port the gRPC server listens on, 0 for a random port
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@ConfigurationProperties(prefix = "security.ext-authz")
+public record JwtExtAuthzProperties(
+        Boolean enabled,
+        Integer port
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * Initializes with default values if not specified in application properties.
+     */
+    public JwtExtAuthzProperties {
+        if (enabled == null) {
+            enabled = false;
+        }
+        if (port == null || port < 0 || port > 65535) {
+            log.warn("ext_authz gRPC port is not specified or invalid, using default value of 9090.");
+            port = 9090;
+        }
+    }
+}
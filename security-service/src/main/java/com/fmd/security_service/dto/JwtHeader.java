@@ -0,0 +1,24 @@
+package com.fmd.security_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * JWT header record representing the JOSE header of a JWT token.
+ * <p>
+ * Only the fields needed for signature verification are read; other header
+ * parameters are ignored.
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record JwtHeader(
+        // Signature algorithm (e.g. HS256, RS256, ES256)
+        @JsonProperty("alg") String algorithm,
+        // Key id identifying the verification key
+        @JsonProperty("kid") String keyId,
+        // Token type (usually JWT)
+        @JsonProperty("typ") String type) {
+}
@@ -0,0 +1,45 @@
+package com.fmd.security_service.dto;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration properties for the batch token introspection endpoint.
+ *
+ * @param maxBatchSize the maximum number of tokens accepted in one request
+ * @param parallelism  the maximum number of tokens of one request validated at
+ *                     the same time
+ * @param timeout      the maximum time to wait for the results of one request
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@ConfigurationProperties(prefix = "security.jwt.introspection")
+public record JwtIntrospectionProperties(
+        Integer maxBatchSize,
+        Integer parallelism,
+        Duration timeout
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * Initializes with default values if not specified in application properties.
+     */
+    public JwtIntrospectionProperties {
+        if (maxBatchSize == null || maxBatchSize < 1) {
+            log.warn("Introspection max batch size is not specified or invalid, using default value of 1000.");
+            maxBatchSize = 1000;
+        }
+        if (parallelism == null || parallelism < 1) {
+            log.warn("Introspection parallelism is not specified or invalid, using default value of 16.");
+            parallelism = 16;
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            log.warn("Introspection timeout is not specified or invalid, using default value of 30 seconds.");
+            timeout = Duration.ofSeconds(30);
+        }
+    }
+}
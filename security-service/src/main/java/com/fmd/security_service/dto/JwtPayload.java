@@ -1,14 +1,23 @@
 package com.fmd.security_service.dto;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 /**
  * JWT payload record representing the claims in a JWT token.
  * <p>
- * Includes issuer, issuedAt, expiration, audience, subject, name, and roles.
+ * Includes issuer, issuedAt, expiration, audience, subject, name, roles, and
+ * the token id used for revocation. Other claims, such as {@code tenant}, are
+ * skipped when the token is parsed, unless the payload reader retains them, as
+ * the reader of the claim projection into response headers does for its
+ * claims. Retained claims are
+ * kept as parsed JSON values in {@link #otherClaims()} and only turned into
+ * text when read.
  * 
  * @author Shailesh Halor
  * @version 1.0
@@ -28,5 +37,53 @@ public record JwtPayload(
                 // Name of the user/entity
                 @JsonProperty("name") String name,
                 // Roles assigned to the user/entity
-                @JsonProperty("roles") List<String> roles) {
+                @JsonProperty("roles") List<String> roles,
+                // JWT ID (unique token identifier, used for revocation)
+                @JsonProperty("jti") String tokenId,
+                // Retained claims not mapped above, by name; empty if the token has none
+                Map<String, Object> otherClaims) {
+
+        /**
+         * Shares one empty map between payloads without other claims.
+         */
+        public JwtPayload {
+                otherClaims = otherClaims == null || otherClaims.isEmpty() ? Map.of()
+                                : Collections.unmodifiableMap(otherClaims);
+        }
+
+        /**
+         * Returns the value of a claim by its JWT name.
+         * <p>
+         * Timestamps are returned as {@link Instant}, other claims as parsed from
+         * the JSON payload: strings, numbers, booleans, lists and maps. Claims
+         * without a record component are only available if retained.
+         * </p>
+         *
+         * @param claimName the JWT claim name, e.g. {@code sub} or {@code tenant}
+         * @return the claim value, or {@code null} if the token does not have it
+         */
+        public Object claim(String claimName) {
+                return claimAccessor(claimName).apply(this);
+        }
+
+        /**
+         * Resolves the accessor of a claim once, so the claim can then be read
+         * from any payload without looking up its name again.
+         *
+         * @param claimName the JWT claim name
+         * @return the function reading the claim value from a payload
+         */
+        public static Function<JwtPayload, Object> claimAccessor(String claimName) {
+                return switch (claimName) {
+                        case "iss" -> JwtPayload::issuer;
+                        case "iat" -> JwtPayload::issuedAt;
+                        case "exp" -> JwtPayload::expiration;
+                        case "aud" -> JwtPayload::audience;
+                        case "sub" -> JwtPayload::subject;
+                        case "name" -> JwtPayload::name;
+                        case "roles" -> JwtPayload::roles;
+                        case "jti" -> JwtPayload::tokenId;
+                        default -> payload -> payload.otherClaims().get(claimName);
+                };
+        }
 }
@@ -0,0 +1,51 @@
+package com.fmd.security_service.dto;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration properties for token revocation.
+ * <p>
+ * The revocation list is a text file with one revoked {@code jti} per line;
+ * blank lines and lines starting with {@code #} are ignored. Revocation checks
+ * are disabled when no file is configured.
+ * </p>
+ *
+ * @param file              the revocation list file, or null to disable
+ *                          revocation checks
+ * @param falsePositiveRate the target false positive rate of the Bloom filter
+ * @param settleTime        how long the file must stay unchanged before a
+ *                          change is loaded
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@ConfigurationProperties(prefix = "security.jwt.revocation")
+public record JwtRevocationProperties(
+        Path file,
+        Double falsePositiveRate,
+        Duration settleTime
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * Initializes with default values if not specified in application properties.
+     */
+    public JwtRevocationProperties {
+        if (file == null) {
+            log.info("Token revocation list file is not specified, revocation checks are disabled.");
+        }
+        if (falsePositiveRate == null || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            log.warn("Revocation Bloom filter false positive rate is not specified or invalid, using default value of 0.01.");
+            falsePositiveRate = 0.01;
+        }
+        if (settleTime == null || settleTime.isNegative() || settleTime.isZero()) {
+            log.info("Revocation list settle time is not specified, using default value of 250 ms.");
+            settleTime = Duration.ofMillis(250);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.fmd.security_service.dto;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.fmd.security_service.signature.JwtAlgorithm;
+import com.fmd.security_service.signature.SignatureVerificationMode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration properties for JWT signature verification.
+ * <p>
+ * Keys are configured per {@code kid}, for example:
+ * </p>
+ * <pre>
+ * security.jwt.signature.mode=enforce
+ * security.jwt.signature.default-kid=main
+ * security.jwt.signature.keys.main.algorithm=HS256
+ * security.jwt.signature.keys.main.secret=&lt;base64 secret&gt;
+ * security.jwt.signature.keys.rsa-1.algorithm=RS256
+ * security.jwt.signature.keys.rsa-1.public-key=&lt;base64 or PEM X.509 public key&gt;
+ * </pre>
+ *
+ * @param mode       the verification rollout mode
+ * @param defaultKid the key id used for tokens whose header has no {@code kid}
+ * @param keys       the verification keys, indexed by key id
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@ConfigurationProperties(prefix = "security.jwt.signature")
+public record JwtSignatureProperties(
+        SignatureVerificationMode mode,
+        String defaultKid,
+        Map<String, Key> keys
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * Initializes with default values if not specified in application properties.
+     */
+    public JwtSignatureProperties {
+        if (mode == null) {
+            log.warn("Signature verification mode is not specified, using default value of DISABLED.");
+            mode = SignatureVerificationMode.DISABLED;
+        }
+        keys = keys == null ? Map.of() : Map.copyOf(keys);
+    }
+
+    /**
+     * A single verification key.
+     *
+     * @param algorithm the signature algorithm of the key
+     * @param secret    the Base64-encoded shared secret, for HS256
+     * @param publicKey the Base64 or PEM encoded X.509 public key, for RS256 and
+     *                  ES256
+     */
+    public record Key(
+            JwtAlgorithm algorithm,
+            String secret,
+            String publicKey
+    ) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.fmd.security_service.dto;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration properties for the Unix domain socket auth listener.
+ * <p>
+ * When security-service runs as a sidecar, the application in the same pod
+ * can check tokens over a socket file on a shared volume, without going
+ * through the TCP stack. The listener is disabled when no path is configured.
+ * </p>
+ *
+ * @param path the socket file, or null to disable the listener
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@ConfigurationProperties(prefix = "security.unix-socket")
+public record JwtUnixSocketProperties(
+        Path path
+) {
+    /**
+     * Default constructor for Spring Boot configuration properties.
+     * Initializes with default values if not specified in application properties.
+     */
+    public JwtUnixSocketProperties {
+        if (path == null) {
+            log.info("Unix domain socket path is not specified, the socket auth listener is disabled.");
+        }
+    }
+}
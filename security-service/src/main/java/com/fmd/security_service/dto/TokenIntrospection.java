@@ -0,0 +1,42 @@
+package com.fmd.security_service.dto;
+
+/**
+ * Immutable result of introspecting a single token.
+ * <p>
+ * An active token carries its claims; an inactive token carries the reason it
+ * was rejected, as the outcome tag also used in metrics, e.g.
+ * {@code expired}, {@code malformed} or {@code revoked}.
+ * </p>
+ *
+ * @param active whether the token is valid
+ * @param error  the rejection reason of an inactive token, null if active
+ * @param claims the claims of an active token, null if inactive
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public record TokenIntrospection(
+        boolean active,
+        String error,
+        JwtPayload claims) {
+
+    /**
+     * Creates the result for a valid token.
+     *
+     * @param claims the validated claims
+     * @return the active result
+     */
+    public static TokenIntrospection valid(JwtPayload claims) {
+        return new TokenIntrospection(true, null, claims);
+    }
+
+    /**
+     * Creates the result for a rejected token.
+     *
+     * @param error the rejection reason
+     * @return the inactive result
+     */
+    public static TokenIntrospection rejected(String error) {
+        return new TokenIntrospection(false, error, null);
+    }
+}
@@ -5,6 +5,10 @@ import lombok.experimental.StandardException;
 /**
  * Exception thrown when JWT payload validation fails (e.g., missing subject,
  * expiration, or expired token).
+ * <p>
+ * Like {@link JwtParseException}, the exception carries no stack trace, as it
+ * is thrown for every rejected token.
+ * </p>
  * 
  * @author Shailesh Halor
  * @version 1.0
@@ -12,4 +16,14 @@ import lombok.experimental.StandardException;
  */
 @StandardException
 public class JwtAuthenticationException extends RuntimeException {
+
+    /**
+     * Skips capturing the stack trace, see the class documentation.
+     *
+     * @return this exception
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
 }
@@ -0,0 +1,18 @@
+package com.fmd.security_service.exception;
+
+import lombok.experimental.StandardException;
+
+/**
+ * Exception thrown when a JWT token has expired.
+ * <p>
+ * A {@link JwtAuthenticationException}, kept as a separate type so expired
+ * tokens can be told apart from other claim failures, e.g. in metrics.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@StandardException
+public class JwtExpiredException extends JwtAuthenticationException {
+}
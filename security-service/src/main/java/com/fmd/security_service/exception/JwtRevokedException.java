@@ -0,0 +1,19 @@
+package com.fmd.security_service.exception;
+
+import lombok.experimental.StandardException;
+
+/**
+ * Exception thrown when the {@code jti} of a JWT token is on the revocation
+ * list.
+ * <p>
+ * A {@link JwtAuthenticationException}, kept as a separate type so revoked
+ * tokens can be told apart from other claim failures, e.g. in metrics.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@StandardException
+public class JwtRevokedException extends JwtAuthenticationException {
+}
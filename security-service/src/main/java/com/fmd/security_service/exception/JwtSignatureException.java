@@ -0,0 +1,19 @@
+package com.fmd.security_service.exception;
+
+import lombok.experimental.StandardException;
+
+/**
+ * Exception thrown when the signature of a JWT token cannot be verified and
+ * verification is enforced.
+ * <p>
+ * A {@link JwtAuthenticationException}, kept as a separate type so signature
+ * failures can be told apart from claim failures, e.g. in metrics.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@StandardException
+public class JwtSignatureException extends JwtAuthenticationException {
+}
@@ -1,19 +1,23 @@
 package com.fmd.security_service.exception.handler;
 
 import static jakarta.servlet.http.HttpServletResponse.SC_FORBIDDEN;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 
 import java.io.IOException;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
 import com.fmd.security_service.dto.ApiError;
 import com.fmd.security_service.utils.ErrorResponseUtil;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 
 /**
  * Custom AccessDeniedHandler to return a JSON response on access denied.
@@ -33,8 +37,13 @@ import jakarta.servlet.http.HttpServletResponse;
  * @since 1.0
  */
 @Component
+@ConditionalOnWebApplication(type = SERVLET)
+@RequiredArgsConstructor
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
 
+    private final AuthDecisionCacheControl authDecisionCacheControl;
+
+
     /**
      * Handles access denied errors by sending a JSON response with error details.
      *
@@ -51,6 +60,8 @@ public class CustomAccessDeniedHandler implements AccessDeniedHandler {
         ApiError apiError = new ApiError(FORBIDDEN,
                 "Access Denied: " + accessDeniedException.getMessage(),
                 request.getRequestURI());
+        // Rejections are not cached, or only briefly, by nginx
+        authDecisionCacheControl.writeRejected(response::setHeader);
         ErrorResponseUtil.writeErrorResponse(response, SC_FORBIDDEN, apiError);
     }
 }
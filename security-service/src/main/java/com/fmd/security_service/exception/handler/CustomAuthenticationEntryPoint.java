@@ -1,9 +1,12 @@
 package com.fmd.security_service.exception.handler;
 
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
 import com.fmd.security_service.dto.ApiError;
 import com.fmd.security_service.utils.ErrorResponseUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -11,6 +14,7 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 
 import static jakarta.servlet.http.HttpServletResponse.SC_UNAUTHORIZED;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 /**
@@ -33,7 +37,12 @@ import static org.springframework.http.HttpStatus.UNAUTHORIZED;
  * @since 1.0
  */
 @Component
+@ConditionalOnWebApplication(type = SERVLET)
+@RequiredArgsConstructor
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final AuthDecisionCacheControl authDecisionCacheControl;
+
     /**
      * Handles authentication failures by sending a JSON response with error
      * details.
@@ -52,6 +61,8 @@ public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint
         ApiError apiError = new ApiError(UNAUTHORIZED,
                 "Authentication failed: " + authException.getMessage(),
                 request.getRequestURI());
+        // Rejections are not cached, or only briefly, by nginx
+        authDecisionCacheControl.writeRejected(response::setHeader);
         ErrorResponseUtil.writeErrorResponse(response, SC_UNAUTHORIZED, apiError);
     }
 }
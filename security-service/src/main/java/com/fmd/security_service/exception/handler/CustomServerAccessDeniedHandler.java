@@ -0,0 +1,53 @@
+package com.fmd.security_service.exception.handler;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
+import com.fmd.security_service.dto.ApiError;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link CustomAccessDeniedHandler}.
+ * <p>
+ * On access denied it responds with HTTP 403 (Forbidden) and the same JSON
+ * {@link ApiError} body as the servlet runtime.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class CustomServerAccessDeniedHandler implements ServerAccessDeniedHandler {
+
+    private final AuthDecisionCacheControl authDecisionCacheControl;
+
+
+    /**
+     * Handles access denied errors by writing a JSON response with error details.
+     *
+     * @param exchange              the current server exchange
+     * @param accessDeniedException the exception that caused the access denial
+     * @return a Mono completing when the response has been written
+     */
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException accessDeniedException) {
+        ApiError apiError = new ApiError(FORBIDDEN,
+                "Access Denied: " + accessDeniedException.getMessage(),
+                exchange.getRequest().getPath().value());
+        // Rejections are not cached, or only briefly, by nginx
+        authDecisionCacheControl.writeRejected(exchange.getResponse().getHeaders()::set);
+        return ServerErrorResponseUtil.writeErrorResponse(exchange.getResponse(), FORBIDDEN.value(), apiError);
+    }
+}
@@ -0,0 +1,54 @@
+package com.fmd.security_service.exception.handler;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
+import com.fmd.security_service.dto.ApiError;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link CustomAuthenticationEntryPoint}.
+ * <p>
+ * On authentication failure it responds with HTTP 401 (Unauthorized) and the
+ * same JSON {@link ApiError} body as the servlet runtime.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@ConditionalOnWebApplication(type = REACTIVE)
+@RequiredArgsConstructor
+public class CustomServerAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+
+    private final AuthDecisionCacheControl authDecisionCacheControl;
+
+
+    /**
+     * Handles authentication failures by writing a JSON response with error
+     * details.
+     *
+     * @param exchange      the current server exchange
+     * @param authException the exception that caused the authentication failure
+     * @return a Mono completing when the response has been written
+     */
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException authException) {
+        ApiError apiError = new ApiError(UNAUTHORIZED,
+                "Authentication failed: " + authException.getMessage(),
+                exchange.getRequest().getPath().value());
+        // Rejections are not cached, or only briefly, by nginx
+        authDecisionCacheControl.writeRejected(exchange.getResponse().getHeaders()::set);
+        return ServerErrorResponseUtil.writeErrorResponse(exchange.getResponse(), UNAUTHORIZED.value(), apiError);
+    }
+}
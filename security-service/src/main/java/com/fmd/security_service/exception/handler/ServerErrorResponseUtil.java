@@ -0,0 +1,52 @@
+package com.fmd.security_service.exception.handler;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import com.fmd.security_service.dto.ApiError;
+import com.fmd.security_service.utils.ErrorResponseUtil;
+
+import lombok.experimental.UtilityClass;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link ErrorResponseUtil#writeErrorResponse}.
+ * <p>
+ * Kept apart from {@link ErrorResponseUtil}, which every servlet error handler
+ * loads, so the servlet runtime never links against Reactor. The body is
+ * encoded by {@link ErrorResponseUtil#toJsonBytes} and written as a single
+ * buffer.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@UtilityClass
+class ServerErrorResponseUtil {
+
+    /**
+     * Writes the given ApiError as a JSON body of a reactive response with the
+     * specified status code.
+     *
+     * @param response   the reactive ServerHttpResponse
+     * @param statusCode the HTTP status code
+     * @param apiError   the ApiError object to write
+     * @return a Mono completing when the body has been written
+     */
+    static Mono<Void> writeErrorResponse(ServerHttpResponse response, int statusCode, ApiError apiError) {
+        byte[] body;
+        try {
+            body = ErrorResponseUtil.toJsonBytes(apiError);
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(HttpStatusCode.valueOf(statusCode));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
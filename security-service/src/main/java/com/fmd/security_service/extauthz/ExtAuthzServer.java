@@ -0,0 +1,98 @@
+package com.fmd.security_service.extauthz;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.fmd.security_service.dto.JwtExtAuthzProperties;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * gRPC server exposing the {@link ExtAuthzService} to Envoy on its own port.
+ * <p>
+ * Envoy keeps a few persistent HTTP/2 connections to the server and
+ * multiplexes all checks over them, so there is no connection setup or
+ * HTTP/1.1 parsing per request as with nginx {@code auth_request}. Calls are
+ * run on virtual threads, like the HTTP endpoints. The server is only started
+ * when {@code security.ext-authz.enabled} is {@code true}, for either runtime.
+ * The bean always exists and {@link #start()} decides from the property, so
+ * AOT processed builds, where conditions on properties are fixed at build
+ * time, can still enable the server at runtime.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class ExtAuthzServer {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final boolean enabled;
+    private final Server server;
+
+    /**
+     * Creates the server for the configured port.
+     *
+     * @param properties      the ext_authz configuration properties
+     * @param extAuthzService the ext_authz authorization service
+     */
+    public ExtAuthzServer(JwtExtAuthzProperties properties, ExtAuthzService extAuthzService) {
+        this.enabled = properties.enabled();
+        this.server = NettyServerBuilder.forPort(properties.port())
+                .executor(executor)
+                .addService(extAuthzService)
+                .build();
+    }
+
+    /**
+     * Starts listening for check requests, if enabled.
+     *
+     * @throws IOException if the server cannot bind its port
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            log.debug("ext_authz gRPC server disabled");
+            return;
+        }
+        server.start();
+        log.info("ext_authz gRPC server listening on port {}", server.getPort());
+    }
+
+    /**
+     * Stops the server, letting in-flight checks complete for a short grace
+     * period.
+     *
+     * @throws InterruptedException if interrupted while waiting for the server
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (enabled) {
+            server.shutdown();
+            if (!server.awaitTermination(5, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the port the server listens on, the bound port if configured
+     * with port 0.
+     *
+     * @return the listening port, or -1 if the server is disabled
+     */
+    public int getPort() {
+        return enabled ? server.getPort() : -1;
+    }
+}
@@ -0,0 +1,192 @@
+package com.fmd.security_service.extauthz;
+
+import static com.fmd.security_service.controller.AuthRequestRouter.AUTH_ROLES_HEADER;
+import static com.fmd.security_service.controller.AuthRequestRouter.AUTH_USER_HEADER;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.authority.RoleMaskAuthorizationManager;
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
+import com.fmd.security_service.controller.AuthRequestRouter;
+import com.fmd.security_service.dto.ApiError;
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.projection.ClaimProjection;
+import com.fmd.security_service.security.JwtAuthentication;
+import com.fmd.security_service.service.JwtAuthenticationService;
+import com.fmd.security_service.utils.ErrorResponseUtil;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.rpc.Status;
+
+import io.envoyproxy.envoy.config.core.v3.HeaderValue;
+import io.envoyproxy.envoy.config.core.v3.HeaderValueOption;
+import io.envoyproxy.envoy.service.auth.v3.AuthorizationGrpc;
+import io.envoyproxy.envoy.service.auth.v3.CheckRequest;
+import io.envoyproxy.envoy.service.auth.v3.CheckResponse;
+import io.envoyproxy.envoy.service.auth.v3.DeniedHttpResponse;
+import io.envoyproxy.envoy.service.auth.v3.OkHttpResponse;
+import io.envoyproxy.envoy.type.v3.StatusCode;
+import io.grpc.Status.Code;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Envoy {@code ext_authz} authorization service, the gRPC counterpart of
+ * {@link AuthRequestRouter}.
+ * <p>
+ * Each {@code Check} call takes the {@code authorization} header of the
+ * checked HTTP request and authenticates it through the
+ * {@link JwtAuthenticationService}, so tokens are validated by the same
+ * {@code JwtUtil} checks, token cache and revocation list as the HTTP
+ * endpoints. The access rule is the one of the auth_request endpoint, any of
+ * the {@code Admin} or {@code User} roles, decided by role mask.
+ * </p>
+ * <p>
+ * An accepted request is answered with an {@link OkHttpResponse} adding the
+ * {@value AuthRequestRouter#AUTH_USER_HEADER}, {@value AuthRequestRouter#AUTH_ROLES_HEADER}
+ * and projected claim headers to the upstream request, overwriting any the
+ * client sent. A rejected one is answered with a {@link DeniedHttpResponse}
+ * carrying the same 401 or 403 JSON body as the HTTP endpoints.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class ExtAuthzService extends AuthorizationGrpc.AuthorizationImplBase {
+
+    /**
+     * Header of the checked request carrying the JWT token. Envoy passes
+     * header names in lower case.
+     */
+    static final String AUTHORIZATION_HEADER = "authorization";
+
+    // gRPC status of an allowed check, shared by every OK response
+    private static final Status OK = Status.newBuilder().setCode(Code.OK.value()).build();
+
+    private final JwtAuthenticationService jwtAuthenticationService;
+    private final ClaimProjection claimProjection;
+    private final AuthDecisionCacheControl authDecisionCacheControl;
+    private final RoleMaskAuthorizationManager<CheckRequest> accessRule;
+
+    /**
+     * Creates the service, compiling the access rule.
+     *
+     * @param jwtAuthenticationService the service validating JWT tokens
+     * @param claimProjection          the projection of claims into headers
+     * @param authDecisionCacheControl the caching headers of auth decisions
+     * @param authorityRegistry        the registry assigning role bits
+     */
+    public ExtAuthzService(JwtAuthenticationService jwtAuthenticationService, ClaimProjection claimProjection,
+            AuthDecisionCacheControl authDecisionCacheControl, AuthorityRegistry authorityRegistry) {
+        this.jwtAuthenticationService = jwtAuthenticationService;
+        this.claimProjection = claimProjection;
+        this.authDecisionCacheControl = authDecisionCacheControl;
+        this.accessRule = RoleMaskAuthorizationManager.hasAnyRole(authorityRegistry, "Admin", "User");
+    }
+
+    /**
+     * Decides whether the HTTP request described by the check request is
+     * allowed.
+     *
+     * @param request          the attributes of the checked HTTP request
+     * @param responseObserver the observer of the check response
+     */
+    @Override
+    public void check(CheckRequest request, StreamObserver<CheckResponse> responseObserver) {
+        responseObserver.onNext(decide(request));
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * Authenticates and authorizes the checked HTTP request.
+     *
+     * @param request the attributes of the checked HTTP request
+     * @return the OK or denied check response
+     */
+    CheckResponse decide(CheckRequest request) {
+        var httpRequest = request.getAttributes().getRequest().getHttp();
+        JwtAuthentication authentication;
+        try {
+            var cachedAuthentication = jwtAuthenticationService.authenticate(
+                    httpRequest.getHeadersMap().get(AUTHORIZATION_HEADER));
+            if (cachedAuthentication == null) {
+                return denied(HttpStatus.UNAUTHORIZED, "Authentication failed: no valid JWT token",
+                        httpRequest.getPath());
+            }
+            authentication = jwtAuthenticationService.createAuthenticationToken(cachedAuthentication, () -> null);
+        } catch (JwtAuthenticationException | JwtParseException e) {
+            // Rejections are recorded by the auth access log of the authentication service
+            log.debug("ext_authz check rejected JWT token : {}", e.getMessage());
+            return denied(HttpStatus.UNAUTHORIZED, "Authentication failed: " + e.getMessage(),
+                    httpRequest.getPath());
+        }
+
+        if (!accessRule.check(() -> authentication, request).isGranted()) {
+            log.debug("ext_authz check denied for user [{}]", authentication.getName());
+            return denied(HttpStatus.FORBIDDEN, "Access denied: insufficient permissions", httpRequest.getPath());
+        }
+        log.debug("ext_authz check accepted for user [{}]", authentication.getName());
+
+        var okResponse = OkHttpResponse.newBuilder()
+                .addHeaders(header(AUTH_USER_HEADER, authentication.getName()))
+                .addHeaders(header(AUTH_ROLES_HEADER, authentication.getRoleSet().getJoined()));
+        if (!claimProjection.isEmpty()) {
+            // Read from the payload cached with the token, the JWT is not decoded again
+            claimProjection.project(authentication.getPayload(),
+                    (name, value) -> okResponse.addHeaders(header(name, value)));
+        }
+        return CheckResponse.newBuilder()
+                .setStatus(OK)
+                .setOkResponse(okResponse)
+                .build();
+    }
+
+    /**
+     * Builds the denied check response for a rejected request.
+     *
+     * @param status  the HTTP status returned to the client, 401 or 403
+     * @param message the error message of the body
+     * @param path    the path of the checked request
+     * @return the denied check response
+     */
+    private CheckResponse denied(HttpStatus status, String message, String path) {
+        var statusCode = status == HttpStatus.FORBIDDEN ? StatusCode.Forbidden : StatusCode.Unauthorized;
+        var deniedResponse = DeniedHttpResponse.newBuilder()
+                .setStatus(io.envoyproxy.envoy.type.v3.HttpStatus.newBuilder().setCode(statusCode));
+        authDecisionCacheControl.writeRejected((name, value) -> deniedResponse.addHeaders(header(name, value)));
+        try {
+            // The body is not modified after encoding, so it is wrapped without a copy
+            byte[] body = ErrorResponseUtil.toJsonBytes(new ApiError(status, message, path));
+            deniedResponse.addHeaders(header("Content-Type", "application/json"))
+                    .setBodyBytes(UnsafeByteOperations.unsafeWrap(body));
+        } catch (IOException e) {
+            log.error("Failed to encode ext_authz error body", e);
+        }
+        Code code = status == HttpStatus.FORBIDDEN ? Code.PERMISSION_DENIED : Code.UNAUTHENTICATED;
+        return CheckResponse.newBuilder()
+                .setStatus(Status.newBuilder().setCode(code.value()).setMessage(message))
+                .setDeniedResponse(deniedResponse)
+                .build();
+    }
+
+    /**
+     * Builds a header for a check response. In ext_authz responses the header
+     * replaces any header of the same name.
+     *
+     * @param name  the header name
+     * @param value the header value
+     * @return the header option
+     */
+    private static HeaderValueOption header(String name, String value) {
+        return HeaderValueOption.newBuilder()
+                .setHeader(HeaderValue.newBuilder().setKey(name).setValue(value))
+                .build();
+    }
+}
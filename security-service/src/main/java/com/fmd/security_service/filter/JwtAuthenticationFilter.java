@@ -1,38 +1,56 @@
 package com.fmd.security_service.filter;
 
 import java.io.IOException;
-import java.util.List;
 
+import org.springframework.http.HttpMethod;
 import org.springframework.lang.NonNull;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fmd.security_service.exception.JwtAuthenticationException;
 import com.fmd.security_service.exception.JwtParseException;
-import com.fmd.security_service.utils.JwtUtil;
+import com.fmd.security_service.security.PublicPathMatcher;
+import com.fmd.security_service.service.JwtAuthenticationService;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Filter for JWT authentication. Extracts and validates JWT from the
  * Authorization header,
- * and sets the authentication in the security context if valid.
+ * and sets the authentication in the security context if valid. Validated
+ * tokens are cached until they expire, and the authentication wraps the cached
+ * payload and role set without copying them. Requests to public paths, such as
+ * the health probes, skip the filter without looking at the header.
  * 
  * @author Shailesh Halor
  * @version 1.0
  * @since 1.0
  */
 @Slf4j
+@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private final JwtAuthenticationService jwtAuthenticationService;
+    private final PublicPathMatcher publicPaths;
+
+    /**
+     * Skips requests to public paths, which need no authentication.
+     *
+     * @param request the HTTP request
+     * @return {@code true} if the request path is public
+     */
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return publicPaths.matches(HttpMethod.valueOf(request.getMethod()), path);
+    }
+
     /**
      * Filters each request to check for a valid JWT token in the Authorization
      * header.
@@ -53,9 +71,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             authenticateRequest(request);
 
         } catch (JwtAuthenticationException e) {
-            log.warn("Error while validating JWT token : {}", e.getMessage());
+            // Rejections are written to the auth access log
+            log.debug("Error while validating JWT token : {}", e.getMessage());
         } catch (JwtParseException e) {
-            log.warn("Error while parsing JWT token : {}", e.getMessage());
+            log.debug("Error while parsing JWT token : {}", e.getMessage());
         } catch (Exception e) {
             log.error("Unhandled error in JWT filter", e);
         }
@@ -67,34 +86,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * Authenticates the request by validating the JWT token in the Authorization
      * header.
+     * <p>
+     * Tokens already validated by an earlier request are served from the token
+     * cache together with their prebuilt authorities.
      *
      * @param request the HTTP request
      */
-    private static void authenticateRequest(HttpServletRequest request) {
+    private void authenticateRequest(HttpServletRequest request) {
         log.debug("Processing JWT authentication filter");
 
         // Retrieve the Authorization header from the request
         var authHeader = request.getHeader("Authorization");
 
-        log.info("Authenticating request with JWT token");
-        // Validate and extract the JWT payload from the Authorization header
-        var jwtPayload = JwtUtil.validateAndExtractPayload(authHeader);
-        log.info("User [{}] authenticated successfully", jwtPayload.subject());
+        log.debug("Authenticating request with JWT token");
+        // Validate the token, or serve it from the token cache
+        var cachedAuthentication = jwtAuthenticationService.authenticate(authHeader);
+        if (cachedAuthentication == null) {
+            // Missing, oversized or recently rejected token, nothing to log at warn again
+            log.debug("Request not authenticated, no valid JWT token");
+            return;
+        }
+        var jwtPayload = cachedAuthentication.payload();
+        log.debug("User [{}] authenticated successfully", jwtPayload.subject());
 
         // If subject is present, authentication is not already set, and token is valid,
         // set authentication
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
             log.debug("Setting authentication for user: [{}]", jwtPayload.subject());
 
-            // Convert roles to GrantedAuthority list
-            List<SimpleGrantedAuthority> authorities = jwtPayload.roles() == null ? List.of()
-                    : jwtPayload.roles().stream().map(SimpleGrantedAuthority::new).toList();
-
-            // Create a new User object with the subject and roles from the JWT payload
-            var user = new User(jwtPayload.subject(), "", authorities);
-            // Create an authentication token and set it in the security context
-            var authToken = new UsernamePasswordAuthenticationToken(user, null, authorities);
-            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            // Create an authentication token and set it in the security context,
+            // the request details are only read if something asks for them
+            var authToken = jwtAuthenticationService.createAuthenticationToken(cachedAuthentication,
+                    () -> new WebAuthenticationDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authToken);
         } else {
             // If subject is present but token is invalid or authentication is already set
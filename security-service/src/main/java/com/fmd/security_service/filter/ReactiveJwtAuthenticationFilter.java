@@ -0,0 +1,103 @@
+package com.fmd.security_service.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.security.PublicPathMatcher;
+import com.fmd.security_service.service.JwtAuthenticationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link JwtAuthenticationFilter} for the reactive
+ * (Netty) profile.
+ * <p>
+ * Validates the JWT from the Authorization header through the shared
+ * {@link JwtAuthenticationService} and, if valid, continues the chain with the
+ * authentication in the reactive security context. Invalid or missing tokens
+ * continue unauthenticated, leaving the access rules to reject the request
+ * with a 401, exactly like the servlet filter. Exchanges to public paths
+ * continue without looking at the header.
+ * </p>
+ * <p>
+ * Validation runs inline on the event loop: it is CPU-bound, does no I/O and
+ * is served from the token cache after the first request.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final JwtAuthenticationService jwtAuthenticationService;
+    private final PublicPathMatcher publicPaths;
+
+    /**
+     * Filters each exchange to check for a valid JWT token in the Authorization
+     * header.
+     *
+     * @param exchange the current server exchange
+     * @param chain    the web filter chain
+     * @return a Mono completing when the rest of the chain has completed
+     */
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        var request = exchange.getRequest();
+        if (publicPaths.matches(request.getMethod(), request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        Authentication authentication;
+        try {
+            authentication = authenticate(exchange);
+            if (authentication == null) {
+                // Missing, oversized or recently rejected token
+                return chain.filter(exchange);
+            }
+        } catch (JwtAuthenticationException e) {
+            // Rejections are written to the auth access log
+            log.debug("Error while validating JWT token : {}", e.getMessage());
+            return chain.filter(exchange);
+        } catch (JwtParseException e) {
+            log.debug("Error while parsing JWT token : {}", e.getMessage());
+            return chain.filter(exchange);
+        } catch (Exception e) {
+            log.error("Unhandled error in JWT filter", e);
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    /**
+     * Validates the JWT token in the Authorization header of the exchange.
+     *
+     * @param exchange the current server exchange
+     * @return the authentication for the token, or {@code null} if there is no
+     *         valid token
+     */
+    private Authentication authenticate(ServerWebExchange exchange) {
+        var authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        var cachedAuthentication = jwtAuthenticationService.authenticate(authHeader);
+        if (cachedAuthentication == null) {
+            log.debug("Request not authenticated, no valid JWT token");
+            return null;
+        }
+        log.debug("User [{}] authenticated successfully", cachedAuthentication.payload().subject());
+        return jwtAuthenticationService.createAuthenticationToken(cachedAuthentication, () -> null);
+    }
+}
@@ -0,0 +1,173 @@
+package com.fmd.security_service.metrics;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtExpiredException;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.exception.JwtRevokedException;
+import com.fmd.security_service.exception.JwtSignatureException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Micrometer meters for JWT authentication.
+ * <p>
+ * Records two meters, both tagged with an {@code outcome}:
+ * <ul>
+ * <li>{@value #AUTHENTICATION_METRIC}: a counter of every authentication
+ * attempt, including cache hits, missing tokens and replayed rejected
+ * tokens</li>
+ * <li>{@value #VALIDATION_METRIC}: a timer with a latency histogram of the
+ * full validation done on a token cache miss (decoding, signature
+ * verification, JSON parsing and claim checks)</li>
+ * </ul>
+ * All meters are registered up front, one per outcome, so recording is a map
+ * lookup and an atomic update with no tag handling on the request path.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class JwtMetrics {
+
+    /**
+     * Name of the authentication attempt counter.
+     */
+    public static final String AUTHENTICATION_METRIC = "security.jwt.authentication";
+
+    /**
+     * Name of the validation timer.
+     */
+    public static final String VALIDATION_METRIC = "security.jwt.validation";
+
+    /**
+     * Outcome of an authentication attempt or a validation.
+     */
+    public enum Outcome {
+        /** Token validated, or served from the token cache. */
+        AUTHENTICATED(false),
+        /** Token validated on a cache miss. */
+        VALID(true),
+        /** No Authorization header. */
+        MISSING(false),
+        /** Authorization header over the size limit. */
+        OVERSIZED(false),
+        /** Token rejected earlier and answered from the rejected token cache. */
+        REPLAYED(false),
+        /** Token could not be parsed. */
+        MALFORMED(true),
+        /** Token has expired. */
+        EXPIRED(true),
+        /** Token id is on the revocation list. */
+        REVOKED(true),
+        /** Token signature could not be verified. */
+        SIGNATURE(true),
+        /** Token claims are not valid. */
+        INVALID(true),
+        /** Unexpected error while authenticating. */
+        ERROR(true);
+
+        private final boolean validation;
+        private final String tag;
+
+        Outcome(boolean validation) {
+            this.validation = validation;
+            this.tag = name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Returns the value of the {@code outcome} tag.
+         *
+         * @return the tag value
+         */
+        public String tag() {
+            return tag;
+        }
+    }
+
+    private final Map<Outcome, Counter> authentications = new EnumMap<>(Outcome.class);
+    private final Map<Outcome, Timer> validations = new EnumMap<>(Outcome.class);
+
+    /**
+     * Registers the meters for all outcomes with the given registry.
+     *
+     * @param registry the meter registry
+     */
+    public JwtMetrics(MeterRegistry registry) {
+        log.debug("Registering JWT authentication metrics");
+        for (Outcome outcome : Outcome.values()) {
+            if (outcome != Outcome.VALID) {
+                authentications.put(outcome, Counter.builder(AUTHENTICATION_METRIC)
+                        .description("JWT authentication attempts by outcome")
+                        .tag("outcome", outcome.tag())
+                        .register(registry));
+            }
+            if (outcome.validation) {
+                validations.put(outcome, Timer.builder(VALIDATION_METRIC)
+                        .description("Time to validate a JWT token not found in the token cache")
+                        .tag("outcome", outcome.tag())
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(500))
+                        .maximumExpectedValue(Duration.ofMillis(100))
+                        .register(registry));
+            }
+        }
+    }
+
+    /**
+     * Counts an authentication attempt.
+     *
+     * @param outcome the outcome of the attempt, not {@link Outcome#VALID}
+     */
+    public void recordAuthentication(Outcome outcome) {
+        authentications.get(outcome).increment();
+    }
+
+    /**
+     * Records the duration of a validation started at the given time.
+     *
+     * @param outcome    the outcome of the validation
+     * @param startNanos the {@link System#nanoTime()} when validation started
+     */
+    public void recordValidation(Outcome outcome, long startNanos) {
+        validations.get(outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Maps an exception thrown while validating a token to its outcome.
+     *
+     * @param e the exception
+     * @return the outcome for the exception
+     */
+    public static Outcome outcomeOf(RuntimeException e) {
+        if (e instanceof JwtParseException) {
+            return Outcome.MALFORMED;
+        }
+        if (e instanceof JwtExpiredException) {
+            return Outcome.EXPIRED;
+        }
+        if (e instanceof JwtRevokedException) {
+            return Outcome.REVOKED;
+        }
+        if (e instanceof JwtSignatureException) {
+            return Outcome.SIGNATURE;
+        }
+        if (e instanceof JwtAuthenticationException) {
+            return Outcome.INVALID;
+        }
+        return Outcome.ERROR;
+    }
+}
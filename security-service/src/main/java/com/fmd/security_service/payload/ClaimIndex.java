@@ -0,0 +1,253 @@
+package com.fmd.security_service.payload;
+
+/**
+ * Locates the top-level {@code exp} and {@code sub} claims of a JWT payload
+ * without parsing it.
+ * <p>
+ * The JSON is fed in blocks of up to 64 bytes as bitmasks of its quotes,
+ * backslashes, opening and closing brackets and colons, bit {@code i} standing
+ * for byte {@code offset + i}. A caller can build the masks with vector
+ * compares; {@link #scan(int)} builds them one byte at a time. String contents
+ * are masked out with a prefix XOR of the quotes, the nesting depth at each
+ * remaining colon is counted with {@link Long#bitCount(long)}, and only the
+ * keys before colons at depth 1 are looked at. A claim that appears more than
+ * once resolves to its last occurrence, like the JSON parse.
+ * </p>
+ * <p>
+ * Answers are conservative: payloads with escapes, or that do not look like a
+ * single object, are reported {@link #UNKNOWN}, as are values other than plain
+ * integers and strings. The payload is still parsed and validated in full
+ * afterwards.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+final class ClaimIndex {
+
+    /**
+     * The claim is present but could not be read without parsing, or the
+     * payload could not be indexed.
+     */
+    static final long UNKNOWN = Long.MIN_VALUE;
+
+    /**
+     * The claim is absent, {@code null} or, for {@code sub}, empty.
+     */
+    static final long ABSENT = -1L;
+
+    /**
+     * Maximum number of bytes per block, one per bit of the masks.
+     */
+    static final int BLOCK = Long.SIZE;
+
+    private final byte[] json;
+    private final int length;
+
+    private int depth;
+    // All ones while a string continues into the next block
+    private long stringCarry;
+    private boolean escaped;
+    private int expValue = -1;
+    private int subValue = -1;
+
+    /**
+     * Creates an empty index over the JSON.
+     *
+     * @param json   the array holding the UTF-8 encoded JSON
+     * @param length the number of JSON bytes from index 0
+     */
+    ClaimIndex(byte[] json, int length) {
+        this.json = json;
+        this.length = length;
+    }
+
+    /**
+     * Feeds the next block of the JSON.
+     *
+     * @param offset      the index of the first byte of the block
+     * @param width       the number of bytes in the block, at most {@link #BLOCK}
+     * @param quotes      the {@code "} bytes
+     * @param backslashes the {@code \} bytes
+     * @param opens       the opening brace and {@code [} bytes
+     * @param closes      the closing brace and {@code ]} bytes
+     * @param colons      the {@code :} bytes
+     */
+    void accept(int offset, int width, long quotes, long backslashes, long opens, long closes, long colons) {
+        escaped |= backslashes != 0;
+        // Without escapes every quote opens or closes a string, bits are set from an opening quote on
+        long strings = prefixXor(quotes) ^ stringCarry;
+        stringCarry = -((strings >>> (width - 1)) & 1L);
+        opens &= ~strings;
+        closes &= ~strings;
+        colons &= ~strings;
+        while (colons != 0) {
+            long before = Long.lowestOneBit(colons) - 1;
+            if (depth + Long.bitCount(opens & before) - Long.bitCount(closes & before) == 1) {
+                key(offset + Long.numberOfTrailingZeros(colons));
+            }
+            colons &= colons - 1;
+        }
+        depth += Long.bitCount(opens) - Long.bitCount(closes);
+    }
+
+    /**
+     * Feeds the JSON from the given index to the end, building the masks one
+     * byte at a time.
+     *
+     * @param from the index of the first byte not fed yet
+     */
+    void scan(int from) {
+        for (int offset = from; offset < length; offset += BLOCK) {
+            int width = Math.min(BLOCK, length - offset);
+            long quotes = 0;
+            long backslashes = 0;
+            long opens = 0;
+            long closes = 0;
+            long colons = 0;
+            for (int i = 0; i < width; i++) {
+                long bit = 1L << i;
+                switch (json[offset + i]) {
+                    case '"' -> quotes |= bit;
+                    case '\\' -> backslashes |= bit;
+                    case '{', '[' -> opens |= bit;
+                    case '}', ']' -> closes |= bit;
+                    case ':' -> colons |= bit;
+                    default -> {
+                        // Not needed by the index
+                    }
+                }
+            }
+            accept(offset, width, quotes, backslashes, opens, closes, colons);
+        }
+    }
+
+    /**
+     * Returns the {@code exp} claim in seconds since the epoch.
+     *
+     * @return the expiration, {@link #ABSENT} or {@link #UNKNOWN}
+     */
+    long expiration() {
+        if (!isObject()) {
+            return UNKNOWN;
+        }
+        if (expValue < 0) {
+            return ABSENT;
+        }
+        int i = skipWhitespace(expValue);
+        if (isLiteral(i, "null")) {
+            return ABSENT;
+        }
+        // Up to 18 digits, so the value cannot overflow
+        long value = 0;
+        int digitsStart = i;
+        while (i < length && i - digitsStart < 18 && json[i] >= '0' && json[i] <= '9') {
+            value = value * 10 + (json[i++] - '0');
+        }
+        i = skipWhitespace(i);
+        if (i == digitsStart || i >= length || (json[i] != ',' && json[i] != '}')) {
+            // A fraction, exponent, sign, string or overlong number is left to the parser
+            return UNKNOWN;
+        }
+        return value;
+    }
+
+    /**
+     * Locates the {@code sub} claim, if it is a non-empty string.
+     *
+     * @return the start of the string value, {@link #ABSENT} if the claim is
+     *         absent, {@code null} or empty, or {@link #UNKNOWN}
+     */
+    long subject() {
+        if (!isObject()) {
+            return UNKNOWN;
+        }
+        if (subValue < 0) {
+            return ABSENT;
+        }
+        int i = skipWhitespace(subValue);
+        if (isLiteral(i, "null") || isLiteral(i, "\"\"")) {
+            return ABSENT;
+        }
+        return i < length && json[i] == '"' ? i : UNKNOWN;
+    }
+
+    /**
+     * Returns whether the JSON fed was a whole object without escapes, so
+     * that its depth 1 keys are its top-level keys.
+     *
+     * @return {@code true} if the claims can be answered
+     */
+    private boolean isObject() {
+        if (escaped || depth != 0 || stringCarry != 0) {
+            return false;
+        }
+        int first = skipWhitespace(0);
+        int last = length - 1;
+        while (last > first && isWhitespace(json[last])) {
+            last--;
+        }
+        return first < last && json[first] == '{' && json[last] == '}';
+    }
+
+    /**
+     * Records the top-level key before a colon, if it is {@code exp} or
+     * {@code sub}.
+     *
+     * @param colon the index of the colon
+     */
+    private void key(int colon) {
+        int end = colon - 1;
+        while (end >= 0 && isWhitespace(json[end])) {
+            end--;
+        }
+        // Without escapes, a quote four bytes before the closing one starts a three byte key
+        if (end < 4 || json[end] != '"' || json[end - 4] != '"') {
+            return;
+        }
+        if (json[end - 3] == 'e' && json[end - 2] == 'x' && json[end - 1] == 'p') {
+            expValue = colon + 1;
+        } else if (json[end - 3] == 's' && json[end - 2] == 'u' && json[end - 1] == 'b') {
+            subValue = colon + 1;
+        }
+    }
+
+    /**
+     * Sets every bit that has an odd number of set bits at or below it.
+     *
+     * @param bits the bits
+     * @return the prefix XOR of the bits
+     */
+    private static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        return bits ^ bits << 32;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+
+    private int skipWhitespace(int i) {
+        while (i < length && isWhitespace(json[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private boolean isLiteral(int i, String literal) {
+        if (i + literal.length() > length) {
+            return false;
+        }
+        for (int j = 0; j < literal.length(); j++) {
+            if (json[i + j] != literal.charAt(j)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+package com.fmd.security_service.payload;
+
+/**
+ * The decoded JSON of a JWT payload, held in the first {@code length} bytes
+ * of {@code json}. Decoding in place leaves the array longer than the JSON.
+ *
+ * @param json   the array holding the UTF-8 encoded JSON
+ * @param length the number of JSON bytes from index 0
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public record DecodedPayload(byte[] json, int length) {
+}
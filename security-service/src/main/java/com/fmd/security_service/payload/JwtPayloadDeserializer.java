@@ -0,0 +1,132 @@
+package com.fmd.security_service.payload;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fmd.security_service.dto.JwtPayload;
+
+/**
+ * Streaming deserializer of {@link JwtPayload}.
+ * <p>
+ * Reads the registered claims into the record components and skips every
+ * other claim without parsing its value, unless it is one of the claims the
+ * deserializer was created to retain. Only retained claims end up in
+ * {@link JwtPayload#otherClaims()}, so parsing a token allocates no map at
+ * all when no claims are retained. A claim that appears more than once
+ * resolves to its last occurrence.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public final class JwtPayloadDeserializer extends StdDeserializer<JwtPayload> {
+
+    private static final JavaType ROLES_TYPE = TypeFactory.defaultInstance()
+            .constructCollectionType(List.class, String.class);
+
+    private final Set<String> retainedClaims;
+
+    /**
+     * Creates the deserializer.
+     *
+     * @param retainedClaims the JWT claim names to keep in {@link JwtPayload#otherClaims()} when present
+     */
+    public JwtPayloadDeserializer(Collection<String> retainedClaims) {
+        super(JwtPayload.class);
+        this.retainedClaims = Set.copyOf(retainedClaims);
+    }
+
+    /**
+     * Builds a reader for JWT payloads that retains the given claims.
+     * <p>
+     * ObjectReader instances are immutable and thread-safe, so the reader can
+     * be built once and shared.
+     * </p>
+     *
+     * @param retainedClaims the JWT claim names to keep in {@link JwtPayload#otherClaims()} when present
+     * @return the payload reader
+     */
+    public static ObjectReader reader(Collection<String> retainedClaims) {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new SimpleModule().addDeserializer(JwtPayload.class,
+                        new JwtPayloadDeserializer(retainedClaims)))
+                .build()
+                .readerFor(JwtPayload.class);
+    }
+
+    /**
+     * Reads a JSON object into a payload.
+     *
+     * @param parser  the parser positioned at the start of the object
+     * @param context the deserialization context
+     * @return the payload
+     * @throws IOException if the JSON is not an object or a claim has the
+     *                     wrong type
+     */
+    @Override
+    public JwtPayload deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (JwtPayload) context.handleUnexpectedToken(JwtPayload.class, parser);
+        }
+        String issuer = null;
+        Instant issuedAt = null;
+        Instant expiration = null;
+        String audience = null;
+        String subject = null;
+        String name = null;
+        List<String> roles = null;
+        String tokenId = null;
+        Map<String, Object> otherClaims = null;
+
+        for (String claimName = parser.nextFieldName(); claimName != null; claimName = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (claimName) {
+                case "iss" -> issuer = read(parser, context, token, String.class);
+                case "iat" -> issuedAt = read(parser, context, token, Instant.class);
+                case "exp" -> expiration = read(parser, context, token, Instant.class);
+                case "aud" -> audience = read(parser, context, token, String.class);
+                case "sub" -> subject = read(parser, context, token, String.class);
+                case "name" -> name = read(parser, context, token, String.class);
+                case "roles" -> roles = token == JsonToken.VALUE_NULL ? null : context.readValue(parser, ROLES_TYPE);
+                case "jti" -> tokenId = read(parser, context, token, String.class);
+                default -> {
+                    if (!retainedClaims.contains(claimName)) {
+                        parser.skipChildren();
+                    } else if (token == JsonToken.VALUE_NULL) {
+                        if (otherClaims != null) {
+                            otherClaims.remove(claimName);
+                        }
+                    } else {
+                        if (otherClaims == null) {
+                            otherClaims = new HashMap<>();
+                        }
+                        otherClaims.put(claimName, context.readValue(parser, Object.class));
+                    }
+                }
+            }
+        }
+        return new JwtPayload(issuer, issuedAt, expiration, audience, subject, name, roles, tokenId, otherClaims);
+    }
+
+    private static <T> T read(JsonParser parser, DeserializationContext context, JsonToken token, Class<T> type)
+            throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : context.readValue(parser, type);
+    }
+}
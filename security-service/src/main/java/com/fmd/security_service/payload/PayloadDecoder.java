@@ -0,0 +1,36 @@
+package com.fmd.security_service.payload;
+
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtParseException;
+
+/**
+ * Decoder of the base64url payload segment of a JWT into its JSON bytes.
+ * <p>
+ * The implementation is chosen once at startup by {@link PayloadDecoders}:
+ * the SIMD {@link VectorPayloadDecoder} when the {@code jdk.incubator.vector}
+ * module is available, the {@link ScalarPayloadDecoder} otherwise.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public interface PayloadDecoder {
+
+    /**
+     * Decodes the payload segment {@code token[start, end)}.
+     * <p>
+     * An implementation may also locate claims in the decoded JSON and reject
+     * the token before it is parsed, with the exception the full validation
+     * would throw for it.
+     * </p>
+     *
+     * @param token the Authorization header value holding the JWT
+     * @param start the index of the first payload character (inclusive)
+     * @param end   the index of the last payload character (exclusive)
+     * @return the decoded JSON bytes
+     * @throws JwtParseException          if the segment is not valid base64url
+     * @throws JwtAuthenticationException if the token is rejected early
+     */
+    DecodedPayload decode(String token, int start, int end);
+}
@@ -0,0 +1,51 @@
+package com.fmd.security_service.payload;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chooses the {@link PayloadDecoder} for the running JVM.
+ * <p>
+ * The {@link VectorPayloadDecoder} is used when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector} and the platform has 128-bit
+ * vectors, the {@link ScalarPayloadDecoder} otherwise. The vector decoder is
+ * loaded by name, so its references to the incubator module are never linked
+ * when the module is missing.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@UtilityClass
+public class PayloadDecoders {
+
+    /**
+     * Name of the incubator module of the Vector API.
+     */
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final String VECTOR_DECODER = "com.fmd.security_service.payload.VectorPayloadDecoder";
+
+    /**
+     * Returns the fastest payload decoder available.
+     *
+     * @return the vector decoder if available, the scalar decoder otherwise
+     */
+    public static PayloadDecoder best() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            log.info("Module {} not available, decoding JWT payloads with the scalar decoder", VECTOR_MODULE);
+            return new ScalarPayloadDecoder();
+        }
+        try {
+            var decoder = (PayloadDecoder) Class.forName(VECTOR_DECODER).getDeclaredConstructor().newInstance();
+            log.info("Decoding JWT payloads with the {} vector decoder", VECTOR_MODULE);
+            return decoder;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            log.warn("Vector payload decoder not usable, decoding JWT payloads with the scalar decoder: {}",
+                    e.toString());
+            return new ScalarPayloadDecoder();
+        }
+    }
+}
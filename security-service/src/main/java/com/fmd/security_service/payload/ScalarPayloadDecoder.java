@@ -0,0 +1,29 @@
+package com.fmd.security_service.payload;
+
+import com.fmd.security_service.utils.Base64UrlUtil;
+
+/**
+ * Payload decoder decoding one 4-character group at a time with
+ * {@link Base64UrlUtil}, leaving every claim check to the JSON parse. Used
+ * when the {@code jdk.incubator.vector} module is not available.
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ScalarPayloadDecoder implements PayloadDecoder {
+
+    /**
+     * Decodes the payload segment into an array of exactly its decoded length.
+     *
+     * @param token the Authorization header value holding the JWT
+     * @param start the index of the first payload character (inclusive)
+     * @param end   the index of the last payload character (exclusive)
+     * @return the decoded JSON bytes
+     */
+    @Override
+    public DecodedPayload decode(String token, int start, int end) {
+        byte[] json = Base64UrlUtil.decode(token, start, end);
+        return new DecodedPayload(json, json.length);
+    }
+}
@@ -0,0 +1,203 @@
+package com.fmd.security_service.payload;
+
+import static jdk.incubator.vector.VectorOperators.EQ;
+import static jdk.incubator.vector.VectorOperators.GE;
+import static jdk.incubator.vector.VectorOperators.LE;
+import static jdk.incubator.vector.VectorOperators.LSHL;
+import static jdk.incubator.vector.VectorOperators.LSHR;
+
+import java.time.Instant;
+
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtExpiredException;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.utils.Base64UrlUtil;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Payload decoder using the {@code jdk.incubator.vector} API.
+ * <p>
+ * The payload is decoded in place, 16 characters to 12 bytes per step: the
+ * characters are validated and mapped to their 6-bit values with lane-wise
+ * range compares, packed four to a 24-bit group with shifts, and the three
+ * bytes of each group gathered with a single shuffle. The last few characters
+ * are decoded by {@link Base64UrlUtil}.
+ * </p>
+ * <p>
+ * The decoded JSON is then compared a full vector at a time against its
+ * quotes, backslashes, brackets and colons, and the resulting masks feed a
+ * {@link ClaimIndex} locating the top-level {@code exp} and {@code sub}
+ * claims. A token that is expired, or has no
+ * expiration or subject, is rejected here with the exception the full
+ * validation would throw, without being parsed. Payloads that are malformed
+ * and also expired are then reported as expired.
+ * </p>
+ * <p>
+ * This class must only be loaded when the module is available, see
+ * {@link PayloadDecoders}.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public final class VectorPayloadDecoder implements PayloadDecoder {
+
+    // 128-bit vectors for decoding, the shuffle stays within one SSE/NEON register
+    private static final VectorSpecies<Byte> DECODE_SPECIES = ByteVector.SPECIES_128;
+    // The widest vectors of the platform for the scan, at most 64 lanes to fit the masks in a long
+    private static final VectorSpecies<Byte> SCAN_SPECIES =
+            ByteVector.SPECIES_PREFERRED.length() > ClaimIndex.BLOCK ? ByteVector.SPECIES_512
+                    : ByteVector.SPECIES_PREFERRED;
+
+    // Gathers bytes 2, 1, 0 of each little-endian 32-bit group, the last 4 lanes are unused
+    private static final VectorShuffle<Byte> PACK = VectorShuffle.fromValues(DECODE_SPECIES,
+            2, 1, 0, 6, 5, 4, 10, 9, 8, 14, 13, 12, 0, 0, 0, 0);
+
+    /**
+     * Creates the decoder.
+     *
+     * @throws IllegalStateException if the platform has no 128-bit vectors
+     */
+    public VectorPayloadDecoder() {
+        if (SCAN_SPECIES.vectorBitSize() < DECODE_SPECIES.vectorBitSize()) {
+            throw new IllegalStateException("No 128-bit vector support, preferred vector size is "
+                    + SCAN_SPECIES.vectorBitSize() + " bits");
+        }
+    }
+
+    /**
+     * Decodes the payload segment in place and rejects it early if the claims
+     * located by the scan already fail validation.
+     *
+     * @param token the Authorization header value holding the JWT
+     * @param start the index of the first payload character (inclusive)
+     * @param end   the index of the last payload character (exclusive)
+     * @return the decoded JSON bytes, in an array longer than the JSON
+     */
+    @Override
+    public DecodedPayload decode(String token, int start, int end) {
+        // Ignore trailing padding, at most two characters are allowed
+        int limit = end;
+        while (limit > start && end - limit < 2 && token.charAt(limit - 1) == '=') {
+            limit--;
+        }
+        int length = Base64UrlUtil.decodedLength(start, limit);
+
+        // Load the characters straight from the token, those outside ISO-8859-1 become '?', rejected below
+        byte[] buffer = new byte[limit - start];
+        for (int i = 0; i < buffer.length; i++) {
+            char c = token.charAt(start + i);
+            buffer[i] = c <= 0xFF ? (byte) c : (byte) '?';
+        }
+        int src = 0;
+        int dst = 0;
+        // Each step writes 16 bytes from dst, which never passes the characters not yet read
+        for (; src + DECODE_SPECIES.length() <= buffer.length; src += 16, dst += 12) {
+            decodeBlock(buffer, src, dst, start);
+        }
+        Base64UrlUtil.decode(token, start + src, limit, buffer, dst);
+
+        rejectEarly(index(buffer, length));
+        return new DecodedPayload(buffer, length);
+    }
+
+    /**
+     * Decodes 16 base64url characters into 12 bytes.
+     *
+     * @param buffer the characters, receiving the decoded bytes
+     * @param src    the index of the first character
+     * @param dst    the index of the first decoded byte
+     * @param start  the index of the payload in the token, for error messages
+     * @throws JwtParseException if a character is not in the base64url alphabet
+     */
+    private static void decodeBlock(byte[] buffer, int src, int dst, int start) {
+        ByteVector in = ByteVector.fromArray(DECODE_SPECIES, buffer, src);
+        VectorMask<Byte> upper = in.compare(GE, (byte) 'A').and(in.compare(LE, (byte) 'Z'));
+        VectorMask<Byte> lower = in.compare(GE, (byte) 'a').and(in.compare(LE, (byte) 'z'));
+        VectorMask<Byte> digit = in.compare(GE, (byte) '0').and(in.compare(LE, (byte) '9'));
+        VectorMask<Byte> dash = in.compare(EQ, (byte) '-');
+        VectorMask<Byte> underscore = in.compare(EQ, (byte) '_');
+        VectorMask<Byte> valid = upper.or(lower).or(digit).or(dash).or(underscore);
+        if (!valid.allTrue()) {
+            throw new JwtParseException("Illegal base64url character at index "
+                    + (start + src + valid.not().firstTrue()));
+        }
+
+        // Offset from each character to its 6-bit value
+        ByteVector offset = ByteVector.zero(DECODE_SPECIES)
+                .blend((byte) -'A', upper)
+                .blend((byte) (26 - 'a'), lower)
+                .blend((byte) (52 - '0'), digit)
+                .blend((byte) (62 - '-'), dash)
+                .blend((byte) (63 - '_'), underscore);
+
+        // Each 32-bit lane holds 4 sextets s0..s3 in its bytes, pack them to s0 s1 s2 s3 in 24 bits
+        IntVector sextets = in.add(offset).reinterpretAsInts();
+        IntVector groups = sextets.lanewise(LSHL, 18).and(0xFC0000)
+                .or(sextets.lanewise(LSHL, 4).and(0x3F000))
+                .or(sextets.lanewise(LSHR, 10).and(0xFC0))
+                .or(sextets.lanewise(LSHR, 24));
+        groups.reinterpretAsBytes().rearrange(PACK).intoArray(buffer, dst);
+    }
+
+    /**
+     * Builds the claim index of the JSON from vector compares, a full vector
+     * at a time. The last vector may reach past the JSON into the spare end of
+     * the array; bytes left over when it cannot are scanned one at a time.
+     *
+     * @param json   the array holding the JSON
+     * @param length the number of JSON bytes
+     * @return the claim index of the JSON
+     */
+    private static ClaimIndex index(byte[] json, int length) {
+        var index = new ClaimIndex(json, length);
+        int lanes = SCAN_SPECIES.length();
+        int i = 0;
+        for (; i < length && i + lanes <= json.length; i += lanes) {
+            int width = Math.min(lanes, length - i);
+            long inRange = width == Long.SIZE ? -1L : (1L << width) - 1;
+            ByteVector block = ByteVector.fromArray(SCAN_SPECIES, json, i);
+            // '[' and ']' differ from '{' and '}' only in bit 0x20
+            ByteVector folded = block.or((byte) 0x20);
+            index.accept(i, width,
+                    block.compare(EQ, (byte) '"').toLong() & inRange,
+                    block.compare(EQ, (byte) '\\').toLong() & inRange,
+                    folded.compare(EQ, (byte) '{').toLong() & inRange,
+                    folded.compare(EQ, (byte) '}').toLong() & inRange,
+                    block.compare(EQ, (byte) ':').toLong() & inRange);
+        }
+        index.scan(i);
+        return index;
+    }
+
+    /**
+     * Rejects the token if the located claims fail validation, in the order
+     * the full validation checks them.
+     *
+     * @param index the claim index of the payload
+     * @throws JwtAuthenticationException if the expiration or subject is
+     *                                    missing
+     * @throws JwtExpiredException        if the token has expired
+     */
+    private static void rejectEarly(ClaimIndex index) {
+        long expiration = index.expiration();
+        if (expiration == ClaimIndex.ABSENT) {
+            throw new JwtAuthenticationException("JWT payload expiration date is null");
+        }
+        if (expiration == ClaimIndex.UNKNOWN) {
+            return;
+        }
+        if (Instant.ofEpochSecond(expiration).isBefore(Instant.now())) {
+            throw new JwtExpiredException("JWT token has expired");
+        }
+        if (index.subject() == ClaimIndex.ABSENT) {
+            throw new JwtAuthenticationException("JWT payload subject is null or empty");
+        }
+    }
+}
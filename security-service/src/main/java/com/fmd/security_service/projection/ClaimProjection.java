@@ -0,0 +1,177 @@
+package com.fmd.security_service.projection;
+
+import static com.fmd.security_service.controller.AuthRequestRouter.AUTH_ROLES_HEADER;
+import static com.fmd.security_service.controller.AuthRequestRouter.AUTH_USER_HEADER;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fmd.security_service.dto.JwtClaimProjectionProperties;
+import com.fmd.security_service.dto.JwtPayload;
+import com.fmd.security_service.payload.JwtPayloadDeserializer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Projection of configured JWT claims into auth_request response headers.
+ * <p>
+ * The projection is compiled once at startup from
+ * {@link JwtClaimProjectionProperties}: each claim name is resolved to a
+ * plain accessor on {@link JwtPayload}, so projecting a request reads the
+ * claims directly, without reflection or a JSON mapper. nginx forwards the
+ * headers upstream (via {@code auth-response-headers}), so downstream services
+ * get the claims without decoding the JWT again. Tokens are parsed with the
+ * projection's {@link #getPayloadReader() payload reader}, which retains the
+ * configured claims; all other claims without a record component are skipped.
+ * </p>
+ * <p>
+ * Header values are written as text: timestamps as seconds since the epoch,
+ * lists joined with commas. Claims the token does not have, JSON objects, and
+ * values containing control characters are left out.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class ClaimProjection {
+
+    private final ProjectedClaim[] projectedClaims;
+
+    /**
+     * Reader for JWT payloads that retains the projected claims.
+     */
+    @Getter
+    private final ObjectReader payloadReader;
+
+    /**
+     * Compiles the projection from the configured claim headers.
+     *
+     * @param properties the claim projection configuration properties
+     * @throws IllegalStateException if a header name is invalid or reserved
+     */
+    public ClaimProjection(JwtClaimProjectionProperties properties) {
+        this.projectedClaims = properties.headers().entrySet().stream()
+                .map(ClaimProjection::compile)
+                .toArray(ProjectedClaim[]::new);
+        this.payloadReader = JwtPayloadDeserializer.reader(properties.headers().keySet());
+        log.info("Projecting {} JWT claim(s) into response headers: {}", projectedClaims.length,
+                properties.headers());
+    }
+
+    /**
+     * Returns whether no claims are projected.
+     *
+     * @return {@code true} if no claims are configured
+     */
+    public boolean isEmpty() {
+        return projectedClaims.length == 0;
+    }
+
+    /**
+     * Writes the projected claims of a payload as headers.
+     *
+     * @param payload the validated JWT payload
+     * @param headers the consumer of header name and value, e.g.
+     *                {@code HttpHeaders::set}
+     */
+    public void project(JwtPayload payload, BiConsumer<String, String> headers) {
+        for (ProjectedClaim projectedClaim : projectedClaims) {
+            String value = toHeaderValue(projectedClaim.accessor().apply(payload));
+            if (value != null) {
+                headers.accept(projectedClaim.header(), value);
+            } else {
+                log.trace("Claim for header [{}] not projected", projectedClaim.header());
+            }
+        }
+    }
+
+    /**
+     * Converts a claim value to a header value.
+     *
+     * @param value the claim value
+     * @return the header value, or {@code null} if the claim is not projected
+     */
+    static String toHeaderValue(Object value) {
+        String text = switch (value) {
+            case null -> null;
+            case String string -> string;
+            case Instant instant -> Long.toString(instant.getEpochSecond());
+            case Number number -> number.toString();
+            case Boolean bool -> bool.toString();
+            case Collection<?> collection -> collection.stream()
+                    .map(ClaimProjection::toHeaderValue)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.joining(","));
+            default -> null;
+        };
+        return text == null || hasControlCharacter(text) ? null : text;
+    }
+
+    /**
+     * Checks a header value for control characters, which could split or
+     * corrupt the response headers.
+     *
+     * @param text the header value
+     * @return {@code true} if the value contains a control character
+     */
+    private static boolean hasControlCharacter(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c < 0x20 && c != '\t') || c == 0x7f) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compiles one configured claim into its header and accessor.
+     *
+     * @param entry the claim name and header name
+     * @return the compiled claim
+     */
+    private static ProjectedClaim compile(Map.Entry<String, String> entry) {
+        String header = entry.getValue() == null ? "" : entry.getValue().strip();
+        if (header.isEmpty() || !header.chars().allMatch(ClaimProjection::isTokenCharacter)) {
+            throw new IllegalStateException("Invalid header name [" + header + "] for JWT claim " + entry.getKey());
+        }
+        if (header.equalsIgnoreCase(AUTH_USER_HEADER) || header.equalsIgnoreCase(AUTH_ROLES_HEADER)) {
+            throw new IllegalStateException("Header " + header + " is reserved, cannot project JWT claim "
+                    + entry.getKey());
+        }
+        return new ProjectedClaim(header, JwtPayload.claimAccessor(entry.getKey()));
+    }
+
+    /**
+     * Checks whether a character may appear in an HTTP header name (RFC 9110
+     * token).
+     *
+     * @param c the character
+     * @return {@code true} if the character is a token character
+     */
+    private static boolean isTokenCharacter(int c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')
+                || "!#$%&'*+-.^_`|~".indexOf(c) >= 0;
+    }
+
+    /**
+     * A claim projected into a header.
+     *
+     * @param header   the response header name
+     * @param accessor the function reading the claim from a payload
+     */
+    private record ProjectedClaim(String header, Function<JwtPayload, Object> accessor) {
+    }
+}
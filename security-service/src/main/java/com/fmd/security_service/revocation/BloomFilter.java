@@ -0,0 +1,108 @@
+package com.fmd.security_service.revocation;
+
+import java.util.Collection;
+
+/**
+ * Immutable Bloom filter over token ids.
+ * <p>
+ * Answers "definitely not present" or "possibly present" with a configurable
+ * false positive rate. Built once from the full set of ids, then only read, so
+ * it needs no synchronization. Probes use double hashing of a single 64-bit
+ * hash of the id, so a lookup does not allocate.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * Builds a filter holding the given ids, sized for the given false positive
+     * rate.
+     *
+     * @param ids               the ids to add
+     * @param falsePositiveRate the target false positive rate, between 0 and 1
+     */
+    BloomFilter(Collection<String> ids, double falsePositiveRate) {
+        int expected = Math.max(1, ids.size());
+        // Optimal size m = -n ln p / (ln 2)^2 and hash count k = m / n ln 2
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.max(64, Math.min(optimalBits, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expected * Math.log(2)));
+        this.bits = new long[(bitCount + 63) >>> 6];
+        for (String id : ids) {
+            add(id);
+        }
+    }
+
+    /**
+     * Returns whether the id may have been added. {@code false} is always
+     * correct; {@code true} may be a false positive.
+     *
+     * @param id the id to probe
+     * @return false if the id is definitely not in the filter
+     */
+    boolean mightContain(String id) {
+        long hash = hash(id);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of hash functions, i.e. bits probed per lookup.
+     *
+     * @return the hash count
+     */
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * Returns the size of the filter in bits.
+     *
+     * @return the bit count
+     */
+    int bitCount() {
+        return bitCount;
+    }
+
+    private void add(String id) {
+        long hash = hash(id);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the id, finished with the MurmurHash3 mixer so both
+     * halves are well distributed.
+     */
+    private static long hash(String id) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
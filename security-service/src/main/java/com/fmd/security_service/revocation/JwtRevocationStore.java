@@ -0,0 +1,267 @@
+package com.fmd.security_service.revocation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.fmd.security_service.dto.JwtRevocationProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Store of revoked token ids ({@code jti} claims), loaded from a local file.
+ * <p>
+ * The current {@link RevocationList} is held behind a volatile reference, so
+ * lookups are lock-free and never see a half-loaded list. The file is watched
+ * for changes and reloaded on a background thread; a new list is built off to
+ * the side and swapped in atomically. If a reload fails, the previous list
+ * stays in effect.
+ * </p>
+ * <p>
+ * The file holds one token id per line; blank lines and lines starting with
+ * {@code #} are ignored. When no file is configured, no token is revoked.
+ * </p>
+ * <p>
+ * The watcher reacts to changes of the file and to swaps of the {@code ..data}
+ * symlink through which Kubernetes ConfigMap and Secret mounts publish their
+ * files, and reads the file through its current real path. A burst of events
+ * is handled once it has been quiet for the settle time, and the file is only
+ * loaded once two reads a settle time apart match, so a list caught halfway
+ * through a non-atomic write is never published.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class JwtRevocationStore {
+
+    // Symlink swapped by the kubelet to update the files of a ConfigMap or Secret mount
+    private static final Path DATA_LINK = Path.of("..data");
+    // Reads of a file that keeps changing before it is given up until the next event
+    private static final int MAX_SETTLE_ATTEMPTS = 20;
+
+    private final Path file;
+    private final double falsePositiveRate;
+    private final Duration settleTime;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile RevocationList revocationList = RevocationList.EMPTY;
+    private WatchService watchService;
+    private Thread watcher;
+
+    /**
+     * Creates the revocation store from the configured file.
+     *
+     * @param properties     the revocation configuration properties
+     * @param eventPublisher the publisher notified after each reload
+     */
+    public JwtRevocationStore(JwtRevocationProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.file = properties.file() == null ? null : properties.file().toAbsolutePath();
+        this.falsePositiveRate = properties.falsePositiveRate();
+        this.settleTime = properties.settleTime();
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Returns whether the token id is revoked.
+     *
+     * @param tokenId the {@code jti} claim, may be null
+     * @return true if the token id is on the revocation list
+     */
+    public boolean isRevoked(String tokenId) {
+        return revocationList.isRevoked(tokenId);
+    }
+
+    /**
+     * Returns the number of revoked token ids currently loaded.
+     *
+     * @return the size of the current revocation list
+     */
+    public int size() {
+        return revocationList.size();
+    }
+
+    /**
+     * Loads the revocation list and starts watching the file for changes.
+     *
+     * @throws IOException if the file directory cannot be watched
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (file == null) {
+            log.info("No token revocation list configured, revocation checks are disabled");
+            return;
+        }
+        reload();
+
+        Path directory = file.getParent();
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        watcher = Thread.ofPlatform()
+                .name("jwt-revocation-watcher")
+                .daemon()
+                .start(this::watch);
+        log.info("Watching token revocation list {}", file);
+    }
+
+    /**
+     * Stops watching the file.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    /**
+     * Reads the file and swaps in the new revocation list. Keeps the current
+     * list if the file cannot be read.
+     *
+     * @return true if a new list was loaded
+     */
+    public boolean reload() {
+        if (file == null) {
+            return false;
+        }
+        try {
+            publish(read());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load token revocation list {}, keeping {} revoked token(s): {}",
+                    file, revocationList.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Reloads the list whenever the file or the {@code ..data} symlink
+     * changes, until the watch service is closed.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                boolean changed = isChange(watchService.take());
+                // Wait for the burst of events of a write or symlink swap to end
+                WatchKey key;
+                while ((key = watchService.poll(settleTime.toNanos(), TimeUnit.NANOSECONDS)) != null) {
+                    changed |= isChange(key);
+                }
+                if (changed) {
+                    reloadWhenSettled();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.debug("Stopped watching token revocation list {}", file);
+        }
+    }
+
+    /**
+     * Returns whether the events of a watch key concern the file, and resets
+     * the key.
+     *
+     * @param key the signalled watch key
+     * @return true if the file or the {@code ..data} symlink changed, or
+     *         events were lost
+     */
+    private boolean isChange(WatchKey key) {
+        Path fileName = file.getFileName();
+        boolean changed = key.pollEvents().stream()
+                .anyMatch(event -> event.kind() == StandardWatchEventKinds.OVERFLOW
+                        || fileName.equals(event.context()) || DATA_LINK.equals(event.context()));
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Reads the file until two reads a settle time apart match, then swaps in
+     * the new revocation list. Keeps the current list if the file cannot be
+     * read or does not settle.
+     *
+     * @throws InterruptedException if the watcher is stopped while waiting
+     */
+    private void reloadWhenSettled() throws InterruptedException {
+        try {
+            Snapshot previous = read();
+            for (int attempt = 0; attempt < MAX_SETTLE_ATTEMPTS; attempt++) {
+                Thread.sleep(settleTime);
+                Snapshot current = read();
+                if (current.sameAs(previous)) {
+                    publish(current);
+                    return;
+                }
+                previous = current;
+            }
+            log.warn("Token revocation list {} kept changing, keeping {} revoked token(s)",
+                    file, revocationList.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load token revocation list {}, keeping {} revoked token(s): {}",
+                    file, revocationList.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the file through its current real path.
+     *
+     * @return the real path and content of the file
+     * @throws IOException if the file cannot be read
+     */
+    private Snapshot read() throws IOException {
+        Path realPath = file.toRealPath();
+        return new Snapshot(realPath, Files.readAllBytes(realPath));
+    }
+
+    /**
+     * Parses a read of the file and swaps in the new revocation list.
+     *
+     * @param snapshot the read of the file
+     */
+    private void publish(Snapshot snapshot) {
+        Set<String> revokedIds = new HashSet<>();
+        new String(snapshot.content(), StandardCharsets.UTF_8).lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .forEach(revokedIds::add);
+
+        revocationList = new RevocationList(revokedIds, falsePositiveRate);
+        log.info("Loaded {} revoked token(s) from {}", revokedIds.size(), snapshot.realPath());
+        eventPublisher.publishEvent(new RevocationListReloadedEvent(revokedIds.size()));
+    }
+
+    /**
+     * One read of the revocation list file.
+     *
+     * @param realPath the real path the file was read from
+     * @param content  the bytes read
+     */
+    private record Snapshot(Path realPath, byte[] content) {
+
+        private boolean sameAs(Snapshot other) {
+            return realPath.equals(other.realPath) && Arrays.equals(content, other.content);
+        }
+    }
+}
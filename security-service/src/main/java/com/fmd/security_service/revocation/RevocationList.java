@@ -0,0 +1,61 @@
+package com.fmd.security_service.revocation;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the revoked token ids ({@code jti} claims).
+ * <p>
+ * Lookups probe a {@link BloomFilter} first, which clears almost every
+ * non-revoked id without touching the exact set. Only ids the filter reports
+ * as possibly revoked are confirmed against the exact set, so false positives
+ * never reject a valid token.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RevocationList {
+
+    /**
+     * Revocation list without any revoked ids.
+     */
+    public static final RevocationList EMPTY = new RevocationList(Set.of(), 0.01);
+
+    private final Set<String> revokedIds;
+    private final BloomFilter bloomFilter;
+
+    /**
+     * Builds a revocation list for the given ids.
+     *
+     * @param revokedIds        the revoked token ids
+     * @param falsePositiveRate the target false positive rate of the Bloom filter
+     */
+    public RevocationList(Collection<String> revokedIds, double falsePositiveRate) {
+        this.revokedIds = Set.copyOf(revokedIds);
+        this.bloomFilter = new BloomFilter(this.revokedIds, falsePositiveRate);
+    }
+
+    /**
+     * Returns whether the token id is revoked.
+     *
+     * @param tokenId the {@code jti} claim, may be null
+     * @return true if the id is revoked
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || revokedIds.isEmpty()) {
+            return false;
+        }
+        return bloomFilter.mightContain(tokenId) && revokedIds.contains(tokenId);
+    }
+
+    /**
+     * Returns the number of revoked ids.
+     *
+     * @return the number of revoked ids
+     */
+    public int size() {
+        return revokedIds.size();
+    }
+}
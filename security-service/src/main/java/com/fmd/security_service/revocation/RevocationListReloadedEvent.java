@@ -0,0 +1,16 @@
+package com.fmd.security_service.revocation;
+
+/**
+ * Application event published after a new revocation list has been swapped in.
+ * <p>
+ * Listeners holding on to previously validated tokens, such as the token
+ * cache, must drop them, since a cached token may have just been revoked.
+ * </p>
+ *
+ * @param revokedCount the number of revoked token ids in the new list
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public record RevocationListReloadedEvent(int revokedCount) {
+}
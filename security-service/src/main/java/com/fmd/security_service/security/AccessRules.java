@@ -0,0 +1,87 @@
+package com.fmd.security_service.security;
+
+import java.util.List;
+
+import org.springframework.http.HttpMethod;
+
+import com.fmd.security_service.controller.AuthRequestRouter;
+import com.fmd.security_service.controller.IntrospectionRouter;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Access rules of the service, shared by {@link SecurityConfig} and
+ * {@link ReactiveSecurityConfig}.
+ * <p>
+ * Both runtimes register the public paths as {@code permitAll} rules and each
+ * role rule with a {@link com.fmd.security_service.authority.RoleMaskAuthorizationManager}
+ * for its roles, in the order given here, before requiring authentication for
+ * all other requests. Rules for endpoints a runtime does not serve still apply
+ * to it, so both runtimes answer every path the same way.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@UtilityClass
+public class AccessRules {
+
+    /**
+     * Paths open without authentication, registered as {@code permitAll}
+     * rules and skipped by the JWT filters.
+     */
+    public static final PublicPathMatcher PUBLIC_PATHS = new PublicPathMatcher(List.of(
+            PublicPathMatcher.permit("/actuator/**"),
+            PublicPathMatcher.permit("/health"),
+            PublicPathMatcher.permit("/error"),
+            // Allow all OPTIONS requests (CORS preflight)
+            PublicPathMatcher.permit(HttpMethod.OPTIONS, "/**")));
+
+    /**
+     * Role of the gateways and services allowed to introspect tokens. End
+     * users never hold it, so they cannot have arbitrary tokens decoded.
+     */
+    public static final String INTROSPECTION_ROLE = "Gateway";
+
+    /**
+     * Paths requiring one of a set of roles.
+     *
+     * @param method   the method of the requests the rule applies to
+     * @param patterns the path patterns the rule applies to
+     * @param roles    the roles, any of which grants access
+     */
+    public record RoleRule(HttpMethod method, List<String> patterns, List<String> roles) {
+
+        /**
+         * Returns the path patterns as an array, for the request matcher
+         * registries.
+         *
+         * @return the path patterns
+         */
+        public String[] patternArray() {
+            return patterns.toArray(String[]::new);
+        }
+
+        /**
+         * Returns the roles as an array, for the role mask authorization
+         * manager.
+         *
+         * @return the roles
+         */
+        public String[] roleArray() {
+            return roles.toArray(String[]::new);
+        }
+    }
+
+    /**
+     * Role rules of the API endpoints.
+     */
+    public static final List<RoleRule> ROLE_RULES = List.of(
+            // Authentication check and the nginx auth_request endpoint
+            new RoleRule(HttpMethod.GET, List.of("/api/authenticate", AuthRequestRouter.AUTH_REQUEST_PATH),
+                    List.of("Admin", "User")),
+            // Batch token introspection, for gateways and services only
+            new RoleRule(HttpMethod.POST, List.of(IntrospectionRouter.INTROSPECT_PATH),
+                    List.of(INTROSPECTION_ROLE)));
+}
@@ -0,0 +1,200 @@
+package com.fmd.security_service.security;
+
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.fmd.security_service.authority.RoleSet;
+import com.fmd.security_service.cache.CachedAuthentication;
+import com.fmd.security_service.dto.JwtPayload;
+
+/**
+ * Immutable authentication of a request by a validated JWT token.
+ * <p>
+ * Wraps the cached {@link JwtPayload} and its shared {@link RoleSet} directly,
+ * so authenticating a request allocates only this object: no {@code User}
+ * principal, no copied authority list and no eagerly built details. The
+ * principal is the payload and the name is its subject; the token itself is
+ * not retained, so there are no credentials.
+ * </p>
+ * <p>
+ * Details are built by the given source the first time they are read. The
+ * source may read the current request, so details must be read, if at all,
+ * while the request is being processed.
+ * </p>
+ * <p>
+ * The authentication lives only as long as its request: the service is
+ * stateless and never stores it in a session. It is therefore not
+ * serializable, although {@link Authentication} is; serializing it fails
+ * instead of producing an instance without principal or authorities. Two
+ * authentications are equal if they wrap the same token, that is an equal
+ * payload and the same interned role set; details are derived from the
+ * request and not compared.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public final class JwtAuthentication implements Authentication {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient JwtPayload payload;
+    private final transient RoleSet roleSet;
+    private transient Supplier<?> detailsSource;
+    private transient volatile Object details;
+
+    /**
+     * Creates the authentication for a validated token.
+     *
+     * @param cachedAuthentication the validated payload with its role set
+     * @param detailsSource        builds the details on first access, may
+     *                             return null
+     */
+    public JwtAuthentication(CachedAuthentication cachedAuthentication, Supplier<?> detailsSource) {
+        this.payload = cachedAuthentication.payload();
+        this.roleSet = cachedAuthentication.roleSet();
+        this.detailsSource = detailsSource;
+    }
+
+    /**
+     * Returns the validated JWT payload.
+     *
+     * @return the payload
+     */
+    public JwtPayload getPayload() {
+        return payload;
+    }
+
+    /**
+     * Returns the shared role set of the token.
+     *
+     * @return the role set
+     */
+    public RoleSet getRoleSet() {
+        return roleSet;
+    }
+
+    /**
+     * Returns the shared, immutable authorities of the token roles.
+     *
+     * @return the authorities
+     */
+    @Override
+    public List<SimpleGrantedAuthority> getAuthorities() {
+        return roleSet.getAuthorities();
+    }
+
+    /**
+     * Returns null, the token is not retained.
+     *
+     * @return null
+     */
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    /**
+     * Returns the details, building them on first access.
+     *
+     * @return the details, may be null
+     */
+    @Override
+    public Object getDetails() {
+        Object result = details;
+        Supplier<?> source = detailsSource;
+        if (result == null && source != null) {
+            // Racing threads build equal details, either result may be kept
+            result = source.get();
+            details = result;
+            detailsSource = null;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the validated JWT payload.
+     *
+     * @return the payload
+     */
+    @Override
+    public JwtPayload getPrincipal() {
+        return payload;
+    }
+
+    /**
+     * Returns true, only validated tokens are wrapped.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isAuthenticated() {
+        return true;
+    }
+
+    /**
+     * Rejects marking the authentication as not authenticated, it is immutable.
+     *
+     * @param isAuthenticated must be true
+     * @throws IllegalArgumentException if isAuthenticated is false
+     */
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (!isAuthenticated) {
+            throw new IllegalArgumentException("JwtAuthentication is immutable and always authenticated");
+        }
+    }
+
+    /**
+     * Returns the subject of the token.
+     *
+     * @return the subject
+     */
+    @Override
+    public String getName() {
+        return payload.subject();
+    }
+
+    /**
+     * Returns whether the other object is an authentication of the same token.
+     *
+     * @param other the object to compare with
+     * @return true if the payloads are equal and the role sets the same
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof JwtAuthentication that
+                && payload.equals(that.payload)
+                && roleSet == that.roleSet;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(payload, roleSet);
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthentication[name=" + getName() + ", roles=" + roleSet + "]";
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws NotSerializableException {
+        throw new NotSerializableException(JwtAuthentication.class.getName() + " is bound to its request");
+    }
+
+    @Serial
+    private void readObject(ObjectInputStream in) throws NotSerializableException {
+        throw new NotSerializableException(JwtAuthentication.class.getName() + " is bound to its request");
+    }
+}
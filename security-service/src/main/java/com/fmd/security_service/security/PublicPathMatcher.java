@@ -0,0 +1,181 @@
+package com.fmd.security_service.security;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * Matches requests against the paths that are open without authentication.
+ * <p>
+ * The rules are the single source of the {@code permitAll} rules of
+ * {@link SecurityConfig} and {@link ReactiveSecurityConfig}, which register
+ * each of them with the access rules, and of the JWT filters, which skip all
+ * token work for the requests they match. A rule is a literal path, matched
+ * exactly, or a literal path followed by {@code /**}, matching the path and
+ * everything below it, optionally restricted to one HTTP method.
+ * </p>
+ * <p>
+ * The rules are compiled to a character trie once. A request is matched in a
+ * single walk along its path, one node per character, whatever the number of
+ * rules. Each node carries the methods permitted for paths ending there and
+ * for paths below it, as bits of a method mask.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public final class PublicPathMatcher {
+
+    private static final String SUBTREE = "/**";
+    private static final List<HttpMethod> METHODS = List.of(HttpMethod.values());
+    // Bit of the methods not listed in HttpMethod, permitted only by rules for any method
+    private static final int OTHER_METHOD = 1 << 31;
+    private static final int ANY_METHOD = -1;
+
+    private final List<Rule> rules;
+    private final Node root = new Node();
+
+    /**
+     * A path open without authentication.
+     *
+     * @param method  the method of the requests permitted, or {@code null} for
+     *                any method
+     * @param pattern the path, optionally ending in {@code /**}
+     */
+    public record Rule(HttpMethod method, String pattern) {
+    }
+
+    /**
+     * Compiles the rules into a matcher.
+     *
+     * @param rules the public paths
+     * @throws IllegalArgumentException if a pattern is not a literal path,
+     *                                  optionally ending in {@code /**}
+     */
+    public PublicPathMatcher(List<Rule> rules) {
+        this.rules = List.copyOf(rules);
+        for (var rule : this.rules) {
+            compile(rule);
+        }
+    }
+
+    /**
+     * Creates a rule for a path open to requests of any method.
+     *
+     * @param pattern the path, optionally ending in {@code /**}
+     * @return the rule
+     */
+    public static Rule permit(String pattern) {
+        return new Rule(null, pattern);
+    }
+
+    /**
+     * Creates a rule for a path open to requests of one method.
+     *
+     * @param method  the method of the requests permitted
+     * @param pattern the path, optionally ending in {@code /**}
+     * @return the rule
+     */
+    public static Rule permit(HttpMethod method, String pattern) {
+        return new Rule(method, pattern);
+    }
+
+    /**
+     * Returns the rules, in the order they were given, for registration with
+     * the access rules.
+     *
+     * @return the rules
+     */
+    public List<Rule> rules() {
+        return rules;
+    }
+
+    /**
+     * Returns whether a request is to a public path.
+     *
+     * @param method the request method
+     * @param path   the request path within the application
+     * @return {@code true} if a rule permits the request
+     */
+    public boolean matches(HttpMethod method, String path) {
+        int bit = bit(method);
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '/' && (node.subtreeMethods & bit) != 0) {
+                return true;
+            }
+            node = node.child(c);
+            if (node == null) {
+                return false;
+            }
+        }
+        return ((node.exactMethods | node.subtreeMethods) & bit) != 0;
+    }
+
+    /**
+     * Adds the path of a rule to the trie.
+     *
+     * @param rule the rule
+     */
+    private void compile(Rule rule) {
+        String pattern = rule.pattern();
+        boolean subtree = pattern.endsWith(SUBTREE);
+        String path = subtree ? pattern.substring(0, pattern.length() - SUBTREE.length()) : pattern;
+        if (!pattern.startsWith("/") || path.indexOf('*') >= 0 || path.indexOf('{') >= 0 || path.indexOf('?') >= 0) {
+            throw new IllegalArgumentException("Public path must be a literal path, optionally ending in "
+                    + SUBTREE + ": " + pattern);
+        }
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            node = node.childOrAdd(path.charAt(i));
+        }
+        int methods = rule.method() == null ? ANY_METHOD : bit(rule.method());
+        if (subtree) {
+            node.subtreeMethods |= methods;
+        } else {
+            node.exactMethods |= methods;
+        }
+    }
+
+    private static int bit(HttpMethod method) {
+        int index = METHODS.indexOf(method);
+        return index < 0 ? OTHER_METHOD : 1 << index;
+    }
+
+    /**
+     * Node of the trie, reached by the characters of a path prefix.
+     */
+    private static final class Node {
+        // Children in insertion order, a public path branches only a few ways per character
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        // Methods permitted for the path ending at this node
+        private int exactMethods;
+        // Methods permitted for the path ending at this node and every path below it
+        private int subtreeMethods;
+
+        private Node child(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrAdd(char c) {
+            Node child = child(c);
+            if (child == null) {
+                child = new Node();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                labels[labels.length - 1] = c;
+                children = Arrays.copyOf(children, children.length + 1);
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.fmd.security_service.security;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.authority.RoleMaskAuthorizationManager;
+import com.fmd.security_service.exception.handler.CustomServerAccessDeniedHandler;
+import com.fmd.security_service.exception.handler.CustomServerAuthenticationEntryPoint;
+import com.fmd.security_service.filter.ReactiveJwtAuthenticationFilter;
+import com.fmd.security_service.service.JwtAuthenticationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Security configuration for the reactive (WebFlux on Netty) runtime.
+ * <p>
+ * Active with the {@code reactive} profile, which switches the application to
+ * a reactive web application. It mirrors {@link SecurityConfig}: the same JWT
+ * validation, the same {@link AccessRules}, compiled to role masks, and the same
+ * 401/403 JSON error bodies.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = REACTIVE)
+public class ReactiveSecurityConfig {
+
+    private final CustomServerAuthenticationEntryPoint customServerAuthenticationEntryPoint;
+    private final CustomServerAccessDeniedHandler customServerAccessDeniedHandler;
+    private final JwtAuthenticationService jwtAuthenticationService;
+    private final AuthorityRegistry authorityRegistry;
+
+    /**
+     * Configures the reactive security filter chain with JWT authentication.
+     *
+     * @param http the ServerHttpSecurity to modify
+     * @return the configured SecurityWebFilterChain
+     */
+    @Bean
+    public SecurityWebFilterChain reactiveSecurityFilterChain(ServerHttpSecurity http) {
+        log.debug("Configuring reactive security filter chain");
+        http.csrf(ServerHttpSecurity.CsrfSpec::disable);
+        http.httpBasic(ServerHttpSecurity.HttpBasicSpec::disable);
+        http.formLogin(ServerHttpSecurity.FormLoginSpec::disable);
+        http.logout(ServerHttpSecurity.LogoutSpec::disable);
+
+        // Stateless, the security context is never stored between requests
+        http.securityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        // Same JSON error responses as the servlet runtime
+        http.exceptionHandling(exception -> {
+            exception.authenticationEntryPoint(customServerAuthenticationEntryPoint);
+            exception.accessDeniedHandler(customServerAccessDeniedHandler);
+        });
+
+        // Same authorization rules as SecurityConfig
+        http.authorizeExchange(exchange -> {
+            AccessRules.PUBLIC_PATHS.rules()
+                    .forEach(rule -> exchange.pathMatchers(rule.method(), rule.pattern()).permitAll());
+            // Roles required by the API endpoints, each compiled to a mask once
+            AccessRules.ROLE_RULES.forEach(rule -> exchange.pathMatchers(rule.method(), rule.patternArray())
+                    .access(RoleMaskAuthorizationManager.<AuthorizationContext>hasAnyRole(authorityRegistry,
+                            rule.roleArray()).reactive()));
+            // Require authentication for all other requests
+            exchange.anyExchange().authenticated();
+        });
+
+        http.addFilterAt(new ReactiveJwtAuthenticationFilter(jwtAuthenticationService, AccessRules.PUBLIC_PATHS),
+                SecurityWebFiltersOrder.AUTHENTICATION);
+        return http.build();
+    }
+}
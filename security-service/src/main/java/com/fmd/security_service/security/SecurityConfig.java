@@ -1,20 +1,25 @@
 package com.fmd.security_service.security;
 
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.authority.RoleMaskAuthorizationManager;
 import com.fmd.security_service.exception.handler.CustomAccessDeniedHandler;
 import com.fmd.security_service.exception.handler.CustomAuthenticationEntryPoint;
 import com.fmd.security_service.filter.JwtAuthenticationFilter;
+import com.fmd.security_service.service.JwtAuthenticationService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +30,16 @@ import lombok.extern.slf4j.Slf4j;
  * This class configures the security settings for the application, including
  * authentication and authorization rules.
  * </p>
+ * <p>
+ * Role requirements are compiled to role masks when the filter chain is built
+ * and checked by {@link RoleMaskAuthorizationManager}, instead of
+ * {@code hasAnyAuthority} rules or method security. The paths and roles are
+ * defined in {@link AccessRules}, shared with the reactive runtime.
+ * </p>
+ * <p>
+ * Only active on the servlet (Tomcat) runtime, see
+ * {@link ReactiveSecurityConfig} for the reactive profile.
+ * </p>
  * 
  * @author Shailesh Halor
  * @version 1.0
@@ -33,11 +48,13 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 @Configuration
-@EnableMethodSecurity
+@ConditionalOnWebApplication(type = SERVLET)
 public class SecurityConfig {
 
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
+    private final JwtAuthenticationService jwtAuthenticationService;
+    private final AuthorityRegistry authorityRegistry;
 
     /**
      * Configures the security filter chain to permit all requests and disable CSRF
@@ -66,19 +83,21 @@ public class SecurityConfig {
 
         // Configure authorization rules for HTTP requests
         http.authorizeHttpRequests(auth -> {
-            // Allow unauthenticated access to /auth/** endpoints
-            auth.requestMatchers("/actuator/**").permitAll();
-            auth.requestMatchers("/health").permitAll();
-            auth.requestMatchers("/error").permitAll();
-            // Allow all OPTIONS requests (CORS preflight)
-            auth.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll();
+            // Allow unauthenticated access to the public paths, the JWT filter skips them
+            AccessRules.PUBLIC_PATHS.rules()
+                    .forEach(rule -> auth.requestMatchers(rule.method(), rule.pattern()).permitAll());
+            // Roles required by the API endpoints, each compiled to a mask once
+            AccessRules.ROLE_RULES.forEach(rule -> auth.requestMatchers(rule.method(), rule.patternArray())
+                    .access(RoleMaskAuthorizationManager.<RequestAuthorizationContext>hasAnyRole(authorityRegistry,
+                            rule.roleArray())));
             // Require authentication for all other requests
             auth.anyRequest().authenticated();
         });
 
         // Add the JWT authentication filter before the default
         // UsernamePasswordAuthenticationFilter
-        http.addFilterBefore(new JwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtAuthenticationService, AccessRules.PUBLIC_PATHS),
+                UsernamePasswordAuthenticationFilter.class);
         // Build and return the configured SecurityFilterChain
         return http.build();
     }
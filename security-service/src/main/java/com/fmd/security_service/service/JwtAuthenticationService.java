@@ -0,0 +1,50 @@
+package com.fmd.security_service.service;
+
+import java.util.function.Supplier;
+
+import com.fmd.security_service.cache.CachedAuthentication;
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.security.JwtAuthentication;
+
+/**
+ * Service interface for authenticating requests by their JWT token.
+ * <p>
+ * Shared by the servlet and reactive authentication filters, so both runtimes
+ * validate tokens, use the token cache and build authentications the same way.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public interface JwtAuthenticationService {
+
+    /**
+     * Validates the JWT token in the given Authorization header value.
+     * <p>
+     * Tokens already validated by an earlier request are served from the token
+     * cache. A missing or oversized header, or a token rejected recently, is
+     * answered with {@code null} without decoding it or throwing an exception.
+     * </p>
+     *
+     * @param authHeader the Authorization header value, may be null
+     * @return the validated payload with its role set, or {@code null} if there
+     *         is no token, the token is oversized or it was recently rejected
+     * @throws JwtAuthenticationException if the token is newly found not valid
+     * @throws JwtParseException          if the token newly fails to parse
+     */
+    CachedAuthentication authenticate(String authHeader);
+
+    /**
+     * Builds the authentication to store in the security context for a validated
+     * token.
+     *
+     * @param cachedAuthentication the validated payload with its role set
+     * @param detailsSource        builds the authentication details on first
+     *                             access, may return null
+     * @return the authentication token
+     */
+    JwtAuthentication createAuthenticationToken(CachedAuthentication cachedAuthentication,
+            Supplier<?> detailsSource);
+}
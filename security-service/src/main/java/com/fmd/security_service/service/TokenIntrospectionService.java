@@ -0,0 +1,42 @@
+package com.fmd.security_service.service;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fmd.security_service.dto.TokenIntrospection;
+
+/**
+ * Service interface for introspecting JWT tokens on behalf of other services.
+ * <p>
+ * Unlike {@link JwtAuthenticationService}, tokens are not taken from the
+ * request being authenticated, and rejected tokens are reported as results
+ * instead of failing the request.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public interface TokenIntrospectionService {
+
+    /**
+     * Validates a single token.
+     *
+     * @param token the token, as an Authorization header value or a bare JWT
+     * @return the introspection result
+     */
+    TokenIntrospection introspect(String token);
+
+    /**
+     * Validates the tokens in parallel.
+     * <p>
+     * Tokens are validated a bounded number at a time; the returned stream
+     * yields the results in the order of the tokens, each as soon as it is
+     * available.
+     * </p>
+     *
+     * @param tokens the tokens, as Authorization header values or bare JWTs
+     * @return the introspection results, in token order
+     */
+    Stream<TokenIntrospection> introspectAll(List<String> tokens);
+}
@@ -0,0 +1,131 @@
+package com.fmd.security_service.service.impl;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Service;
+
+import com.fmd.security_service.accesslog.AuthAccessLog;
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.cache.CachedAuthentication;
+import com.fmd.security_service.cache.JwtTokenCache;
+import com.fmd.security_service.metrics.JwtMetrics;
+import com.fmd.security_service.metrics.JwtMetrics.Outcome;
+import com.fmd.security_service.projection.ClaimProjection;
+import com.fmd.security_service.revocation.JwtRevocationStore;
+import com.fmd.security_service.security.JwtAuthentication;
+import com.fmd.security_service.service.JwtAuthenticationService;
+import com.fmd.security_service.signature.JwtSignatureVerifier;
+import com.fmd.security_service.utils.JwtUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the JwtAuthenticationService interface.
+ * <p>
+ * Looks tokens up in the {@link JwtTokenCache} and, on a miss, validates them
+ * with {@link JwtUtil}, the configured signature verifier and the
+ * {@link JwtRevocationStore}, resolving their roles through the
+ * {@link AuthorityRegistry}. Every attempt is counted by outcome, and full
+ * validations are timed, in {@link JwtMetrics}. Attempts are also recorded in
+ * the {@link AuthAccessLog}, which logs every rejection and a sample of the
+ * successes. Payloads are parsed with the reader of the
+ * {@link ClaimProjection}, so the projected claims are kept.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JwtAuthenticationServiceImpl implements JwtAuthenticationService {
+
+    private final JwtTokenCache tokenCache;
+    private final JwtSignatureVerifier signatureVerifier;
+    private final AuthorityRegistry authorityRegistry;
+    private final JwtMetrics jwtMetrics;
+    private final JwtRevocationStore revocationStore;
+    private final AuthAccessLog accessLog;
+    private final ClaimProjection claimProjection;
+
+    /**
+     * Looks up the token in the cache, validating it on a miss. Missing and
+     * oversized headers are rejected before the token is fingerprinted.
+     *
+     * @param authHeader the Authorization header value, may be null
+     * @return the validated payload with its role set, or {@code null} if
+     *         rejected without validation
+     */
+    @Override
+    public CachedAuthentication authenticate(String authHeader) {
+        if (authHeader == null || authHeader.isEmpty()) {
+            log.debug("No JWT token in the Authorization header");
+            jwtMetrics.recordAuthentication(Outcome.MISSING);
+            accessLog.record(Outcome.MISSING, null, null);
+            return null;
+        }
+        if (authHeader.length() > JwtUtil.MAX_TOKEN_LENGTH) {
+            log.debug("Rejected JWT token of {} characters", authHeader.length());
+            jwtMetrics.recordAuthentication(Outcome.OVERSIZED);
+            accessLog.record(Outcome.OVERSIZED, null, null);
+            return null;
+        }
+
+        try {
+            var cachedAuthentication = tokenCache.get(authHeader, this::validateToken);
+            if (cachedAuthentication == null) {
+                jwtMetrics.recordAuthentication(Outcome.REPLAYED);
+                accessLog.record(Outcome.REPLAYED, null, null);
+            } else {
+                jwtMetrics.recordAuthentication(Outcome.AUTHENTICATED);
+                accessLog.record(Outcome.AUTHENTICATED, cachedAuthentication.payload().subject(), null);
+            }
+            return cachedAuthentication;
+        } catch (RuntimeException e) {
+            var outcome = JwtMetrics.outcomeOf(e);
+            jwtMetrics.recordAuthentication(outcome);
+            accessLog.record(outcome, null, e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Wraps the validated payload and its shared role set in an immutable
+     * {@link JwtAuthentication}.
+     *
+     * @param cachedAuthentication the validated payload with its role set
+     * @param detailsSource        builds the authentication details on first
+     *                             access, may return null
+     * @return the authentication token
+     */
+    @Override
+    public JwtAuthentication createAuthenticationToken(CachedAuthentication cachedAuthentication,
+            Supplier<?> detailsSource) {
+        return new JwtAuthentication(cachedAuthentication, detailsSource);
+    }
+
+    /**
+     * Validates the token and builds the cache entry for it, resolving its roles
+     * to the shared role set.
+     *
+     * @param authHeader the Authorization header value
+     * @return the validated payload with its role set
+     */
+    private CachedAuthentication validateToken(String authHeader) {
+        log.debug("Validating JWT token not found in the cache");
+        long start = System.nanoTime();
+        try {
+            var jwtPayload = JwtUtil.validateAndExtractPayload(authHeader, signatureVerifier,
+                    revocationStore, claimProjection.getPayloadReader());
+            var cachedAuthentication = new CachedAuthentication(jwtPayload,
+                    authorityRegistry.resolve(jwtPayload.roles()));
+            jwtMetrics.recordValidation(Outcome.VALID, start);
+            return cachedAuthentication;
+        } catch (RuntimeException e) {
+            jwtMetrics.recordValidation(JwtMetrics.outcomeOf(e), start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.fmd.security_service.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+
+import com.fmd.security_service.dto.JwtIntrospectionProperties;
+import com.fmd.security_service.dto.TokenIntrospection;
+import com.fmd.security_service.metrics.JwtMetrics;
+import com.fmd.security_service.revocation.JwtRevocationStore;
+import com.fmd.security_service.service.TokenIntrospectionService;
+import com.fmd.security_service.signature.JwtSignatureVerifier;
+import com.fmd.security_service.utils.JwtUtil;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the TokenIntrospectionService interface.
+ * <p>
+ * Validates tokens with {@link JwtUtil}, the configured signature verifier and
+ * the {@link JwtRevocationStore}, exactly like request authentication but
+ * without the token cache. Each batch is worked off by at most
+ * {@code security.jwt.introspection.parallelism} virtual threads, which take
+ * the tokens in order, so a large batch cannot start a thread per token.
+ * Results not ready within {@code security.jwt.introspection.timeout} fail
+ * the batch instead of blocking the request thread.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenIntrospectionServiceImpl implements TokenIntrospectionService {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtSignatureVerifier signatureVerifier;
+    private final JwtRevocationStore revocationStore;
+    private final JwtIntrospectionProperties introspectionProperties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Validates a single token, reporting a rejection as an inactive result.
+     *
+     * @param token the token, as an Authorization header value or a bare JWT
+     * @return the introspection result
+     */
+    @Override
+    public TokenIntrospection introspect(String token) {
+        // Accept bare JWTs as well as Authorization header values
+        String authHeader = token == null || token.startsWith(BEARER_PREFIX) ? token : BEARER_PREFIX + token;
+        try {
+            return TokenIntrospection.valid(
+                    JwtUtil.validateAndExtractPayload(authHeader, signatureVerifier, revocationStore));
+        } catch (RuntimeException e) {
+            log.debug("Introspected token rejected: {}", e.getMessage());
+            return TokenIntrospection.rejected(JwtMetrics.outcomeOf(e).tag());
+        }
+    }
+
+    /**
+     * Validates the tokens on a bounded number of virtual threads and returns
+     * the results in token order.
+     *
+     * @param tokens the tokens, as Authorization header values or bare JWTs
+     * @return the introspection results, in token order; reading a result
+     *         throws a {@link java.util.concurrent.CompletionException} if its
+     *         validation failed unexpectedly or timed out
+     */
+    @Override
+    public Stream<TokenIntrospection> introspectAll(List<String> tokens) {
+        int workers = Math.min(tokens.size(), introspectionProperties.parallelism());
+        log.debug("Introspecting {} token(s) on {} thread(s)", tokens.size(), workers);
+        long timeoutMillis = introspectionProperties.timeout().toMillis();
+        List<CompletableFuture<TokenIntrospection>> results = tokens.stream()
+                .map(token -> new CompletableFuture<TokenIntrospection>()
+                        .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS))
+                .toList();
+        AtomicInteger next = new AtomicInteger();
+        for (int i = 0; i < workers; i++) {
+            executor.execute(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < tokens.size()) {
+                    try {
+                        results.get(index).complete(introspect(tokens.get(index)));
+                    } catch (Throwable e) {
+                        // Fail this result instead of leaving the request thread waiting on it
+                        results.get(index).completeExceptionally(e);
+                    }
+                }
+            });
+        }
+        return results.stream().map(CompletableFuture::join);
+    }
+
+    /**
+     * Stops accepting new batches when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,81 @@
+package com.fmd.security_service.signature;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free pool of initialized crypto primitives such as {@code Mac} or
+ * {@code Signature} instances.
+ * <p>
+ * JCA primitives are stateful and not thread-safe, and looking them up with
+ * {@code getInstance} and initializing them with a key is costly. The pool
+ * hands out idle instances and only creates new ones when none are idle. At
+ * most {@code maxIdle} instances are retained; extra instances created under a
+ * burst are dropped on release. A pool is used instead of thread-locals because
+ * requests run on short-lived virtual threads.
+ * </p>
+ *
+ * @param <T> the type of pooled primitive
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+final class CryptoPool<T> {
+
+    private final Supplier<T> factory;
+    private final int maxIdle;
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * Creates a pool and eagerly creates one instance, so invalid keys fail at
+     * startup rather than on the first request.
+     *
+     * @param factory creates a new, initialized instance
+     * @param maxIdle the maximum number of idle instances retained
+     */
+    CryptoPool(Supplier<T> factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+        release(factory.get());
+    }
+
+    /**
+     * Borrows an idle instance, or creates a new one if none is idle.
+     *
+     * @return an initialized instance, owned by the caller until released
+     */
+    T borrow() {
+        T instance = idle.poll();
+        if (instance == null) {
+            return factory.get();
+        }
+        idleCount.decrementAndGet();
+        return instance;
+    }
+
+    /**
+     * Returns an instance to the pool. The instance must be back in its
+     * initialized state.
+     *
+     * @param instance the instance to return
+     */
+    void release(T instance) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(instance);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of idle instances currently held.
+     *
+     * @return the idle instance count
+     */
+    int idleCount() {
+        return idleCount.get();
+    }
+}
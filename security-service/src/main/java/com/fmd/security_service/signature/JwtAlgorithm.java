@@ -0,0 +1,54 @@
+package com.fmd.security_service.signature;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JWS algorithms supported for signature verification, mapped to their JCA
+ * names.
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JwtAlgorithm {
+
+    /**
+     * HMAC using SHA-256.
+     */
+    HS256("HmacSHA256"),
+
+    /**
+     * RSASSA-PKCS1-v1_5 using SHA-256.
+     */
+    RS256("SHA256withRSA"),
+
+    /**
+     * ECDSA using P-256 and SHA-256. JWS carries the signature as the raw
+     * R || S concatenation, which the JCA names the IEEE P1363 format.
+     */
+    ES256("SHA256withECDSAinP1363Format");
+
+    // JCA algorithm name used to obtain Mac or Signature instances
+    private final String jcaName;
+
+    /**
+     * Resolves the algorithm named in a JWT header.
+     *
+     * @param name the {@code alg} header value
+     * @return the matching algorithm, or {@code null} if it is not supported
+     */
+    public static JwtAlgorithm fromHeader(String name) {
+        if (name == null) {
+            return null;
+        }
+        return switch (name) {
+            case "HS256" -> HS256;
+            case "RS256" -> RS256;
+            case "ES256" -> ES256;
+            default -> null;
+        };
+    }
+}
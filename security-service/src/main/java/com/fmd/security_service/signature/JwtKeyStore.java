@@ -0,0 +1,133 @@
+package com.fmd.security_service.signature;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.fmd.security_service.dto.JwtSignatureProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Store of JWT verification keys indexed by {@code kid}.
+ * <p>
+ * Keys are held in an immutable map behind a volatile reference. Lookups are
+ * plain, lock-free map reads; updates build a new map and swap it in, so key
+ * rotation never blocks request threads.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class JwtKeyStore {
+
+    private volatile Map<String, JwtVerificationKey> keys;
+
+    /**
+     * Creates the key store from the configured keys.
+     *
+     * @param properties the signature configuration properties
+     * @throws IllegalStateException if a configured key cannot be loaded
+     */
+    public JwtKeyStore(JwtSignatureProperties properties) {
+        this.keys = properties.keys().entrySet().stream()
+                .map(entry -> toVerificationKey(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toUnmodifiableMap(JwtVerificationKey::getKeyId, Function.identity()));
+        log.info("Loaded {} JWT verification key(s): {}", keys.size(), keys.keySet());
+    }
+
+    /**
+     * Returns the key with the given id.
+     *
+     * @param keyId the key id
+     * @return the key, or {@code null} if no key has this id
+     */
+    public JwtVerificationKey find(String keyId) {
+        return keyId == null ? null : keys.get(keyId);
+    }
+
+    /**
+     * Adds or replaces a key.
+     *
+     * @param key the key to add
+     */
+    public synchronized void put(JwtVerificationKey key) {
+        var updated = new HashMap<>(keys);
+        updated.put(key.getKeyId(), key);
+        keys = Map.copyOf(updated);
+    }
+
+    /**
+     * Replaces all keys at once, e.g. after a key rotation.
+     *
+     * @param replacement the new set of keys
+     */
+    public synchronized void replaceAll(Collection<JwtVerificationKey> replacement) {
+        keys = replacement.stream()
+                .collect(Collectors.toUnmodifiableMap(JwtVerificationKey::getKeyId, Function.identity()));
+    }
+
+    /**
+     * Returns the number of keys in the store.
+     *
+     * @return the key count
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Builds a verification key from its configuration.
+     *
+     * @param keyId  the key id
+     * @param config the key configuration
+     * @return the verification key
+     */
+    private static JwtVerificationKey toVerificationKey(String keyId, JwtSignatureProperties.Key config) {
+        if (config.algorithm() == null) {
+            throw new IllegalStateException("No algorithm configured for JWT key " + keyId);
+        }
+        if (config.algorithm() == JwtAlgorithm.HS256) {
+            if (config.secret() == null) {
+                throw new IllegalStateException("No secret configured for HS256 JWT key " + keyId);
+            }
+            return JwtVerificationKey.hmac(keyId, Base64.getDecoder().decode(config.secret().strip()));
+        }
+        if (config.publicKey() == null) {
+            throw new IllegalStateException("No public key configured for " + config.algorithm() + " JWT key " + keyId);
+        }
+        return JwtVerificationKey.publicKey(keyId, config.algorithm(),
+                parsePublicKey(keyId, config.algorithm(), config.publicKey()));
+    }
+
+    /**
+     * Parses a Base64 or PEM encoded X.509 public key.
+     *
+     * @param keyId     the key id, for error messages
+     * @param algorithm the algorithm the key is used with
+     * @param encoded   the encoded public key
+     * @return the public key
+     */
+    private static PublicKey parsePublicKey(String keyId, JwtAlgorithm algorithm, String encoded) {
+        // Strip PEM armour and line breaks, leaving the Base64 DER body
+        String base64 = encoded.replaceAll("-----(BEGIN|END) PUBLIC KEY-----", "").replaceAll("\\s", "");
+        try {
+            var keyFactory = KeyFactory.getInstance(algorithm == JwtAlgorithm.RS256 ? "RSA" : "EC");
+            return keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Cannot parse public key for JWT key " + keyId, e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.fmd.security_service.signature;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fmd.security_service.dto.JwtHeader;
+import com.fmd.security_service.dto.JwtSignatureProperties;
+import com.fmd.security_service.exception.JwtSignatureException;
+import com.fmd.security_service.utils.Base64UrlUtil;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Verifies JWT signatures against the keys in the {@link JwtKeyStore}.
+ * <p>
+ * Supports HS256, RS256 and ES256. The key is selected by the {@code kid}
+ * header, falling back to the configured default key id, and must match the
+ * {@code alg} header, so a token cannot pick a weaker algorithm for a key.
+ * What happens on failure depends on the {@link SignatureVerificationMode}.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class JwtSignatureVerifier {
+
+    // Shared, thread-safe reader for JWT headers
+    private static final ObjectReader HEADER_READER = JsonMapper.builder().build().readerFor(JwtHeader.class);
+
+    @Getter
+    private final SignatureVerificationMode mode;
+    private final String defaultKid;
+    private final JwtKeyStore keyStore;
+
+    /**
+     * Creates the verifier from the signature configuration.
+     *
+     * @param properties the signature configuration properties
+     * @param keyStore   the store of verification keys
+     */
+    public JwtSignatureVerifier(JwtSignatureProperties properties, JwtKeyStore keyStore) {
+        this.mode = properties.mode();
+        this.defaultKid = properties.defaultKid();
+        this.keyStore = keyStore;
+        log.info("JWT signature verification mode: {}", mode);
+    }
+
+    /**
+     * Verifies the signature of a token whose segments have already been
+     * located.
+     *
+     * @param token        the token string
+     * @param headerStart  the index of the first header character
+     * @param payloadStart the index of the first payload character
+     * @param payloadEnd   the index of the dot separating payload and signature
+     * @throws JwtSignatureException if the signature is invalid and the mode is
+     *                               {@link SignatureVerificationMode#ENFORCE}
+     */
+    public void verify(String token, int headerStart, int payloadStart, int payloadEnd) {
+        if (mode == SignatureVerificationMode.DISABLED) {
+            return;
+        }
+
+        String failure = check(token, headerStart, payloadStart, payloadEnd);
+        if (failure == null) {
+            log.trace("JWT signature verified");
+            return;
+        }
+        if (mode == SignatureVerificationMode.ENFORCE) {
+            throw new JwtSignatureException(failure);
+        }
+        log.warn("JWT signature verification failed (not enforced): {}", failure);
+    }
+
+    /**
+     * Checks the signature and returns the reason it is invalid.
+     *
+     * @param token        the token string
+     * @param headerStart  the index of the first header character
+     * @param payloadStart the index of the first payload character
+     * @param payloadEnd   the index of the dot separating payload and signature
+     * @return the failure reason, or {@code null} if the signature is valid
+     */
+    private String check(String token, int headerStart, int payloadStart, int payloadEnd) {
+        JwtHeader header;
+        try {
+            header = HEADER_READER.readValue(Base64UrlUtil.decode(token, headerStart, payloadStart - 1));
+        } catch (Exception e) {
+            return "JWT header cannot be parsed";
+        }
+        if (header == null) {
+            return "JWT header is empty";
+        }
+
+        JwtAlgorithm algorithm = JwtAlgorithm.fromHeader(header.algorithm());
+        if (algorithm == null) {
+            return "JWT algorithm is not supported: " + header.algorithm();
+        }
+
+        String keyId = header.keyId() != null ? header.keyId() : defaultKid;
+        JwtVerificationKey key = keyStore.find(keyId);
+        if (key == null) {
+            return "No JWT verification key for kid: " + keyId;
+        }
+        if (key.getAlgorithm() != algorithm) {
+            return "JWT algorithm " + algorithm + " does not match key " + keyId;
+        }
+
+        byte[] signature;
+        try {
+            signature = Base64UrlUtil.decode(token, payloadEnd + 1, token.length());
+        } catch (Exception e) {
+            return "JWT signature is not valid base64url";
+        }
+
+        return key.verify(signingInput(token, headerStart, payloadEnd), signature)
+                ? null
+                : "JWT signature is invalid";
+    }
+
+    /**
+     * Copies the ASCII signing input {@code header.payload} into a byte array
+     * without an intermediate substring.
+     *
+     * @param token       the token string
+     * @param headerStart the index of the first header character
+     * @param payloadEnd  the index of the dot separating payload and signature
+     * @return the signing input bytes
+     */
+    private static byte[] signingInput(String token, int headerStart, int payloadEnd) {
+        byte[] input = new byte[payloadEnd - headerStart];
+        for (int i = 0; i < input.length; i++) {
+            // Valid tokens are ASCII; other characters fail the signature or payload decoding
+            input[i] = (byte) token.charAt(headerStart + i);
+        }
+        return input;
+    }
+}
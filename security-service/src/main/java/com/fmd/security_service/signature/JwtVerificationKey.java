@@ -0,0 +1,147 @@
+package com.fmd.security_service.signature;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.SignatureException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import lombok.Getter;
+
+/**
+ * Key used to verify JWT signatures for one {@code kid}.
+ * <p>
+ * Each key owns a {@link CryptoPool} of {@code Mac} or {@code Signature}
+ * instances already initialized with the key, so verification never calls
+ * {@code getInstance} or {@code init} on the request path.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Getter
+public abstract sealed class JwtVerificationKey {
+
+    // Idle primitives retained per key, enough for every core to verify at once
+    private static final int MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final String keyId;
+    private final JwtAlgorithm algorithm;
+
+    private JwtVerificationKey(String keyId, JwtAlgorithm algorithm) {
+        this.keyId = keyId;
+        this.algorithm = algorithm;
+    }
+
+    /**
+     * Creates an HS256 key from a shared secret.
+     *
+     * @param keyId  the key id
+     * @param secret the shared secret bytes
+     * @return the verification key
+     */
+    public static JwtVerificationKey hmac(String keyId, byte[] secret) {
+        return new HmacKey(keyId, secret);
+    }
+
+    /**
+     * Creates an RS256 or ES256 key from a public key.
+     *
+     * @param keyId     the key id
+     * @param algorithm the signature algorithm, RS256 or ES256
+     * @param publicKey the public key matching the algorithm
+     * @return the verification key
+     * @throws IllegalArgumentException if the algorithm is HS256
+     */
+    public static JwtVerificationKey publicKey(String keyId, JwtAlgorithm algorithm, PublicKey publicKey) {
+        if (algorithm == JwtAlgorithm.HS256) {
+            throw new IllegalArgumentException("HS256 requires a shared secret, not a public key");
+        }
+        return new PublicKeyKey(keyId, algorithm, publicKey);
+    }
+
+    /**
+     * Verifies a signature over the signing input.
+     *
+     * @param signingInput the ASCII bytes of {@code header.payload}
+     * @param signature    the decoded signature bytes
+     * @return {@code true} if the signature is valid for this key
+     */
+    public abstract boolean verify(byte[] signingInput, byte[] signature);
+
+    /**
+     * HS256 key backed by a pool of initialized {@code Mac} instances.
+     */
+    private static final class HmacKey extends JwtVerificationKey {
+
+        private final CryptoPool<Mac> macs;
+
+        private HmacKey(String keyId, byte[] secret) {
+            super(keyId, JwtAlgorithm.HS256);
+            var secretKey = new SecretKeySpec(secret, JwtAlgorithm.HS256.getJcaName());
+            this.macs = new CryptoPool<>(() -> {
+                try {
+                    Mac mac = Mac.getInstance(JwtAlgorithm.HS256.getJcaName());
+                    mac.init(secretKey);
+                    return mac;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("Cannot initialize HMAC for key " + keyId, e);
+                }
+            }, MAX_IDLE);
+        }
+
+        @Override
+        public boolean verify(byte[] signingInput, byte[] signature) {
+            Mac mac = macs.borrow();
+            try {
+                // doFinal resets the Mac to its initialized state
+                byte[] expected = mac.doFinal(signingInput);
+                // Constant-time comparison to avoid leaking the expected MAC
+                return MessageDigest.isEqual(expected, signature);
+            } finally {
+                macs.release(mac);
+            }
+        }
+    }
+
+    /**
+     * RS256/ES256 key backed by a pool of {@code Signature} instances
+     * initialized for verification.
+     */
+    private static final class PublicKeyKey extends JwtVerificationKey {
+
+        private final CryptoPool<Signature> signatures;
+
+        private PublicKeyKey(String keyId, JwtAlgorithm algorithm, PublicKey publicKey) {
+            super(keyId, algorithm);
+            this.signatures = new CryptoPool<>(() -> {
+                try {
+                    Signature verifier = Signature.getInstance(algorithm.getJcaName());
+                    verifier.initVerify(publicKey);
+                    return verifier;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("Cannot initialize " + algorithm + " for key " + keyId, e);
+                }
+            }, MAX_IDLE);
+        }
+
+        @Override
+        public boolean verify(byte[] signingInput, byte[] signature) {
+            Signature verifier = signatures.borrow();
+            try {
+                verifier.update(signingInput);
+                // verify resets the Signature to its initialized state
+                boolean valid = verifier.verify(signature);
+                signatures.release(verifier);
+                return valid;
+            } catch (SignatureException e) {
+                // Malformed signature; the instance state is undefined so it is not returned
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.fmd.security_service.signature;
+
+/**
+ * Rollout mode for JWT signature verification.
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+public enum SignatureVerificationMode {
+
+    /**
+     * Signatures are not checked; only the token structure and claims are
+     * validated.
+     */
+    DISABLED,
+
+    /**
+     * Signatures are checked and failures are logged, but tokens with invalid
+     * signatures are still accepted. Used to verify the key configuration before
+     * enforcing.
+     */
+    REPORT,
+
+    /**
+     * Signatures are checked and tokens with invalid signatures are rejected.
+     */
+    ENFORCE
+}
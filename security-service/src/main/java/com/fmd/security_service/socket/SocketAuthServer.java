@@ -0,0 +1,246 @@
+package com.fmd.security_service.socket;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.authority.RoleMaskAuthorizationManager;
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.security.JwtAuthentication;
+import com.fmd.security_service.service.JwtAuthenticationService;
+import com.fmd.security_service.utils.JwtUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Socket server answering auth checks with a minimal line protocol, over a
+ * Unix domain socket or TCP.
+ * <p>
+ * Each request is the {@code Authorization} header value (e.g.
+ * {@code Bearer <token>}) terminated by {@code \n}, an empty line for no
+ * header. Each response is one line terminated by {@code \n}:
+ * </p>
+ * <ul>
+ * <li>{@code 204<TAB>user<TAB>roles} if the token is accepted, with the
+ * comma-separated roles</li>
+ * <li>{@code 401} if there is no valid token</li>
+ * <li>{@code 403} if the token does not have the required roles</li>
+ * </ul>
+ * <p>
+ * A connection carries any number of requests, answered in order, so a client
+ * keeps one connection open and may pipeline. A request longer than
+ * {@link JwtUtil#MAX_TOKEN_LENGTH} is answered with {@code 401} and the
+ * connection closed. Tokens are checked like {@code /api/auth-request}:
+ * through the {@link JwtAuthenticationService} used by the JWT filter, with
+ * the {@code Admin} or {@code User} rule. Each connection is served on its own
+ * virtual thread with blocking channel I/O.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+public class SocketAuthServer implements Closeable {
+
+    /**
+     * Longest request line accepted, including the terminating {@code \n}
+     * and an optional {@code \r}.
+     */
+    static final int MAX_REQUEST_LENGTH = JwtUtil.MAX_TOKEN_LENGTH + 2;
+
+    // Fixed responses, encoded once
+    private static final byte[] UNAUTHORIZED = "401\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FORBIDDEN = "403\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final JwtAuthenticationService jwtAuthenticationService;
+    private final RoleMaskAuthorizationManager<SocketAuthServer> accessRule;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private ServerSocketChannel serverChannel;
+    private Thread acceptor;
+
+    /**
+     * Creates the server, compiling the access rule.
+     *
+     * @param jwtAuthenticationService the service validating JWT tokens
+     * @param authorityRegistry        the registry assigning role bits
+     */
+    public SocketAuthServer(JwtAuthenticationService jwtAuthenticationService, AuthorityRegistry authorityRegistry) {
+        this.jwtAuthenticationService = jwtAuthenticationService;
+        this.accessRule = RoleMaskAuthorizationManager.hasAnyRole(authorityRegistry, "Admin", "User");
+    }
+
+    /**
+     * Binds the server and starts accepting connections.
+     *
+     * @param address a {@link UnixDomainSocketAddress}, or an
+     *                {@link java.net.InetSocketAddress} for TCP
+     * @return the bound address, e.g. with the port chosen for port 0
+     * @throws IOException if the address cannot be bound
+     */
+    public SocketAddress start(SocketAddress address) throws IOException {
+        serverChannel = address instanceof UnixDomainSocketAddress
+                ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open();
+        serverChannel.bind(address);
+        acceptor = Thread.ofPlatform()
+                .name("socket-auth-acceptor")
+                .daemon()
+                .start(this::accept);
+        return serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Stops accepting connections and closes the open ones.
+     *
+     * @throws IOException if the server channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        if (acceptor != null) {
+            acceptor.interrupt();
+        }
+        // Interrupts the connection threads, closing their channels
+        executor.shutdownNow();
+    }
+
+    /**
+     * Accepts connections until the server channel is closed, serving each on
+     * a virtual thread.
+     */
+    private void accept() {
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                executor.execute(() -> serve(channel));
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to accept socket auth connection: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Answers the requests of one connection until the client closes it.
+     *
+     * @param channel the client connection
+     */
+    private void serve(SocketChannel channel) {
+        try (channel) {
+            ByteBuffer in = ByteBuffer.allocate(MAX_REQUEST_LENGTH);
+            while (channel.read(in) >= 0) {
+                in.flip();
+                int start = in.position();
+                for (int i = start; i < in.limit(); i++) {
+                    if (in.get(i) == '\n') {
+                        write(channel, decide(requestLine(in, start, i)));
+                        start = i + 1;
+                    }
+                }
+                in.position(start);
+                in.compact();
+                if (!in.hasRemaining()) {
+                    log.debug("Socket auth request longer than {} bytes, closing connection", MAX_REQUEST_LENGTH);
+                    write(channel, UNAUTHORIZED);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Socket auth connection closed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Decodes one request line, without the line terminator.
+     *
+     * @param in    the buffer holding the line
+     * @param start the index of the first byte of the line
+     * @param end   the index of the terminating {@code \n}
+     * @return the Authorization header value
+     */
+    private static String requestLine(ByteBuffer in, int start, int end) {
+        if (end > start && in.get(end - 1) == '\r') {
+            end--;
+        }
+        // Header values are ISO-8859-1, tokens are plain ASCII
+        return new String(in.array(), in.arrayOffset() + start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Checks the Authorization header value of one request.
+     *
+     * @param authorization the Authorization header value, empty for none
+     * @return the encoded response line
+     */
+    byte[] decide(String authorization) {
+        JwtAuthentication authentication;
+        try {
+            var cachedAuthentication = jwtAuthenticationService.authenticate(authorization);
+            if (cachedAuthentication == null) {
+                return UNAUTHORIZED;
+            }
+            authentication = jwtAuthenticationService.createAuthenticationToken(cachedAuthentication, () -> null);
+        } catch (JwtAuthenticationException | JwtParseException e) {
+            log.debug("Socket auth request rejected JWT token : {}", e.getMessage());
+            return UNAUTHORIZED;
+        }
+
+        if (!accessRule.check(() -> authentication, this).isGranted()) {
+            return FORBIDDEN;
+        }
+        String user = authentication.getName();
+        if (user == null || hasControlCharacter(user)) {
+            // Could not be framed as a single field
+            log.debug("Socket auth request rejected, subject cannot be written as a field");
+            return UNAUTHORIZED;
+        }
+        return ("204\t" + user + "\t" + authentication.getRoleSet().getJoined() + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks a response field for control characters, which would break the
+     * line framing.
+     *
+     * @param text the field value
+     * @return {@code true} if the value contains a control character
+     */
+    private static boolean hasControlCharacter(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x20 || text.charAt(i) == 0x7f) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes a whole response to the connection.
+     *
+     * @param channel  the client connection
+     * @param response the encoded response line
+     * @throws IOException if the response cannot be written
+     */
+    private static void write(SocketChannel channel, byte[] response) throws IOException {
+        ByteBuffer out = ByteBuffer.wrap(response);
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+    }
+}
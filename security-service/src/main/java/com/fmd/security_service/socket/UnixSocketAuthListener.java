@@ -0,0 +1,153 @@
+package com.fmd.security_service.socket;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.springframework.stereotype.Component;
+
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.dto.JwtUnixSocketProperties;
+import com.fmd.security_service.service.JwtAuthenticationService;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Auth listener on a Unix domain socket, for running security-service as a
+ * sidecar.
+ * <p>
+ * Serves the line protocol of {@link SocketAuthServer} on the socket file set
+ * by {@code security.unix-socket.path}, typically on a volume shared with the
+ * application container. Local checks then skip the TCP stack and HTTP
+ * parsing. A socket file left behind by an earlier run is replaced on start,
+ * and the file is removed on shutdown. Start fails instead if the path holds
+ * anything but a socket file, or a socket another process still listens on.
+ * </p>
+ * <p>
+ * The bean always exists and {@link #start()} decides from the property
+ * whether to bind, so AOT processed builds, where conditions on properties
+ * are fixed at build time, can still enable the listener at runtime.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Component
+public class UnixSocketAuthListener {
+
+    // File type bits of the unix:mode attribute, and the type of a socket
+    private static final int S_IFMT = 0170000;
+    private static final int S_IFSOCK = 0140000;
+
+    private final Path path;
+    private final SocketAuthServer server;
+
+    /**
+     * Creates the listener for the configured socket file.
+     *
+     * @param properties               the Unix socket configuration properties
+     * @param jwtAuthenticationService the service validating JWT tokens
+     * @param authorityRegistry        the registry assigning role bits
+     */
+    public UnixSocketAuthListener(JwtUnixSocketProperties properties,
+            JwtAuthenticationService jwtAuthenticationService, AuthorityRegistry authorityRegistry) {
+        this.path = properties.path() == null ? null : properties.path().toAbsolutePath();
+        this.server = new SocketAuthServer(jwtAuthenticationService, authorityRegistry);
+    }
+
+    /**
+     * Binds the socket file and starts accepting connections, if a path is
+     * configured.
+     *
+     * @throws IOException if the path holds something other than a stale
+     *                     socket file, or the socket file cannot be bound
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (path == null) {
+            log.debug("No Unix domain socket path configured, socket auth listener not started");
+            return;
+        }
+        // A socket file cannot be bound twice, remove one left by an earlier run
+        removeStaleSocket(path);
+        server.start(UnixDomainSocketAddress.of(path));
+        log.info("Socket auth listener bound to {}", path);
+    }
+
+    /**
+     * Closes the listener and removes the socket file.
+     *
+     * @throws IOException if the server or the socket file cannot be closed
+     */
+    @PreDestroy
+    public void stop() throws IOException {
+        if (path == null) {
+            return;
+        }
+        server.close();
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Removes the socket file left at the path by an earlier run. Nothing is
+     * removed if the path does not exist.
+     *
+     * @param path the socket path
+     * @throws IOException if the path holds anything but a socket file, or
+     *                     another process listens on the socket
+     */
+    static void removeStaleSocket(Path path) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+        if (!isSocket(path, attributes)) {
+            throw new IOException("Not replacing " + path + ", it is not a socket file");
+        }
+        try (var channel = SocketChannel.open(UnixDomainSocketAddress.of(path))) {
+            throw new IOException("Not replacing " + path + ", another process is listening on it");
+        } catch (ConnectException e) {
+            log.info("Removing stale socket file {}", path);
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Checks the file type of the path: by its mode where the file system
+     * reports it, otherwise by ruling out regular files, directories and
+     * links.
+     *
+     * @param path       the path
+     * @param attributes the attributes of the path, links not followed
+     * @return true if the path is a socket file
+     * @throws IOException if the mode cannot be read
+     */
+    private static boolean isSocket(Path path, BasicFileAttributes attributes) throws IOException {
+        if (path.getFileSystem().supportedFileAttributeViews().contains("unix")) {
+            int mode = (Integer) Files.getAttribute(path, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+            return (mode & S_IFMT) == S_IFSOCK;
+        }
+        return attributes.isOther();
+    }
+
+    /**
+     * Returns the socket file the listener is bound to.
+     *
+     * @return the absolute socket path, or null if the listener is disabled
+     */
+    public Path getPath() {
+        return path;
+    }
+}
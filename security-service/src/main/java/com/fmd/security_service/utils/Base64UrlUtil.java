@@ -0,0 +1,159 @@
+package com.fmd.security_service.utils;
+
+import java.util.Arrays;
+
+import com.fmd.security_service.exception.JwtParseException;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class for decoding base64url (RFC 4648 §5) segments of a JWT.
+ * <p>
+ * Decodes directly from a range of the source string into a byte array, so a
+ * JWT segment can be decoded without first copying it into a substring or an
+ * intermediate byte array. Trailing padding is accepted but not required, as
+ * JWTs are normally unpadded.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@UtilityClass
+public class Base64UrlUtil {
+
+    // Marker for characters outside the base64url alphabet
+    private static final byte INVALID = -1;
+
+    // Lookup table from ASCII character to its 6-bit base64url value
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, INVALID);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    /**
+     * Decodes the base64url characters in {@code source[start, end)} into a new
+     * byte array of exactly the decoded length.
+     *
+     * @param source the string containing the encoded segment
+     * @param start  the index of the first encoded character (inclusive)
+     * @param end    the index of the last encoded character (exclusive)
+     * @return the decoded bytes
+     * @throws JwtParseException if the segment is not valid base64url
+     */
+    public static byte[] decode(CharSequence source, int start, int end) {
+        // Ignore trailing padding, at most two characters are allowed
+        int limit = end;
+        while (limit > start && end - limit < 2 && source.charAt(limit - 1) == '=') {
+            limit--;
+        }
+
+        byte[] target = new byte[decodedLength(start, limit)];
+        decode(source, start, limit, target);
+        return target;
+    }
+
+    /**
+     * Decodes the base64url characters in {@code source[start, end)} into the
+     * given target array, which must hold at least
+     * {@link #decodedLength(int, int)} bytes. Padding is not accepted here.
+     *
+     * @param source the string containing the encoded segment
+     * @param start  the index of the first encoded character (inclusive)
+     * @param end    the index of the last encoded character (exclusive)
+     * @param target the array receiving the decoded bytes, starting at index 0
+     * @return the number of bytes written into the target array
+     * @throws JwtParseException if the segment is not valid base64url
+     */
+    public static int decode(CharSequence source, int start, int end, byte[] target) {
+        return decode(source, start, end, target, 0);
+    }
+
+    /**
+     * Decodes the base64url characters in {@code source[start, end)} into the
+     * given target array from the given offset. The target must hold at least
+     * {@link #decodedLength(int, int)} bytes from the offset. Padding is not
+     * accepted here.
+     *
+     * @param source the string containing the encoded segment
+     * @param start  the index of the first encoded character (inclusive)
+     * @param end    the index of the last encoded character (exclusive)
+     * @param target the array receiving the decoded bytes
+     * @param offset the index in the target of the first decoded byte
+     * @return the number of bytes written into the target array
+     * @throws JwtParseException if the segment is not valid base64url
+     */
+    public static int decode(CharSequence source, int start, int end, byte[] target, int offset) {
+        int length = decodedLength(start, end);
+        int src = start;
+        int dst = offset;
+
+        // Decode full 4-character groups into 3 bytes each
+        int fullGroupsEnd = start + ((end - start) & ~3);
+        while (src < fullGroupsEnd) {
+            int bits = sextet(source, src) << 18
+                    | sextet(source, src + 1) << 12
+                    | sextet(source, src + 2) << 6
+                    | sextet(source, src + 3);
+            target[dst++] = (byte) (bits >> 16);
+            target[dst++] = (byte) (bits >> 8);
+            target[dst++] = (byte) bits;
+            src += 4;
+        }
+
+        // Decode the trailing 2 or 3 characters into 1 or 2 bytes
+        int remaining = end - src;
+        if (remaining >= 2) {
+            int bits = sextet(source, src) << 18 | sextet(source, src + 1) << 12;
+            if (remaining == 3) {
+                bits |= sextet(source, src + 2) << 6;
+                target[dst++] = (byte) (bits >> 16);
+                target[dst++] = (byte) (bits >> 8);
+            } else {
+                target[dst++] = (byte) (bits >> 16);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Returns the number of bytes produced by decoding the unpadded segment
+     * {@code [start, end)}.
+     *
+     * @param start the index of the first encoded character (inclusive)
+     * @param end   the index of the last encoded character (exclusive)
+     * @return the decoded length in bytes
+     * @throws JwtParseException if the segment length is not a valid base64url
+     *                           length
+     */
+    public static int decodedLength(int start, int end) {
+        int encodedLength = end - start;
+        // A single trailing character cannot encode a full byte
+        if (encodedLength < 0 || (encodedLength & 3) == 1) {
+            throw new JwtParseException("Invalid base64url length: " + encodedLength);
+        }
+        return (encodedLength / 4) * 3 + Math.max(0, (encodedLength & 3) - 1);
+    }
+
+    /**
+     * Returns the 6-bit value of the base64url character at the given index.
+     *
+     * @param source the string containing the encoded segment
+     * @param index  the index of the character
+     * @return the 6-bit value of the character
+     * @throws JwtParseException if the character is not in the base64url alphabet
+     */
+    private static int sextet(CharSequence source, int index) {
+        char c = source.charAt(index);
+        byte value = c < 128 ? DECODE_TABLE[c] : INVALID;
+        if (value == INVALID) {
+            throw new JwtParseException("Illegal base64url character at index " + index);
+        }
+        return value;
+    }
+}
@@ -1,18 +1,35 @@
 package com.fmd.security_service.utils;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fmd.security_service.dto.ApiError;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpStatus;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 /**
  * Utility class for writing ApiError responses as JSON.
+ * <p>
+ * The 401 and 403 bodies written for rejected requests are assembled from
+ * pre-encoded UTF-8 templates for their fixed parts, with only the timestamp,
+ * message and path encoded per request. Other statuses are serialized with a
+ * single shared ObjectMapper. Either way the body is written as UTF-8 bytes
+ * straight to the servlet output stream. The encoded body is also available
+ * through {@link #toJsonBytes(ApiError)} for other transports.
+ * </p>
  *
  * @author Shailesh Halor
  * @version 1.0
@@ -21,6 +38,26 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @UtilityClass
 public class ErrorResponseUtil {
 
+    // Shared, thread-safe mapper for statuses without a template
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    // Same pattern as the @JsonFormat on ApiError.timestamp
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // Pre-encoded fixed parts of the body, in ApiError field order
+    private static final byte[] TIMESTAMP_FIELD = ascii("{\"timestamp\":");
+    private static final byte[] PATH_FIELD = ascii(",\"path\":");
+    private static final byte[] BODY_END = ascii("}");
+    private static final byte[] NULL_VALUE = ascii("null");
+
+    // Pre-encoded status, error and message field names for the rejection statuses
+    private static final Map<Integer, StatusTemplate> TEMPLATES = Map.of(
+            UNAUTHORIZED.value(), StatusTemplate.of(UNAUTHORIZED),
+            FORBIDDEN.value(), StatusTemplate.of(FORBIDDEN));
+
     /**
      * Writes the given ApiError as a JSON response with the specified status code.
      *
@@ -32,11 +69,73 @@ public class ErrorResponseUtil {
     public static void writeErrorResponse(HttpServletResponse response,
             int statusCode,
             ApiError apiError) throws IOException {
+        byte[] body = toJsonBytes(apiError);
         response.setStatus(statusCode);
         response.setContentType(APPLICATION_JSON_VALUE);
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.registerModule(new JavaTimeModule());
-        mapper.disable(WRITE_DATES_AS_TIMESTAMPS);
-        response.getWriter().write(mapper.writeValueAsString(apiError));
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Encodes the given ApiError as UTF-8 JSON, using the pre-encoded template for
+     * its status when there is one.
+     *
+     * @param apiError the ApiError object to encode
+     * @return the UTF-8 encoded JSON body
+     * @throws IOException if serialization fails
+     */
+    public static byte[] toJsonBytes(ApiError apiError) throws IOException {
+        StatusTemplate template = TEMPLATES.get(apiError.status());
+        if (template == null || !template.error().equals(apiError.error())) {
+            return MAPPER.writeValueAsBytes(apiError);
+        }
+
+        var body = new ByteArrayOutputStream(256);
+        body.writeBytes(TIMESTAMP_FIELD);
+        writeString(body, apiError.timestamp() == null ? null : TIMESTAMP_FORMAT.format(apiError.timestamp()));
+        body.writeBytes(template.statusErrorAndMessageField());
+        writeString(body, apiError.message());
+        body.writeBytes(PATH_FIELD);
+        writeString(body, apiError.path());
+        body.writeBytes(BODY_END);
+        return body.toByteArray();
+    }
+
+    /**
+     * Writes a JSON string value, escaped and quoted, or {@code null}.
+     *
+     * @param body  the body being assembled
+     * @param value the string value, may be null
+     */
+    private static void writeString(ByteArrayOutputStream body, String value) {
+        if (value == null) {
+            body.writeBytes(NULL_VALUE);
+            return;
+        }
+        body.write('"');
+        body.writeBytes(JsonStringEncoder.getInstance().quoteAsUTF8(value));
+        body.write('"');
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Pre-encoded fixed part of an error body for one HTTP status.
+     *
+     * @param error                      the reason phrase the template was built for
+     * @param statusErrorAndMessageField the encoded status and error fields and the
+     *                                   message field name
+     */
+    private record StatusTemplate(String error, byte[] statusErrorAndMessageField) {
+
+        static StatusTemplate of(HttpStatus status) {
+            String fixedPart = ",\"status\":" + status.value()
+                    + ",\"error\":\"" + status.getReasonPhrase() + "\""
+                    + ",\"message\":";
+            return new StatusTemplate(status.getReasonPhrase(), ascii(fixedPart));
+        }
     }
 }
@@ -1,16 +1,21 @@
 package com.fmd.security_service.utils;
 
 import java.time.Instant;
-import java.util.Base64;
+import java.util.Set;
 
 import org.springframework.util.StringUtils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fmd.security_service.dto.JwtPayload;
 import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtExpiredException;
 import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.exception.JwtRevokedException;
+import com.fmd.security_service.payload.JwtPayloadDeserializer;
+import com.fmd.security_service.payload.PayloadDecoder;
+import com.fmd.security_service.payload.PayloadDecoders;
+import com.fmd.security_service.revocation.JwtRevocationStore;
+import com.fmd.security_service.signature.JwtSignatureVerifier;
 
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -23,15 +28,86 @@ import lombok.extern.slf4j.Slf4j;
 @UtilityClass
 public class JwtUtil {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Maximum length of the Authorization header value, checked before any
+     * decoding. Matches the default 8 KB request header limit of the embedded
+     * servers.
+     */
+    public static final int MAX_TOKEN_LENGTH = 8192;
+
+    /**
+     * Shared, pre-configured reader for JWT payloads, retaining no claims
+     * beyond the registered ones.
+     * <p>
+     * ObjectReader instances are immutable and thread-safe, so a single instance
+     * is reused for every request instead of building a new ObjectMapper each
+     * time.
+     * </p>
+     */
+    private static final ObjectReader PAYLOAD_READER = JwtPayloadDeserializer.reader(Set.of());
+
+    /**
+     * Decoder of the payload segment, the SIMD decoder when the
+     * {@code jdk.incubator.vector} module is available.
+     */
+    private static final PayloadDecoder PAYLOAD_DECODER = PayloadDecoders.best();
 
     /**
      * Extracts the payload from the JWT token and parses it into a JwtPayload object.
+     * <p>
+     * The token signature is not verified.
      *
      * @param token the JWT token
      * @return the parsed JwtPayload object
      * @throws IllegalArgumentException if the token is invalid
      */
     public JwtPayload validateAndExtractPayload(String token) {
+        return validateAndExtractPayload(token, null);
+    }
+
+    /**
+     * Extracts the payload from the JWT token and parses it into a JwtPayload object,
+     * verifying the token signature first.
+     *
+     * @param token    the JWT token
+     * @param verifier the signature verifier, or {@code null} to skip signature verification
+     * @return the parsed JwtPayload object
+     * @throws IllegalArgumentException if the token is invalid
+     */
+    public JwtPayload validateAndExtractPayload(String token, JwtSignatureVerifier verifier) {
+        return validateAndExtractPayload(token, verifier, null);
+    }
+
+    /**
+     * Extracts the payload from the JWT token and parses it into a JwtPayload object,
+     * verifying the token signature first and rejecting revoked tokens.
+     *
+     * @param token           the JWT token
+     * @param verifier        the signature verifier, or {@code null} to skip signature verification
+     * @param revocationStore the revocation store, or {@code null} to skip revocation checks
+     * @return the parsed JwtPayload object
+     * @throws IllegalArgumentException if the token is invalid
+     */
+    public JwtPayload validateAndExtractPayload(String token, JwtSignatureVerifier verifier,
+            JwtRevocationStore revocationStore) {
+        return validateAndExtractPayload(token, verifier, revocationStore, PAYLOAD_READER);
+    }
+
+    /**
+     * Extracts the payload from the JWT token and parses it with the given reader,
+     * verifying the token signature first and rejecting revoked tokens.
+     *
+     * @param token           the JWT token
+     * @param verifier        the signature verifier, or {@code null} to skip signature verification
+     * @param revocationStore the revocation store, or {@code null} to skip revocation checks
+     * @param payloadReader   the payload reader, built with {@link JwtPayloadDeserializer#reader}
+     * @return the parsed JwtPayload object
+     * @throws IllegalArgumentException if the token is invalid
+     */
+    public JwtPayload validateAndExtractPayload(String token, JwtSignatureVerifier verifier,
+            JwtRevocationStore revocationStore, ObjectReader payloadReader) {
         log.debug("Validating JWT token structure");
 
         log.trace("Null and empty check for JWT token");
@@ -42,67 +118,82 @@ public class JwtUtil {
 
         log.trace("Token starts with 'Bearer ' check");
         // Check if the token starts with "Bearer "
-        if (!token.startsWith("Bearer ")) {
-            throw new JwtParseException("JWT token does not start with 'Bearer ': " + token.substring(0, 7));
+        if (!token.startsWith(BEARER_PREFIX)) {
+            throw new JwtParseException("JWT token does not start with 'Bearer ': "
+                    + token.substring(0, Math.min(token.length(), BEARER_PREFIX.length())));
+        }
+
+        log.trace("Token length check");
+        // Reject oversized tokens before any decoding work is done
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            throw new JwtParseException("JWT token exceeds " + MAX_TOKEN_LENGTH + " characters");
         }
 
         log.trace("Checking if token has 3 parts");
-        // Split the token into parts
-        var parts = token.split("\\.");
-        // Check if the token has 3 parts
-        if (parts.length != 3) {
+        // Locate the segment separators by index instead of splitting the token
+        int payloadStart = token.indexOf('.', BEARER_PREFIX.length()) + 1;
+        int payloadEnd = payloadStart == 0 ? -1 : token.indexOf('.', payloadStart);
+        // Check if the token has 3 parts, the last one not empty
+        if (payloadEnd < 0 || payloadEnd == token.length() - 1 || token.indexOf('.', payloadEnd + 1) >= 0) {
             throw new JwtParseException("JWT token does not have 3 parts");
         }
 
+        if (verifier != null) {
+            log.trace("Verifying JWT token signature");
+            // Verify the signature before the payload is decoded and trusted
+            verifier.verify(token, BEARER_PREFIX.length(), payloadStart, payloadEnd);
+        }
+
         log.trace("Decoding payload part of JWT token");
-        // Decode the payloadPart part of the JWT token
-        var payloadPart = new String(Base64.getUrlDecoder().decode(parts[1]));
+        // Decode the payload part of the JWT token straight from the header value
+        var decodedPayload = PAYLOAD_DECODER.decode(token, payloadStart, payloadEnd);
 
         // parse the payload part into a JwtPayload object
-        var jwtPayload = parsePayload(payloadPart);
+        var jwtPayload = parsePayload(payloadReader, decodedPayload.json(), decodedPayload.length());
 
         log.debug("Validating JWT payload");
         // Validate the JWT payload, throws an exception if invalid
-        validatePayload(jwtPayload);
+        validatePayload(jwtPayload, revocationStore);
 
         return jwtPayload;
     }
 
     /**
-     * Parses the JWT payload string into a JwtPayload object.
+     * Parses the decoded JWT payload bytes into a JwtPayload object.
      *
-     * @param payloadString the JWT payload as a JSON string
+     * @param payloadReader the payload reader
+     * @param payloadBytes  the array holding the JWT payload as UTF-8 encoded JSON
+     * @param length        the number of JSON bytes from index 0
      * @return the JwtPayload object
      * @throws JwtParseException if parsing fails
      */
-    private JwtPayload parsePayload(String payloadString) {
+    private JwtPayload parsePayload(ObjectReader payloadReader, byte[] payloadBytes, int length) {
 
         log.debug("Parsing JWT payload");
+        JwtPayload jwtPayload;
         try {
-
-            // Create an ObjectMapper instance for JSON parsing
-            ObjectMapper mapper = new ObjectMapper();
-            // Register the JavaTimeModule to handle Java 8 date/time types
-            mapper.registerModule(new JavaTimeModule());
-            // Disable writing dates as timestamps
-            mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-            // Parse the JSON string into a JwtPayload object using Jackson
-            JwtPayload jwtPayload = mapper.readValue(payloadString, JwtPayload.class);
+            // Stream the JSON bytes into a JwtPayload object
+            jwtPayload = payloadReader.readValue(payloadBytes, 0, length);
             log.trace("Parsed JWT payload: {}", jwtPayload);
-
-            return jwtPayload;
         } catch (Exception e) {
             log.error("Failed to parse JWT payload: ", e);
             throw new JwtParseException("Failed to parse JWT payload", e);
         }
+
+        // A literal JSON null is well-formed but carries no claims
+        if (jwtPayload == null) {
+            throw new JwtParseException("JWT payload is empty");
+        }
+        return jwtPayload;
     }
 
     /**
-     * validate subject and expiration date.
+     * validate subject, expiration date and revocation.
      *
-     * @param jwtPayload the JWT payload to validate
+     * @param jwtPayload      the JWT payload to validate
+     * @param revocationStore the revocation store, or {@code null} to skip revocation checks
      */
-    private void validatePayload(JwtPayload jwtPayload) {
+    private void validatePayload(JwtPayload jwtPayload, JwtRevocationStore revocationStore) {
 
         log.trace("Validating token expiration");
         // Check if the JWT payload has a valid expiration date
@@ -112,7 +203,7 @@ public class JwtUtil {
 
         // Check if the JWT payload has expired
         if (jwtPayload.expiration().isBefore(Instant.now())) {
-            throw new JwtAuthenticationException("JWT token has expired");
+            throw new JwtExpiredException("JWT token has expired");
         }
 
         log.trace("Validating token subject");
@@ -120,5 +211,11 @@ public class JwtUtil {
         if (!StringUtils.hasText(jwtPayload.subject())) {
             throw new JwtAuthenticationException("JWT payload subject is null or empty");
         }
+
+        log.trace("Validating token revocation");
+        // Check if the JWT token id is revoked, a single Bloom filter probe for most tokens
+        if (revocationStore != null && revocationStore.isRevoked(jwtPayload.tokenId())) {
+            throw new JwtRevokedException("JWT token has been revoked");
+        }
     }
 }
@@ -0,0 +1,100 @@
+package com.fmd.security_service.accesslog;
+
+import com.fmd.security_service.metrics.JwtMetrics.Outcome;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AccessLogRingBuffer}.
+ * <p>
+ * Verifies the capacity rounding, ordering, rejection of events when full,
+ * reuse of the slots after draining, and that events offered concurrently by
+ * many threads are each drained exactly once.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class AccessLogRingBufferTest {
+
+    /**
+     * Tests that the capacity is rounded up to a power of two.
+     */
+    @Test
+    void capacity_roundedUpToPowerOfTwo() {
+        log.info("Testing the capacity is rounded up to a power of two");
+        assertThat(new AccessLogRingBuffer(1).capacity()).isEqualTo(2);
+        assertThat(new AccessLogRingBuffer(8).capacity()).isEqualTo(8);
+        assertThat(new AccessLogRingBuffer(1000).capacity()).isEqualTo(1024);
+    }
+
+    /**
+     * Tests that events are drained in order, that a full buffer rejects new
+     * events, and that drained slots are reused.
+     */
+    @Test
+    void offerAndDrain_fullBufferRejectsUntilDrained() {
+        log.info("Testing a full buffer rejects events until drained");
+        var buffer = new AccessLogRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i, Outcome.EXPIRED, "user" + i, null)).isTrue();
+        }
+        assertThat(buffer.offer(4, Outcome.EXPIRED, "user4", null)).isFalse();
+
+        List<String> subjects = new ArrayList<>();
+        assertThat(buffer.drain(entry -> subjects.add(entry.subject()))).isEqualTo(4);
+        assertThat(subjects).containsExactly("user0", "user1", "user2", "user3");
+        assertThat(buffer.drain(entry -> subjects.add(entry.subject()))).isZero();
+
+        assertThat(buffer.offer(5, Outcome.MALFORMED, null, "bad")).isTrue();
+        assertThat(buffer.drain(entry -> assertThat(entry.reason()).isEqualTo("bad"))).isEqualTo(1);
+    }
+
+    /**
+     * Tests that events offered by concurrent producers while the consumer
+     * drains are each delivered once, and rejected events are accounted for.
+     */
+    @Test
+    void concurrentOffers_eachEventDrainedOnce() throws Exception {
+        log.info("Testing concurrent producers with a draining consumer");
+        var buffer = new AccessLogRingBuffer(64);
+        int producers = 8;
+        int eventsPerProducer = 10_000;
+        var rejected = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        var subjects = new HashSet<String>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < eventsPerProducer; i++) {
+                        if (!buffer.offer(i, Outcome.AUTHENTICATED, producer + ":" + i, null)) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            int drained = 0;
+            while (drained + rejected.get() < producers * eventsPerProducer) {
+                drained += buffer.drain(entry -> assertThat(subjects.add(entry.subject())).isTrue());
+            }
+        }
+        buffer.drain(entry -> assertThat(subjects.add(entry.subject())).isTrue());
+
+        assertThat(subjects.size() + rejected.get()).isEqualTo(producers * eventsPerProducer);
+    }
+}
@@ -0,0 +1,87 @@
+package com.fmd.security_service.accesslog;
+
+import com.fmd.security_service.dto.JwtAccessLogProperties;
+import com.fmd.security_service.metrics.JwtMetrics.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AuthAccessLog}.
+ * <p>
+ * Verifies the format of the lines written by the writer thread, that
+ * successes are sampled while rejections are always logged, and that events
+ * dropped on a full buffer are counted in the metric.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class AuthAccessLogTest {
+    private final List<String> lines = new CopyOnWriteArrayList<>();
+
+    /**
+     * Tests that rejections are written with their reason, and that successes
+     * are written with their subject when every success is sampled.
+     */
+    @Test
+    void record_writesLinesAsynchronously() throws Exception {
+        log.info("Testing events are written by the writer thread");
+        var accessLog = new AuthAccessLog(new JwtAccessLogProperties(1.0, 16), lines::add);
+        accessLog.start();
+        accessLog.record(Outcome.AUTHENTICATED, "username", null);
+        accessLog.record(Outcome.EXPIRED, null, "JWT token has expired");
+        // Stopping waits for the writer to write the buffered events
+        accessLog.stop();
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).endsWith(" outcome=authenticated sub=username");
+        assertThat(lines.get(1)).endsWith(" outcome=expired reason=\"JWT token has expired\"");
+    }
+
+    /**
+     * Tests that successes are not logged with a sample rate of 0, while
+     * rejections still are.
+     */
+    @Test
+    void record_zeroSampleRate_logsOnlyRejections() throws Exception {
+        log.info("Testing only rejections are logged with a sample rate of 0");
+        var accessLog = new AuthAccessLog(new JwtAccessLogProperties(0.0, 16), lines::add);
+        accessLog.start();
+        accessLog.record(Outcome.AUTHENTICATED, "username", null);
+        accessLog.record(Outcome.MISSING, null, null);
+        accessLog.stop();
+
+        assertThat(lines).singleElement().asString().endsWith(" outcome=missing");
+    }
+
+    /**
+     * Tests that events offered to a full buffer are dropped and counted, and
+     * that the buffered events are still written on stop.
+     */
+    @Test
+    void record_fullBuffer_countsDroppedEvents() throws Exception {
+        log.info("Testing events dropped on a full buffer are counted");
+        var registry = new SimpleMeterRegistry();
+        var accessLog = new AuthAccessLog(new JwtAccessLogProperties(1.0, 4), lines::add);
+        accessLog.bindTo(registry);
+        // Not started yet, so nothing drains the buffer
+        for (int i = 0; i < 10; i++) {
+            accessLog.record(Outcome.REPLAYED, null, null);
+        }
+
+        assertThat(accessLog.droppedCount()).isEqualTo(6);
+        assertThat(registry.get(AuthAccessLog.DROPPED_METRIC).functionCounter().count()).isEqualTo(6.0);
+
+        accessLog.start();
+        accessLog.stop();
+        assertThat(lines).hasSize(4);
+    }
+}
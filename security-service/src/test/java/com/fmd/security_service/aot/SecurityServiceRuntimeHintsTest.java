@@ -0,0 +1,76 @@
+package com.fmd.security_service.aot;
+
+import com.fmd.security_service.dto.ApiError;
+import com.fmd.security_service.dto.JwtHeader;
+import com.fmd.security_service.dto.JwtPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SecurityServiceRuntimeHints}.
+ * <p>
+ * Verifies that the JSON header, payload and error records are registered
+ * for reflection, so Jackson can bind them in a native image.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class SecurityServiceRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    /**
+     * Tests that JwtPayload can be constructed and its accessors invoked
+     * reflectively.
+     */
+    @Test
+    void registerHints_jwtPayloadRegisteredForBinding() throws Exception {
+        log.info("Testing JwtPayload binding hints");
+        new SecurityServiceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(JwtPayload.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(JwtPayload.class.getMethod("subject")))
+                .accepts(hints);
+    }
+
+    /**
+     * Tests that JwtHeader, read by the signature verifier's own mapper, can
+     * be constructed and its accessors invoked reflectively.
+     */
+    @Test
+    void registerHints_jwtHeaderRegisteredForBinding() throws Exception {
+        log.info("Testing JwtHeader binding hints");
+        new SecurityServiceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onType(JwtHeader.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(JwtHeader.class.getMethod("algorithm")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(JwtHeader.class.getMethod("keyId")))
+                .accepts(hints);
+    }
+
+    /**
+     * Tests that ApiError accessors can be invoked reflectively for
+     * serialization.
+     */
+    @Test
+    void registerHints_apiErrorRegisteredForBinding() throws Exception {
+        log.info("Testing ApiError binding hints");
+        new SecurityServiceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ApiError.class.getMethod("timestamp")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ApiError.class.getMethod("message")))
+                .accepts(hints);
+    }
+}
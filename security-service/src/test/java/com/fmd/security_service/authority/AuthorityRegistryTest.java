@@ -0,0 +1,146 @@
+package com.fmd.security_service.authority;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link AuthorityRegistry}.
+ * <p>
+ * Verifies that role combinations are canonicalized to one shared role set and
+ * that the registry stays bounded, and the role bits assigned for access
+ * rules.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class AuthorityRegistryTest {
+
+    private final AuthorityRegistry registry = new AuthorityRegistry();
+
+    /**
+     * Tests that null and empty role lists resolve to the empty role set.
+     */
+    @Test
+    void resolve_nullOrEmptyRoles_returnsEmpty() {
+        log.info("Testing null and empty roles resolve to RoleSet.EMPTY");
+        assertThat(registry.resolve(null)).isSameAs(RoleSet.EMPTY);
+        assertThat(registry.resolve(List.of())).isSameAs(RoleSet.EMPTY);
+        assertThat(registry.size()).isZero();
+    }
+
+    /**
+     * Tests that equal role lists from different tokens resolve to the same
+     * instance.
+     */
+    @Test
+    void resolve_sameRoles_returnsSameInstance() {
+        log.info("Testing equal role lists share one role set");
+        RoleSet first = registry.resolve(new ArrayList<>(List.of("User", "Admin")));
+        RoleSet second = registry.resolve(new ArrayList<>(List.of("User", "Admin")));
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getAuthorities()).isSameAs(first.getAuthorities());
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that differently ordered and duplicated roles resolve to the same
+     * canonical instance.
+     */
+    @Test
+    void resolve_reorderedAndDuplicatedRoles_returnsCanonicalInstance() {
+        log.info("Testing reordered and duplicated roles are canonicalized");
+        RoleSet first = registry.resolve(List.of("User", "Admin"));
+        RoleSet second = registry.resolve(List.of("Admin", "User", "Admin"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getRoles()).containsExactly("Admin", "User");
+        assertThat(registry.size()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that mutating the list passed in does not affect the interned role
+     * set.
+     */
+    @Test
+    void resolve_mutatedInput_doesNotAffectInternedSet() {
+        log.info("Testing interned role set is isolated from the input list");
+        List<String> roles = new ArrayList<>(List.of("User"));
+        RoleSet roleSet = registry.resolve(roles);
+
+        roles.add("Admin");
+
+        assertThat(roleSet.getRoles()).containsExactly("User");
+        assertThat(registry.resolve(List.of("User"))).isSameAs(roleSet);
+    }
+
+    /**
+     * Tests that once the registry is full, new combinations still resolve but
+     * are no longer interned.
+     */
+    @Test
+    void resolve_registryFull_returnsUninternedRoleSet() {
+        log.info("Testing registry stays bounded");
+        for (int i = 0; i < AuthorityRegistry.MAX_ROLE_SETS; i++) {
+            registry.resolve(List.of("Role" + i));
+        }
+
+        RoleSet overflow = registry.resolve(List.of("Overflow"));
+
+        assertThat(overflow.getRoles()).containsExactly("Overflow");
+        assertThat(registry.resolve(List.of("Overflow"))).isNotSameAs(overflow);
+        assertThat(registry.resolve(List.of("Role0"))).isSameAs(registry.resolve(List.of("Role0")));
+        assertThat(registry.size()).isEqualTo(AuthorityRegistry.MAX_ROLE_SETS);
+    }
+
+    /**
+     * Tests that roles used in rules get one bit each and role sets carry the
+     * bits of their roles only.
+     */
+    @Test
+    void requireMask_assignsBitsUsedByRoleSets() {
+        log.info("Testing role bits are assigned and carried by role sets");
+        long adminOrUser = registry.requireMask("Admin", "User");
+        long admin = registry.requireMask("Admin");
+
+        assertThat(adminOrUser).isEqualTo(0b11L);
+        assertThat(admin).isEqualTo(0b01L);
+        assertThat(registry.maskOf(List.of("User", "Guest"))).isEqualTo(0b10L);
+        assertThat(registry.resolve(List.of("Guest", "User")).getMask()).isEqualTo(0b10L);
+        assertThat(registry.resolve(List.of("Guest")).getMask()).isZero();
+        assertThat(RoleSet.EMPTY.getMask()).isZero();
+    }
+
+    /**
+     * Tests that new role bits cannot be assigned once role sets exist, and that
+     * at most 64 roles can be used in rules.
+     */
+    @Test
+    void requireMask_rejectsLateAndExcessRoles() {
+        log.info("Testing late and excess role bits are rejected");
+        registry.requireMask("User");
+        registry.resolve(List.of("User"));
+
+        assertThat(registry.requireMask("User")).isEqualTo(1L);
+        assertThatThrownBy(() -> registry.requireMask("Admin"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("before tokens are authenticated");
+
+        AuthorityRegistry fresh = new AuthorityRegistry();
+        for (int i = 0; i < Long.SIZE; i++) {
+            assertThat(fresh.requireMask("Role" + i)).isEqualTo(1L << i);
+        }
+        assertThatThrownBy(() -> fresh.requireMask("Role64"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("At most 64 roles");
+    }
+}
@@ -0,0 +1,101 @@
+package com.fmd.security_service.authority;
+
+import com.fmd.security_service.cache.CachedAuthentication;
+import com.fmd.security_service.dto.JwtPayload;
+import com.fmd.security_service.security.JwtAuthentication;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link RoleMaskAuthorizationManager}.
+ * <p>
+ * Verifies decisions for JWT authentications by role mask, the fallback for
+ * other authentications, and the reactive variant.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class RoleMaskAuthorizationManagerTest {
+
+    private final AuthorityRegistry registry = new AuthorityRegistry();
+    private final RoleMaskAuthorizationManager<Object> adminOrUser =
+            RoleMaskAuthorizationManager.hasAnyRole(registry, "Admin", "User");
+    private final RoleMaskAuthorizationManager<Object> auditor =
+            RoleMaskAuthorizationManager.hasAnyRole(registry, "Auditor");
+
+    /**
+     * Tests that JWT authentications are granted by their role set mask.
+     */
+    @Test
+    void testCheck_jwtAuthentication() {
+        log.info("Testing decisions for JWT authentications");
+        Authentication user = jwtAuthentication(List.of("User", "Guest"));
+        Authentication guest = jwtAuthentication(List.of("Guest"));
+        Authentication noRoles = jwtAuthentication(null);
+
+        assertThat(adminOrUser.check(() -> user, null).isGranted()).isTrue();
+        assertThat(auditor.check(() -> user, null).isGranted()).isFalse();
+        assertThat(adminOrUser.check(() -> guest, null).isGranted()).isFalse();
+        assertThat(adminOrUser.check(() -> noRoles, null).isGranted()).isFalse();
+        assertThat(adminOrUser.check(() -> user, null)).isSameAs(adminOrUser.check(() -> user, null));
+    }
+
+    /**
+     * Tests that other authentications are decided by their authorities, and
+     * that missing or unauthenticated authentications are denied.
+     */
+    @Test
+    void testCheck_otherAuthentications() {
+        log.info("Testing decisions for other authentications");
+        Authentication admin = UsernamePasswordAuthenticationToken.authenticated("admin", null,
+                AuthorityUtils.createAuthorityList("Admin"));
+        Authentication unauthenticated = UsernamePasswordAuthenticationToken.unauthenticated("admin", null);
+        Authentication anonymous = new AnonymousAuthenticationToken("key", "anonymous",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+        assertThat(adminOrUser.check(() -> admin, null).isGranted()).isTrue();
+        assertThat(adminOrUser.check(() -> unauthenticated, null).isGranted()).isFalse();
+        assertThat(adminOrUser.check(() -> anonymous, null).isGranted()).isFalse();
+        assertThat(adminOrUser.check(() -> null, null).isGranted()).isFalse();
+    }
+
+    /**
+     * Tests the reactive variant, which denies an empty authentication.
+     */
+    @Test
+    void testReactive() {
+        log.info("Testing reactive decisions");
+        var reactive = adminOrUser.reactive();
+
+        assertThat(reactive.check(Mono.just(jwtAuthentication(List.of("Admin"))), null).block().isGranted())
+                .isTrue();
+        assertThat(reactive.check(Mono.just(jwtAuthentication(List.of("Guest"))), null).block().isGranted())
+                .isFalse();
+        assertThat(reactive.check(Mono.empty(), null).block().isGranted()).isFalse();
+    }
+
+    /**
+     * Builds a JWT authentication with the given roles.
+     *
+     * @param roles the token roles
+     * @return the authentication
+     */
+    private JwtAuthentication jwtAuthentication(List<String> roles) {
+        JwtPayload payload = new JwtPayload("iss", Instant.now(), Instant.now().plusSeconds(600), "aud", "user",
+                "User Name", roles, null, null);
+        return new JwtAuthentication(new CachedAuthentication(payload, registry.resolve(roles)), () -> null);
+    }
+}
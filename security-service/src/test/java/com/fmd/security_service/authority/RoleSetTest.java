@@ -0,0 +1,64 @@
+package com.fmd.security_service.authority;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link RoleSet}.
+ * <p>
+ * Verifies the authorities and summaries derived from the roles.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class RoleSetTest {
+
+    private final RoleSet roleSet = new RoleSet(List.of("Admin", "User"), 0b11L);
+
+    /**
+     * Tests that the authorities and joined string follow the role order.
+     */
+    @Test
+    void derivedValues_followRoleOrder() {
+        log.info("Testing derived authorities and joined roles");
+        assertThat(roleSet.getAuthorities())
+                .containsExactly(new SimpleGrantedAuthority("Admin"), new SimpleGrantedAuthority("User"));
+        assertThat(roleSet.getJoined()).isEqualTo("Admin,User");
+        assertThat(roleSet.isEmpty()).isFalse();
+        assertThat(RoleSet.EMPTY.getJoined()).isEmpty();
+        assertThat(RoleSet.EMPTY.isEmpty()).isTrue();
+    }
+
+    /**
+     * Tests role membership checks.
+     */
+    @Test
+    void hasRole_andHasAnyRole() {
+        log.info("Testing role membership checks");
+        assertThat(roleSet.hasRole("Admin")).isTrue();
+        assertThat(roleSet.hasRole("Guest")).isFalse();
+        assertThat(roleSet.hasAnyRole(List.of("Guest", "User"))).isTrue();
+        assertThat(roleSet.hasAnyRole(List.of("Guest"))).isFalse();
+    }
+
+    /**
+     * Tests that the exposed collections cannot be modified.
+     */
+    @Test
+    void collections_areImmutable() {
+        log.info("Testing role set collections are immutable");
+        assertThatThrownBy(() -> roleSet.getRoles().add("Guest"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> roleSet.getAuthorities().add(new SimpleGrantedAuthority("Guest")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package com.fmd.security_service.cache;
+
+import com.fmd.security_service.dto.JwtCacheControlProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link AuthDecisionCacheControl}.
+ * <p>
+ * Verifies that accepted decisions are cacheable for the remaining token
+ * lifetime up to the configured ceiling, and that rejections are no-store or
+ * short-lived.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class AuthDecisionCacheControlTest {
+
+    private static final String TOKEN = "Bearer header.payload.signature";
+
+    private final AuthDecisionCacheControl cacheControl = new AuthDecisionCacheControl(
+            new JwtCacheControlProperties(Duration.ofSeconds(60), null));
+
+    /**
+     * Tests that the max age is the remaining token lifetime, rounded down and
+     * capped by the configured max age.
+     */
+    @Test
+    void testMaxAge_cappedByExpirationAndCeiling() {
+        log.info("Testing max age is capped by token expiration and ceiling");
+        Instant now = Instant.ofEpochSecond(1000, 500);
+
+        assertThat(cacheControl.maxAge(Instant.ofEpochSecond(1030), now)).isEqualTo(29);
+        assertThat(cacheControl.maxAge(Instant.ofEpochSecond(5000), now)).isEqualTo(60);
+        assertThat(cacheControl.maxAge(Instant.ofEpochSecond(1000), now)).isZero();
+        assertThat(cacheControl.maxAge(Instant.ofEpochSecond(900), now)).isZero();
+        assertThat(cacheControl.maxAge(null, now)).isZero();
+    }
+
+    /**
+     * Tests the headers of an accepted token.
+     */
+    @Test
+    void testWriteAccepted() {
+        log.info("Testing headers of an accepted token");
+        Map<String, String> headers = new LinkedHashMap<>();
+
+        cacheControl.writeAccepted(TOKEN, Instant.now().plusSeconds(3600), headers::put);
+
+        assertThat(headers).containsEntry("Vary", "Authorization")
+                .containsEntry("Cache-Control", "max-age=60, must-revalidate")
+                .containsEntry(AuthDecisionCacheControl.CACHE_KEY_HEADER, TokenFingerprint.of(TOKEN).toHex());
+    }
+
+    /**
+     * Tests that an accepted token is not cached when caching is disabled or
+     * the token has no lifetime left.
+     */
+    @Test
+    void testWriteAccepted_notCacheable() {
+        log.info("Testing accepted tokens without cacheable lifetime are no-store");
+        var disabled = new AuthDecisionCacheControl(new JwtCacheControlProperties(Duration.ZERO, null));
+        Map<String, String> headers = new LinkedHashMap<>();
+
+        disabled.writeAccepted(TOKEN, Instant.now().plusSeconds(3600), headers::put);
+
+        assertThat(headers).containsEntry("Cache-Control", "no-store")
+                .doesNotContainKey(AuthDecisionCacheControl.CACHE_KEY_HEADER);
+    }
+
+    /**
+     * Tests that rejections are no-store by default and short-lived when
+     * configured.
+     */
+    @Test
+    void testWriteRejected() {
+        log.info("Testing headers of rejections");
+        Map<String, String> headers = new LinkedHashMap<>();
+        cacheControl.writeRejected(headers::put);
+        assertThat(headers).containsEntry("Cache-Control", "no-store").containsEntry("Vary", "Authorization");
+
+        var shortLived = new AuthDecisionCacheControl(new JwtCacheControlProperties(null, Duration.ofSeconds(5)));
+        shortLived.writeRejected(headers::put);
+        assertThat(headers).containsEntry("Cache-Control", "max-age=5");
+    }
+}
@@ -0,0 +1,226 @@
+package com.fmd.security_service.cache;
+
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.dto.JwtCacheProperties;
+import com.fmd.security_service.dto.JwtPayload;
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.revocation.RevocationListReloadedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JwtTokenCache}.
+ * <p>
+ * Verifies hit/miss accounting, that failed validations are not cached, and
+ * that entries expire with their token.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class JwtTokenCacheTest {
+
+    private static final String TOKEN = "Bearer header.payload.signature";
+
+    private final JwtTokenCache cache = new JwtTokenCache(new JwtCacheProperties(100L, Duration.ofMinutes(5), 100L,
+            Duration.ofMinutes(1)));
+    private final AuthorityRegistry registry = new AuthorityRegistry();
+    private final AtomicInteger validations = new AtomicInteger();
+
+    /**
+     * Tests that the first lookup validates the token and later lookups are hits.
+     */
+    @Test
+    void testGet_repeatedToken_validatedOnce() {
+        log.info("Testing repeated token is validated once");
+        Function<String, CachedAuthentication> validator = countingValidator(Instant.now().plusSeconds(600));
+
+        CachedAuthentication first = cache.get(TOKEN, validator);
+        CachedAuthentication second = cache.get(TOKEN, validator);
+
+        assertThat(second).isSameAs(first);
+        assertThat(validations).hasValue(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(first.authorities()).containsExactly(new SimpleGrantedAuthority("User"));
+    }
+
+    /**
+     * Tests that a validation failure propagates once, is not cached as valid,
+     * and is then answered from the rejected token cache without validating
+     * again.
+     */
+    @Test
+    void testGet_validatorThrows_rememberedAsRejected() {
+        log.info("Testing rejected tokens are remembered and not validated again");
+        Function<String, CachedAuthentication> validator = token -> {
+            validations.incrementAndGet();
+            throw new JwtParseException("invalid");
+        };
+
+        assertThatThrownBy(() -> cache.get(TOKEN, validator)).isInstanceOf(JwtParseException.class);
+        assertThat(cache.get(TOKEN, validator)).isNull();
+
+        assertThat(validations).hasValue(1);
+        assertThat(cache.estimatedSize()).isZero();
+        assertThat(cache.rejectedEstimatedSize()).isEqualTo(1);
+        assertThat(cache.rejectedHitCount()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that expired-token rejections are remembered as well.
+     */
+    @Test
+    void testGet_authenticationException_rememberedAsRejected() {
+        log.info("Testing authentication failures are remembered");
+        Function<String, CachedAuthentication> validator = token -> {
+            validations.incrementAndGet();
+            throw new JwtAuthenticationException("JWT token has expired");
+        };
+
+        assertThatThrownBy(() -> cache.get(TOKEN, validator)).isInstanceOf(JwtAuthenticationException.class);
+        assertThat(cache.get(TOKEN, validator)).isNull();
+
+        assertThat(validations).hasValue(1);
+    }
+
+    /**
+     * Tests that unexpected errors are not treated as token rejections.
+     */
+    @Test
+    void testGet_unexpectedException_notRemembered() {
+        log.info("Testing unexpected errors are not remembered as rejections");
+        Function<String, CachedAuthentication> validator = token -> {
+            validations.incrementAndGet();
+            throw new IllegalStateException("unexpected");
+        };
+
+        assertThatThrownBy(() -> cache.get(TOKEN, validator)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> cache.get(TOKEN, validator)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(validations).hasValue(2);
+        assertThat(cache.rejectedEstimatedSize()).isZero();
+    }
+
+    /**
+     * Tests that a missing token bypasses the cache and goes to the validator.
+     */
+    @Test
+    void testGet_nullToken_bypassesCache() {
+        log.info("Testing null token bypasses the cache");
+        Function<String, CachedAuthentication> validator = token -> {
+            throw new JwtParseException("JWT token is null or empty");
+        };
+
+        assertThatThrownBy(() -> cache.get(null, validator)).isInstanceOf(JwtParseException.class);
+        assertThat(cache.stats().requestCount()).isZero();
+    }
+
+    /**
+     * Tests that an entry whose token has already expired is not served again.
+     */
+    @Test
+    void testGet_expiredToken_notServedFromCache() {
+        log.info("Testing entries expire with their token");
+        Function<String, CachedAuthentication> validator = countingValidator(Instant.now().minusSeconds(1));
+
+        cache.get(TOKEN, validator);
+        cache.get(TOKEN, validator);
+
+        assertThat(validations).hasValue(2);
+    }
+
+    /**
+     * Tests that entries expire when the cache's ticker reaches the token's
+     * expiration, and at the maximum TTL for longer lived tokens.
+     */
+    @Test
+    void testGet_fakeTicker_expiresWithTokenAndMaxTtl() {
+        log.info("Testing entries expire on the cache ticker");
+        Instant now = Instant.parse("2030-01-01T00:00:00Z");
+        AtomicLong ticks = new AtomicLong(1_000);
+        var fakeCache = new JwtTokenCache(new JwtCacheProperties(100L, Duration.ofMinutes(5), 100L,
+                Duration.ofMinutes(1)), Clock.fixed(now, ZoneOffset.UTC), ticks::get);
+
+        fakeCache.get(TOKEN, countingValidator(now.plusSeconds(60)));
+        fakeCache.get("Bearer long.lived.token", countingValidator(now.plusSeconds(3_600)));
+        ticks.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertThat(fakeCache.get(TOKEN, token -> null)).isNotNull();
+
+        ticks.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(fakeCache.get(TOKEN, token -> null)).isNull();
+        assertThat(fakeCache.get("Bearer long.lived.token", token -> null)).isNotNull();
+
+        ticks.addAndGet(Duration.ofMinutes(4).toNanos());
+        assertThat(fakeCache.get("Bearer long.lived.token", token -> null)).isNull();
+        assertThat(validations).hasValue(2);
+    }
+
+    /**
+     * Tests that invalidateAll removes cached and rejected tokens.
+     */
+    @Test
+    void testInvalidateAll_removesEntries() {
+        log.info("Testing invalidateAll removes cached tokens");
+        cache.get(TOKEN, countingValidator(Instant.now().plusSeconds(600)));
+        assertThatThrownBy(() -> cache.get("Bearer other", token -> {
+            throw new JwtParseException("invalid");
+        })).isInstanceOf(JwtParseException.class);
+
+        cache.invalidateAll();
+
+        assertThat(cache.estimatedSize()).isZero();
+        assertThat(cache.rejectedEstimatedSize()).isZero();
+    }
+
+    /**
+     * Tests that reloading the revocation list drops validated tokens but keeps
+     * remembered rejections.
+     */
+    @Test
+    void testOnRevocationListReloaded_invalidatesValidatedTokens() {
+        log.info("Testing revocation list reload invalidates cached tokens");
+        Function<String, CachedAuthentication> validator = countingValidator(Instant.now().plusSeconds(600));
+        cache.get(TOKEN, validator);
+        assertThatThrownBy(() -> cache.get("Bearer other", token -> {
+            throw new JwtParseException("invalid");
+        })).isInstanceOf(JwtParseException.class);
+
+        cache.onRevocationListReloaded(new RevocationListReloadedEvent(1));
+        cache.get(TOKEN, validator);
+
+        assertThat(validations).hasValue(2);
+        assertThat(cache.rejectedEstimatedSize()).isEqualTo(1);
+    }
+
+    /**
+     * Builds a validator that counts invocations and returns a payload expiring
+     * at the given instant.
+     *
+     * @param expiration the expiration of the returned payload
+     * @return the counting validator
+     */
+    private Function<String, CachedAuthentication> countingValidator(Instant expiration) {
+        return token -> {
+            validations.incrementAndGet();
+            return new CachedAuthentication(new JwtPayload("iss", Instant.now(), expiration, "aud", "user",
+                    "User Name", List.of("User"), null, null), registry.resolve(List.of("User")));
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.fmd.security_service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link TokenFingerprint}.
+ * <p>
+ * Verifies that fingerprints are deterministic, distinguish different tokens,
+ * and render as fixed-length hex.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class TokenFingerprintTest {
+
+    /**
+     * Tests that the same token always yields an equal fingerprint.
+     */
+    @Test
+    void testOf_sameToken_equalFingerprints() {
+        log.info("Testing same token yields equal fingerprints");
+        assertThat(TokenFingerprint.of("Bearer a.b.c"))
+                .isEqualTo(TokenFingerprint.of("Bearer a.b.c"))
+                .hasSameHashCodeAs(TokenFingerprint.of("Bearer a.b.c"));
+    }
+
+    /**
+     * Tests that tokens differing in a single character yield different
+     * fingerprints.
+     */
+    @Test
+    void testOf_differentTokens_differentFingerprints() {
+        log.info("Testing different tokens yield different fingerprints");
+        assertThat(TokenFingerprint.of("Bearer a.b.c"))
+                .isNotEqualTo(TokenFingerprint.of("Bearer a.b.d"));
+    }
+
+    /**
+     * Tests that the fingerprint matches the leading 128 bits of the SHA-256
+     * digest, rendered as 32 lowercase hex characters.
+     */
+    @Test
+    void testToHex_leadingSha256Bits() {
+        log.info("Testing hex rendering of the fingerprint");
+        // SHA-256("abc") = ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad
+        assertThat(TokenFingerprint.of("abc").toHex()).isEqualTo("ba7816bf8f01cfea414140de5dae2223");
+    }
+}
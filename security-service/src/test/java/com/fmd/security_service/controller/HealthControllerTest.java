@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.mockito.Mockito;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthEndpoint;
@@ -44,6 +45,7 @@ import lombok.extern.slf4j.Slf4j;
  * @see HealthController
  */
 @Slf4j
+@DisabledInNativeImage // Mockito mocks need a JVM
 class HealthControllerTest {
 
     /**
@@ -1,6 +1,8 @@
 package com.fmd.security_service.exception.handler;
 
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
 import com.fmd.security_service.dto.ApiError;
+import com.fmd.security_service.dto.JwtCacheControlProperties;
 import com.fmd.security_service.testutil.ApiErrorAssertUtil;
 import com.fmd.security_service.utils.ErrorResponseUtil;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +10,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.mockito.ArgumentCaptor;
 import org.springframework.security.access.AccessDeniedException;
 
@@ -28,6 +31,7 @@ import static org.mockito.Mockito.*;
  * @since 1.0
  */
 @Slf4j
+@DisabledInNativeImage // Mockito mocks need a JVM
 class CustomAccessDeniedHandlerTest {
     private CustomAccessDeniedHandler handler;
     private HttpServletRequest request;
@@ -42,7 +46,7 @@ class CustomAccessDeniedHandlerTest {
     @BeforeEach
     void setUp() {
         log.info("Setting up test environment for CustomAccessDeniedHandlerTest");
-        handler = new CustomAccessDeniedHandler();
+        handler = new CustomAccessDeniedHandler(new AuthDecisionCacheControl(new JwtCacheControlProperties(null, null)));
         request = mock(HttpServletRequest.class);
         response = mock(HttpServletResponse.class);
         exception = new AccessDeniedException("Forbidden for test");
@@ -70,6 +74,8 @@ class CustomAccessDeniedHandlerTest {
 
         // Assert
         util.verify(() -> ErrorResponseUtil.writeErrorResponse(eq(response), eq(403), any(ApiError.class)));
+        verify(response).setHeader("Cache-Control", "no-store");
+        verify(response).setHeader("Vary", "Authorization");
         log.debug("Verified ErrorResponseUtil.writeErrorResponse called with 403 and ApiError");
         util.close();
     }
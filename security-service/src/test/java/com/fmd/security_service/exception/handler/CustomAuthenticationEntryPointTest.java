@@ -1,6 +1,8 @@
 package com.fmd.security_service.exception.handler;
 
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
 import com.fmd.security_service.dto.ApiError;
+import com.fmd.security_service.dto.JwtCacheControlProperties;
 import com.fmd.security_service.testutil.ApiErrorAssertUtil;
 import com.fmd.security_service.utils.ErrorResponseUtil;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +10,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.mockito.ArgumentCaptor;
 import org.springframework.security.core.AuthenticationException;
 
@@ -29,8 +32,10 @@ import static org.mockito.Mockito.*;
  * @since 1.0
  */
 @Slf4j
+@DisabledInNativeImage // Mockito mocks need a JVM
 class CustomAuthenticationEntryPointTest {
-    private final CustomAuthenticationEntryPoint entryPoint = new CustomAuthenticationEntryPoint();
+    private final CustomAuthenticationEntryPoint entryPoint = new CustomAuthenticationEntryPoint(
+            new AuthDecisionCacheControl(new JwtCacheControlProperties(null, null)));
     private final HttpServletRequest request = mock(HttpServletRequest.class);
     private final HttpServletResponse response = mock(HttpServletResponse.class);
     private final AuthenticationException exception = mock(AuthenticationException.class);
@@ -66,6 +71,8 @@ class CustomAuthenticationEntryPointTest {
 
             // Assert
             util.verify(() -> ErrorResponseUtil.writeErrorResponse(eq(response), eq(401), any(ApiError.class)));
+            verify(response).setHeader("Cache-Control", "no-store");
+            verify(response).setHeader("Vary", "Authorization");
             log.debug("Verified ErrorResponseUtil.writeErrorResponse called with 401 and ApiError");
         }
     }
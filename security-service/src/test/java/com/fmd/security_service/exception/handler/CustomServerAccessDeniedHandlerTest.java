@@ -0,0 +1,55 @@
+package com.fmd.security_service.exception.handler;
+
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
+import com.fmd.security_service.dto.JwtCacheControlProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CustomServerAccessDeniedHandler}.
+ * <p>
+ * Verifies that a 403 response with an ApiError body is written on access
+ * denied.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class CustomServerAccessDeniedHandlerTest {
+
+    private final AuthDecisionCacheControl cacheControl = new AuthDecisionCacheControl(
+            new JwtCacheControlProperties(null, null));
+
+    /**
+     * Tests that handle() writes the 403 JSON error body.
+     */
+    @Test
+    void handle_writesForbiddenJson() {
+        log.info("Testing reactive access denied handler writes 403 JSON error");
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/test"));
+
+        new CustomServerAccessDeniedHandler(cacheControl)
+                .handle(exchange, new AccessDeniedException("Forbidden for test"))
+                .block();
+
+        var response = exchange.getResponse();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-store");
+        assertThat(response.getHeaders().getVary()).containsExactly("Authorization");
+        assertThat(response.getBodyAsString().block())
+                .contains("\"status\":403")
+                .contains("\"error\":\"Forbidden\"")
+                .contains("\"message\":\"Access Denied: Forbidden for test\"")
+                .contains("\"path\":\"/api/test\"");
+    }
+}
@@ -0,0 +1,55 @@
+package com.fmd.security_service.exception.handler;
+
+import com.fmd.security_service.cache.AuthDecisionCacheControl;
+import com.fmd.security_service.dto.JwtCacheControlProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CustomServerAuthenticationEntryPoint}.
+ * <p>
+ * Verifies that a 401 response with an ApiError body is written on
+ * authentication failure.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class CustomServerAuthenticationEntryPointTest {
+
+    private final AuthDecisionCacheControl cacheControl = new AuthDecisionCacheControl(
+            new JwtCacheControlProperties(null, null));
+
+    /**
+     * Tests that commence() writes the 401 JSON error body.
+     */
+    @Test
+    void commence_writesUnauthorizedJson() {
+        log.info("Testing reactive entry point writes 401 JSON error");
+        var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/test"));
+
+        new CustomServerAuthenticationEntryPoint(cacheControl)
+                .commence(exchange, new BadCredentialsException("Bad credentials"))
+                .block();
+
+        var response = exchange.getResponse();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-store");
+        assertThat(response.getHeaders().getVary()).containsExactly("Authorization");
+        assertThat(response.getBodyAsString().block())
+                .contains("\"status\":401")
+                .contains("\"error\":\"Unauthorized\"")
+                .contains("\"message\":\"Authentication failed: Bad credentials\"")
+                .contains("\"path\":\"/api/test\"");
+    }
+}
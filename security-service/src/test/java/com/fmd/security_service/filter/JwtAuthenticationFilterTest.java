@@ -1,11 +1,28 @@
 package com.fmd.security_service.filter;
 
+import com.fmd.security_service.accesslog.AuthAccessLog;
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.cache.JwtTokenCache;
+import com.fmd.security_service.dto.JwtAccessLogProperties;
+import com.fmd.security_service.dto.JwtCacheProperties;
+import com.fmd.security_service.dto.JwtClaimProjectionProperties;
+import com.fmd.security_service.dto.JwtRevocationProperties;
+import com.fmd.security_service.dto.JwtSignatureProperties;
+import com.fmd.security_service.metrics.JwtMetrics;
+import com.fmd.security_service.projection.ClaimProjection;
+import com.fmd.security_service.revocation.JwtRevocationStore;
+import com.fmd.security_service.security.AccessRules;
+import com.fmd.security_service.service.impl.JwtAuthenticationServiceImpl;
+import com.fmd.security_service.signature.JwtKeyStore;
+import com.fmd.security_service.signature.JwtSignatureVerifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
@@ -13,6 +30,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
 import java.security.Principal;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -27,6 +45,9 @@ import static org.mockito.Mockito.*;
  * <li>Missing Authorization header</li>
  * <li>Invalid JWT token</li>
  * <li>Expired JWT token</li>
+ * <li>Repeated valid JWT token served from the token cache</li>
+ * <li>Replayed invalid JWT token rejected from the rejected token cache</li>
+ * <li>Requests to public paths skipping token validation</li>
  * </ul>
  *
  * @author Shailesh Halor
@@ -34,16 +55,27 @@ import static org.mockito.Mockito.*;
  * @since 1.0
  */
 @Slf4j
+@DisabledInNativeImage // Mockito mocks need a JVM
 class JwtAuthenticationFilterTest {
-    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+    private final JwtTokenCache tokenCache = new JwtTokenCache(new JwtCacheProperties(100L, Duration.ofMinutes(5), 100L,
+            Duration.ofMinutes(1)));
+    private final JwtSignatureProperties signatureProperties = new JwtSignatureProperties(null, null, null);
+    private final JwtSignatureVerifier signatureVerifier = new JwtSignatureVerifier(signatureProperties,
+            new JwtKeyStore(signatureProperties));
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+            new JwtAuthenticationServiceImpl(tokenCache, signatureVerifier, new AuthorityRegistry(),
+                    new JwtMetrics(new SimpleMeterRegistry()), new JwtRevocationStore(
+                    new JwtRevocationProperties(null, null, null), event -> {
+                    }), new AuthAccessLog(new JwtAccessLogProperties(null, null)),
+                    new ClaimProjection(new JwtClaimProjectionProperties(null))), AccessRules.PUBLIC_PATHS);
     private final MockHttpServletRequest request = new MockHttpServletRequest();
     private final MockHttpServletResponse response = new MockHttpServletResponse();
     private final FilterChain filterChain = mock(FilterChain.class);
 
     private static final String VALID_TOKEN = "Bearer eyJhbGciOiJIUzI1NiJ9.eyJpc" +
-            "3MiOiJUZXN0IiwiaWF0IjoxNzQ3OTI3NjkyLCJleHAiOjE3Nzk0NjM2OTcsImF1ZCI6" +
+            "3MiOiJUZXN0IiwiaWF0IjoxNzQ3OTI3NjkyLCJleHAiOjQxMDI0NDQ4MDAsImF1ZCI6" +
             "ImF1ZGlhbmNlIiwic3ViIjoidXNlcm5hbWUiLCJuYW1lIjoiSm9obm55Iiwicm9sZXM" +
-            "iOlsiVXNlciIsIkFkbWluIl19.2gS8pFXJuQ1u19GjDp7UcyTRVVlmBWNnJSukjDz2ENQ";
+            "iOlsiVXNlciIsIkFkbWluIl19.OwdthubQqNWtuIdkxO5gEo1zWDgD1AG2kam2zZr2DFM";
 
     @BeforeEach
     void setUp() {
@@ -81,6 +113,54 @@ class JwtAuthenticationFilterTest {
     }
 
 
+    /**
+     * Tests that a repeated valid JWT token is served from the token cache.
+     */
+    @Test
+    void testDoFilterInternal_repeatedValidToken_servedFromCache() throws Exception {
+        log.info("Testing repeated valid JWT token is served from the token cache");
+        doFilter(VALID_TOKEN);
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletRequest secondRequest = new MockHttpServletRequest();
+        secondRequest.addHeader("Authorization", VALID_TOKEN);
+        filter.doFilterInternal(secondRequest, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull()
+                .extracting(Principal::getName)
+                .isEqualTo("username");
+        assertThat(tokenCache.missCount()).isEqualTo(1);
+        assertThat(tokenCache.hitCount()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that an invalid JWT token is not cached.
+     */
+    @Test
+    void testDoFilterInternal_invalidToken_notCached() throws Exception {
+        log.info("Testing invalid JWT token is not cached");
+        testAuthenticationIsNull("Bearer invalid.token.value");
+        assertThat(tokenCache.estimatedSize()).isZero();
+    }
+
+    /**
+     * Tests that a replayed invalid JWT token is answered from the rejected token
+     * cache.
+     */
+    @Test
+    void testDoFilterInternal_replayedInvalidToken_rejectedFromCache() throws Exception {
+        log.info("Testing replayed invalid JWT token is rejected from the cache");
+        testAuthenticationIsNull("Bearer invalid.token.value");
+
+        MockHttpServletRequest secondRequest = new MockHttpServletRequest();
+        secondRequest.addHeader("Authorization", "Bearer invalid.token.value");
+        filter.doFilterInternal(secondRequest, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(tokenCache.rejectedHitCount()).isEqualTo(1);
+        verify(filterChain, times(1)).doFilter(secondRequest, response);
+    }
+
     /**
      * Tests that a valid JWT token but authentication is already set
      * in the security context.
@@ -94,6 +174,40 @@ class JwtAuthenticationFilterTest {
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
+    /**
+     * Tests that requests to public paths skip token validation, even with a
+     * token, and still continue the chain.
+     */
+    @Test
+    void testDoFilter_publicPath_skipsTokenValidation() throws Exception {
+        log.info("Testing requests to public paths skip token validation");
+        for (var publicRequest : new MockHttpServletRequest[] {new MockHttpServletRequest("GET", "/health"),
+                new MockHttpServletRequest("GET", "/actuator/health/liveness"),
+                new MockHttpServletRequest("OPTIONS", "/api/authenticate")}) {
+            publicRequest.addHeader("Authorization", VALID_TOKEN);
+            filter.doFilter(publicRequest, response, filterChain);
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            verify(filterChain).doFilter(publicRequest, response);
+        }
+        assertThat(tokenCache.missCount()).isZero();
+    }
+
+    /**
+     * Tests that requests to other paths are still authenticated through the
+     * public filter entry point.
+     */
+    @Test
+    void testDoFilter_protectedPath_setsAuthentication() throws Exception {
+        log.info("Testing requests to protected paths are authenticated");
+        var protectedRequest = new MockHttpServletRequest("GET", "/healthz");
+        protectedRequest.addHeader("Authorization", VALID_TOKEN);
+        filter.doFilter(protectedRequest, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        verify(filterChain).doFilter(protectedRequest, response);
+    }
+
     /**
      * Tests that a missing Authorization header does not set authentication.
      */
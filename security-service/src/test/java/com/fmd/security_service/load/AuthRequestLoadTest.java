@@ -0,0 +1,287 @@
+package com.fmd.security_service.load;
+
+import com.fmd.security_service.controller.AuthRequestRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test imitating nginx ingress calling {@code /api/auth-request} for every
+ * upstream request.
+ * <p>
+ * Requests are sent at a fixed arrival rate, each on its own virtual thread,
+ * with a weighted mix of valid, role-variant, role-less, expired and malformed
+ * tokens drawn from a pool of distinct users. Latency is measured from the
+ * time each request was scheduled to be sent, not from when it was actually
+ * sent, so stalls of the service are not hidden by the generator falling
+ * behind (coordinated omission). The uncorrected service time is recorded
+ * next to it for comparison.
+ * </p>
+ * <p>
+ * After a warm-up, latencies are recorded in HdrHistogram and written as
+ * percentile distributions ({@code .hgrm}) per token kind to
+ * {@code target/load-reports}, ready to plot, together with a summary table
+ * ({@code auth-request-summary.txt}) to diff between releases.
+ * Tagged {@code load}, so it only runs with the {@code load} profile:
+ * </p>
+ *
+ * <pre>
+ * ./mvnw -Pload test -Dload.rate=1000 -Dload.duration=PT60S
+ * </pre>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"management.server.port=0", "logging.level.com.fmd.security_service=WARN",
+                "logging.level.com.fmd.security_service.load=INFO"})
+class AuthRequestLoadTest {
+
+    private static final int RATE = Integer.getInteger("load.rate", 500);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private static final Path REPORT_DIR = Path.of(System.getProperty("load.report.dir", "target/load-reports"));
+    private static final int USERS = 1000;
+
+    // Highest trackable latency, requests slower than this are clamped
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * Kind of token in the mix, with its share of the requests and the status
+     * nginx would receive.
+     */
+    enum TokenKind {
+        VALID(70, 204),
+        USER_ROLE_ONLY(10, 204),
+        NO_ROLES(5, 403),
+        EXPIRED(10, 401),
+        MALFORMED(5, 401);
+
+        private final int weight;
+        private final int expectedStatus;
+
+        TokenKind(int weight, int expectedStatus) {
+            this.weight = weight;
+            this.expectedStatus = expectedStatus;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private final Map<TokenKind, Recorder> corrected = new EnumMap<>(TokenKind.class);
+    private final Map<TokenKind, Recorder> uncorrected = new EnumMap<>(TokenKind.class);
+    private final AtomicLong unexpectedStatuses = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * Runs the warm-up and the measured phase, writes the reports and checks
+     * that every request got the status expected for its token.
+     */
+    @Test
+    void authRequest_fixedRateTokenMix() throws Exception {
+        log.info("Running auth_request load test at {} requests/s for {} after {} warm-up", RATE, DURATION, WARMUP);
+        for (TokenKind kind : TokenKind.values()) {
+            corrected.put(kind, new Recorder(MAX_LATENCY_NANOS, 3));
+            uncorrected.put(kind, new Recorder(MAX_LATENCY_NANOS, 3));
+        }
+        Map<TokenKind, List<String>> tokens = createTokens();
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            runPhase(client, executor, tokens, WARMUP);
+            resetRecorders();
+            unexpectedStatuses.set(0);
+            failures.set(0);
+            runPhase(client, executor, tokens, DURATION);
+        }
+
+        writeReports();
+        assertThat(failures).hasValue(0);
+        assertThat(unexpectedStatuses).hasValue(0);
+    }
+
+    /**
+     * Sends requests at the fixed rate for the given duration, then waits for
+     * the outstanding requests.
+     */
+    private void runPhase(HttpClient client, ExecutorService executor, Map<TokenKind, List<String>> tokens,
+            Duration duration) throws InterruptedException {
+        URI uri = URI.create("http://localhost:" + port + AuthRequestRouter.AUTH_REQUEST_PATH);
+        SplittableRandom random = new SplittableRandom(42);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long requests = duration.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+        var inFlight = new ArrayList<Future<?>>();
+
+        for (long i = 0; i < requests; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            TokenKind kind = pickKind(random);
+            List<String> pool = tokens.get(kind);
+            String token = pool.get(random.nextInt(pool.size()));
+            inFlight.add(executor.submit(() -> send(client, uri, kind, token, intendedStart)));
+        }
+        for (var future : inFlight) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                failures.incrementAndGet();
+            }
+        }
+    }
+
+    private void send(HttpClient client, URI uri, TokenKind kind, String token, long intendedStart) {
+        long sendStart = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri)
+                    .header("Authorization", token)
+                    .GET()
+                    .build(), HttpResponse.BodyHandlers.discarding());
+            long end = System.nanoTime();
+            corrected.get(kind).recordValue(Math.min(end - intendedStart, MAX_LATENCY_NANOS));
+            uncorrected.get(kind).recordValue(Math.min(end - sendStart, MAX_LATENCY_NANOS));
+            if (response.statusCode() != kind.expectedStatus) {
+                unexpectedStatuses.incrementAndGet();
+            }
+        } catch (IOException e) {
+            failures.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.incrementAndGet();
+        }
+    }
+
+    private static TokenKind pickKind(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (TokenKind kind : TokenKind.values()) {
+            roll -= kind.weight;
+            if (roll < 0) {
+                return kind;
+            }
+        }
+        return TokenKind.VALID;
+    }
+
+    private void resetRecorders() {
+        corrected.values().forEach(recorder -> recorder.getIntervalHistogram());
+        uncorrected.values().forEach(recorder -> recorder.getIntervalHistogram());
+    }
+
+    /**
+     * Writes one corrected and one uncorrected percentile distribution per token
+     * kind and for all requests, in milliseconds, and a summary table of all of
+     * them.
+     */
+    private void writeReports() throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        Histogram allCorrected = new Histogram(MAX_LATENCY_NANOS, 3);
+        Histogram allUncorrected = new Histogram(MAX_LATENCY_NANOS, 3);
+        List<String> summary = new ArrayList<>();
+        summary.add(String.format("# %d requests/s, %s after %s warm-up, latency in ms", RATE, DURATION, WARMUP));
+        summary.add(String.format("%-15s %8s %9s %9s %9s %9s %9s %15s", "kind", "count", "p50", "p90", "p99",
+                "p99.9", "max", "uncorrected p99"));
+        for (TokenKind kind : TokenKind.values()) {
+            Histogram kindCorrected = corrected.get(kind).getIntervalHistogram();
+            Histogram kindUncorrected = uncorrected.get(kind).getIntervalHistogram();
+            allCorrected.add(kindCorrected);
+            allUncorrected.add(kindUncorrected);
+            summary.add(writeReport(kind.name().toLowerCase(), kindCorrected, kindUncorrected));
+        }
+        summary.add(writeReport("all", allCorrected, allUncorrected));
+        Files.write(REPORT_DIR.resolve("auth-request-summary.txt"), summary);
+        summary.forEach(log::info);
+    }
+
+    /**
+     * Writes the distributions of one token kind and returns its summary line.
+     */
+    private String writeReport(String name, Histogram correctedHistogram, Histogram uncorrectedHistogram)
+            throws IOException {
+        writeDistribution(REPORT_DIR.resolve("auth-request-" + name + ".hgrm"), correctedHistogram);
+        writeDistribution(REPORT_DIR.resolve("auth-request-" + name + "-uncorrected.hgrm"), uncorrectedHistogram);
+        return String.format("%-15s %8d %9.3f %9.3f %9.3f %9.3f %9.3f %15.3f", name,
+                correctedHistogram.getTotalCount(), millis(correctedHistogram, 50), millis(correctedHistogram, 90),
+                millis(correctedHistogram, 99), millis(correctedHistogram, 99.9), millis(correctedHistogram, 100),
+                millis(uncorrectedHistogram, 99));
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+            // Values are recorded in nanoseconds and reported in milliseconds
+            histogram.outputPercentileDistribution(out, 1_000_000.0);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    /**
+     * Creates a pool of distinct unsigned tokens for every token kind.
+     */
+    private static Map<TokenKind, List<String>> createTokens() {
+        long exp = Instant.now().plus(Duration.ofDays(1)).getEpochSecond();
+        long expired = Instant.now().minus(Duration.ofHours(1)).getEpochSecond();
+        Map<TokenKind, List<String>> tokens = new EnumMap<>(TokenKind.class);
+        for (TokenKind kind : TokenKind.values()) {
+            List<String> pool = new ArrayList<>(USERS);
+            for (int user = 0; user < USERS; user++) {
+                pool.add(switch (kind) {
+                    case VALID -> token(user, exp, "[\"User\",\"Admin\"]");
+                    case USER_ROLE_ONLY -> token(user, exp, "[\"User\"]");
+                    case NO_ROLES -> token(user, exp, "[]");
+                    case EXPIRED -> token(user, expired, "[\"User\"]");
+                    case MALFORMED -> "Bearer malformed." + user + ".token";
+                });
+            }
+            tokens.put(kind, pool);
+        }
+        return tokens;
+    }
+
+    private static String token(int user, long exp, String roles) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"iss\":\"load\",\"sub\":\"user-" + user + "\",\"exp\":" + exp
+                + ",\"roles\":" + roles + "}").getBytes(StandardCharsets.UTF_8));
+        return "Bearer " + header + "." + payload + ".signature";
+    }
+}
@@ -0,0 +1,85 @@
+package com.fmd.security_service.metrics;
+
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtExpiredException;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.exception.JwtRevokedException;
+import com.fmd.security_service.exception.JwtSignatureException;
+import com.fmd.security_service.metrics.JwtMetrics.Outcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link JwtMetrics}.
+ * <p>
+ * Verifies meter registration, recording by outcome and the mapping of
+ * validation exceptions to outcomes.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class JwtMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final JwtMetrics jwtMetrics = new JwtMetrics(registry);
+
+    /**
+     * Tests that meters are registered up front for every outcome.
+     */
+    @Test
+    void constructor_registersMetersForAllOutcomes() {
+        log.info("Testing meters are registered up front");
+        assertThat(registry.find(JwtMetrics.AUTHENTICATION_METRIC).counters()).hasSize(Outcome.values().length - 1);
+        assertThat(registry.find(JwtMetrics.VALIDATION_METRIC).timers())
+                .extracting(timer -> timer.getId().getTag("outcome"))
+                .containsExactlyInAnyOrder("valid", "malformed", "expired", "revoked", "signature", "invalid", "error");
+    }
+
+    /**
+     * Tests that authentication attempts are counted by outcome.
+     */
+    @Test
+    void recordAuthentication_incrementsOutcomeCounter() {
+        log.info("Testing authentication attempts are counted by outcome");
+        jwtMetrics.recordAuthentication(Outcome.AUTHENTICATED);
+        jwtMetrics.recordAuthentication(Outcome.AUTHENTICATED);
+        jwtMetrics.recordAuthentication(Outcome.REPLAYED);
+
+        assertThat(registry.get(JwtMetrics.AUTHENTICATION_METRIC).tag("outcome", "authenticated").counter().count())
+                .isEqualTo(2);
+        assertThat(registry.get(JwtMetrics.AUTHENTICATION_METRIC).tag("outcome", "replayed").counter().count())
+                .isEqualTo(1);
+    }
+
+    /**
+     * Tests that validations are timed by outcome.
+     */
+    @Test
+    void recordValidation_recordsTimer() {
+        log.info("Testing validations are timed by outcome");
+        jwtMetrics.recordValidation(Outcome.VALID, System.nanoTime());
+
+        assertThat(registry.get(JwtMetrics.VALIDATION_METRIC).tag("outcome", "valid").timer().count())
+                .isEqualTo(1);
+    }
+
+    /**
+     * Tests the mapping of validation exceptions to outcomes.
+     */
+    @Test
+    void outcomeOf_mapsExceptionTypes() {
+        log.info("Testing exception to outcome mapping");
+        assertThat(JwtMetrics.outcomeOf(new JwtParseException("bad"))).isEqualTo(Outcome.MALFORMED);
+        assertThat(JwtMetrics.outcomeOf(new JwtExpiredException("expired"))).isEqualTo(Outcome.EXPIRED);
+        assertThat(JwtMetrics.outcomeOf(new JwtRevokedException("revoked"))).isEqualTo(Outcome.REVOKED);
+        assertThat(JwtMetrics.outcomeOf(new JwtSignatureException("forged"))).isEqualTo(Outcome.SIGNATURE);
+        assertThat(JwtMetrics.outcomeOf(new JwtAuthenticationException("no subject"))).isEqualTo(Outcome.INVALID);
+        assertThat(JwtMetrics.outcomeOf(new IllegalStateException("bug"))).isEqualTo(Outcome.ERROR);
+    }
+}
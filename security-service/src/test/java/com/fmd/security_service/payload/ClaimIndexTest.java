@@ -0,0 +1,114 @@
+package com.fmd.security_service.payload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ClaimIndex}.
+ * <p>
+ * Feeds JSON payloads through the byte at a time masks of
+ * {@link ClaimIndex#scan(int)}, and verifies which top-level claims are
+ * located and when the index declines to answer.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class ClaimIndexTest {
+
+    /**
+     * Tests that top-level exp and sub are located, with whitespace around the
+     * values.
+     */
+    @Test
+    void topLevelClaims_located() {
+        log.info("Testing top-level exp and sub are located");
+        var index = index("{\"sub\" : \"user\", \"roles\":[\"User\"], \"exp\" : 4102444800 }");
+
+        assertThat(index.expiration()).isEqualTo(4_102_444_800L);
+        assertThat(index.subject()).isNotIn(ClaimIndex.ABSENT, ClaimIndex.UNKNOWN);
+    }
+
+    /**
+     * Tests that claims in nested objects and arrays, and brackets and colons
+     * inside string values, are not taken for top-level claims.
+     */
+    @Test
+    void nestedAndQuotedClaims_ignored() {
+        log.info("Testing nested and quoted claims are ignored");
+        var index = index("{\"ctx\":{\"exp\":1,\"sub\":\"x\"},\"list\":[{\"exp\":2}],"
+                + "\"name\":\"}]exp:3\",\"exp\":4102444800,\"note\":\"{[\"}");
+
+        assertThat(index.expiration()).isEqualTo(4_102_444_800L);
+        assertThat(index.subject()).isEqualTo(ClaimIndex.ABSENT);
+    }
+
+    /**
+     * Tests that claims are located when strings and objects span several
+     * blocks, at every alignment of the payload.
+     */
+    @Test
+    void claimsAcrossBlocks_located() {
+        log.info("Testing claims are located across block boundaries");
+        for (int padding = 0; padding <= 2 * ClaimIndex.BLOCK; padding++) {
+            String filler = "x".repeat(padding);
+            var index = index("{\"iss\":\"" + filler + ":{\",\"ctx\":{\"pad\":\"" + filler + "\",\"exp\":1},"
+                    + "\"exp\":4102444800,\"sub\":\"user\"}");
+
+            assertThat(index.expiration()).as("padding %d", padding).isEqualTo(4_102_444_800L);
+            assertThat(index.subject()).as("padding %d", padding).isNotIn(ClaimIndex.ABSENT, ClaimIndex.UNKNOWN);
+        }
+    }
+
+    /**
+     * Tests that a repeated claim resolves to its last occurrence, like the
+     * JSON parse.
+     */
+    @Test
+    void repeatedClaim_lastOccurrenceWins() {
+        log.info("Testing a repeated claim resolves to its last occurrence");
+        assertThat(index("{\"exp\":4102444800,\"exp\":1}").expiration()).isEqualTo(1L);
+    }
+
+    /**
+     * Tests that missing, null and empty claims are reported absent.
+     */
+    @Test
+    void missingNullAndEmptyClaims_absent() {
+        log.info("Testing missing, null and empty claims are absent");
+        assertThat(index("{\"iss\":\"Test\"}").expiration()).isEqualTo(ClaimIndex.ABSENT);
+        assertThat(index("{\"exp\":null}").expiration()).isEqualTo(ClaimIndex.ABSENT);
+        assertThat(index("{\"sub\":\"\"}").subject()).isEqualTo(ClaimIndex.ABSENT);
+        assertThat(index("{\"sub\":null}").subject()).isEqualTo(ClaimIndex.ABSENT);
+    }
+
+    /**
+     * Tests that values and payloads the index cannot read without parsing are
+     * reported unknown.
+     *
+     * @param json the payload
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"exp\":4.1e9}", "{\"exp\":\"4102444800\"}", "{\"exp\":-1}",
+            "{\"exp\":12345678901234567890}", "{\"\\u0065xp\":1}", "{\"exp\":1,\"name\":\"\\\"\"}",
+            "{\"exp\":1", "{\"exp\":1,\"name\":\"}", "[{\"exp\":1}]", "null"})
+    void unreadableClaims_unknown(String json) {
+        log.info("Testing exp in '{}' is unknown", json);
+        assertThat(index(json).expiration()).isEqualTo(ClaimIndex.UNKNOWN);
+    }
+
+    private static ClaimIndex index(String text) {
+        byte[] json = text.getBytes(StandardCharsets.UTF_8);
+        var index = new ClaimIndex(json, json.length);
+        index.scan(0);
+        return index;
+    }
+}
@@ -0,0 +1,81 @@
+package com.fmd.security_service.payload;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fmd.security_service.dto.JwtPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JwtPayloadDeserializer}.
+ * <p>
+ * Verifies that registered claims are read, that unknown claims are skipped
+ * unless retained, and that payloads of the wrong shape are rejected.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class JwtPayloadDeserializerTest {
+
+    private static final String PAYLOAD = "{\"iss\":\"issuer\",\"iat\":1700000000,\"exp\":4102444800,"
+            + "\"aud\":\"audience\",\"sub\":\"user\",\"name\":\"User Name\",\"roles\":[\"User\",\"Admin\"],"
+            + "\"jti\":\"token-id\",\"tenant\":\"acme\",\"groups\":[\"a\",{\"b\":[1,2]}],\"level\":null}";
+
+    private final ObjectReader reader = JwtPayloadDeserializer.reader(List.of());
+
+    /**
+     * Tests that registered claims are read and unknown claims skipped when
+     * none are retained.
+     */
+    @Test
+    void deserialize_noRetainedClaims_skipsUnknownClaims() throws Exception {
+        log.info("Testing unknown claims are skipped by default");
+        JwtPayload payload = reader.readValue(PAYLOAD);
+
+        assertThat(payload).isEqualTo(new JwtPayload("issuer", Instant.ofEpochSecond(1_700_000_000L),
+                Instant.ofEpochSecond(4_102_444_800L), "audience", "user", "User Name", List.of("User", "Admin"),
+                "token-id", null));
+        assertThat(payload.otherClaims()).isSameAs(Map.of());
+    }
+
+    /**
+     * Tests that only the retained claims are kept, with their parsed values,
+     * and that a claim given more than once keeps its last value.
+     */
+    @Test
+    void deserialize_retainedClaims_keepsOnlyRetained() throws Exception {
+        log.info("Testing only retained claims are kept");
+        ObjectReader retainingReader = JwtPayloadDeserializer.reader(List.of("tenant", "level"));
+
+        JwtPayload payload = retainingReader.readValue(PAYLOAD);
+        JwtPayload duplicate = retainingReader.readValue("{\"tenant\":\"first\",\"sub\":\"user\",\"tenant\":\"last\"}");
+
+        assertThat(payload.otherClaims()).containsExactly(Map.entry("tenant", "acme"));
+        assertThat(payload.claim("groups")).isNull();
+        assertThat(duplicate.claim("tenant")).isEqualTo("last");
+    }
+
+    /**
+     * Tests that payloads other than an object, or with claims of the wrong
+     * type, are rejected.
+     */
+    @Test
+    void deserialize_wrongShape_rejected() {
+        log.info("Testing payloads of the wrong shape are rejected");
+        assertThatThrownBy(() -> reader.readValue("[\"sub\"]")).isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> reader.readValue("{\"sub\":\"user\",\"roles\":\"User\"}"))
+                .isInstanceOf(MismatchedInputException.class);
+        assertThatThrownBy(() -> reader.readValue("{\"sub\":{\"id\":1}}"))
+                .isInstanceOf(MismatchedInputException.class);
+    }
+}
@@ -0,0 +1,36 @@
+package com.fmd.security_service.payload;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PayloadDecoders}.
+ * <p>
+ * Runs in both surefire executions: the default one, without the
+ * {@code jdk.incubator.vector} module, and {@code vector-tests}, with it.
+ * Verifies that the decoder chosen matches the module being available.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class PayloadDecodersTest {
+
+    /**
+     * Tests that the vector decoder is chosen if and only if the module is
+     * available.
+     */
+    @Test
+    void best_matchesVectorModuleAvailability() {
+        log.info("Testing the payload decoder chosen for the running JVM");
+        boolean vectorModule = ModuleLayer.boot().findModule(PayloadDecoders.VECTOR_MODULE).isPresent();
+
+        PayloadDecoder decoder = PayloadDecoders.best();
+
+        assertThat(decoder).isInstanceOf(vectorModule ? VectorPayloadDecoder.class : ScalarPayloadDecoder.class);
+    }
+}
@@ -0,0 +1,165 @@
+package com.fmd.security_service.payload;
+
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import com.fmd.security_service.exception.JwtExpiredException;
+import com.fmd.security_service.exception.JwtParseException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link VectorPayloadDecoder}.
+ * <p>
+ * Runs only in the {@code vector-tests} surefire execution, which adds the
+ * {@code jdk.incubator.vector} module. Verifies that decoding matches the scalar decoder for every
+ * length and alignment, that invalid characters are reported at their index
+ * in the token, and that tokens failing on their exp or sub claims are
+ * rejected before parsing.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class VectorPayloadDecoderTest {
+    private final VectorPayloadDecoder decoder = new VectorPayloadDecoder();
+    private final ScalarPayloadDecoder scalarDecoder = new ScalarPayloadDecoder();
+
+    /**
+     * Tests that decoding matches the scalar decoder for payloads of 0 to 200
+     * random bytes, covering whole vector blocks and every tail length,
+     * unpadded and padded.
+     */
+    @Test
+    void decode_matchesScalarDecoder() {
+        log.info("Testing vector decoding matches scalar decoding");
+        var random = new Random(42);
+        for (int size = 0; size <= 200; size++) {
+            byte[] bytes = new byte[size];
+            random.nextBytes(bytes);
+            // Without '{' the bytes never form an object, so the claim checks stay out of the way
+            for (int i = 0; i < size; i++) {
+                bytes[i] = bytes[i] == '{' ? (byte) 'z' : bytes[i];
+            }
+            for (String encoded : new String[] {Base64.getUrlEncoder().withoutPadding().encodeToString(bytes),
+                    Base64.getUrlEncoder().encodeToString(bytes)}) {
+                String token = "Bearer x." + encoded + ".y";
+                int start = token.indexOf('.') + 1;
+                int end = token.lastIndexOf('.');
+
+                assertThat(decodeBytes(decoder, token, start, end)).as("size %d", size)
+                        .isEqualTo(decodeBytes(scalarDecoder, token, start, end))
+                        .isEqualTo(bytes);
+            }
+        }
+    }
+
+    /**
+     * Tests that an invalid character in a vector block is reported at its
+     * index in the token.
+     */
+    @Test
+    void decode_illegalCharacterInBlock_reportsTokenIndex() {
+        log.info("Testing an illegal character is reported at its index in the token");
+        String token = "Bearer x." + "A".repeat(20) + "+" + "A".repeat(11) + ".y";
+
+        assertThatThrownBy(() -> decoder.decode(token, 9, 41))
+                .isInstanceOf(JwtParseException.class)
+                .hasMessage("Illegal base64url character at index 29");
+    }
+
+    /**
+     * Tests that characters outside ISO-8859-1, which a byte copy could
+     * truncate into valid characters, are rejected.
+     *
+     * @param character the character replacing one in the payload
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Ł", "Á", "䅁"})
+    void decode_nonAsciiCharacter_throwsJwtParseException(String character) {
+        log.info("Testing non-ASCII character {} is rejected", character);
+        String token = "Bearer x." + "A".repeat(10) + character + "A".repeat(21) + ".y";
+
+        assertThatThrownBy(() -> decoder.decode(token, 9, 41))
+                .isInstanceOf(JwtParseException.class);
+    }
+
+    /**
+     * Tests that an expired token is rejected before parsing, even if the
+     * payload would not parse.
+     */
+    @Test
+    void decode_expiredToken_throwsJwtExpiredException() {
+        log.info("Testing an expired token is rejected before parsing");
+        assertThatThrownBy(() -> decode("{\"sub\":\"user\",\"exp\":1000000000,\"x\":tru}"))
+                .isInstanceOf(JwtExpiredException.class);
+    }
+
+    /**
+     * Tests that the claims are located from the vector compares whatever
+     * the payload length, with strings spanning the vector blocks.
+     */
+    @Test
+    void decode_expiredTokenOfAnyLength_throwsJwtExpiredException() {
+        log.info("Testing expired tokens of any length are rejected before parsing");
+        for (int padding = 0; padding <= 200; padding++) {
+            String json = "{\"sub\":\"user\",\"note\":\"" + "{:".repeat(padding / 2) + "x".repeat(padding % 2)
+                    + "\",\"ctx\":{\"exp\":4102444800},\"exp\":1000000000}";
+
+            assertThatThrownBy(() -> decode(json)).as("padding %d", padding)
+                    .isInstanceOf(JwtExpiredException.class);
+        }
+    }
+
+    /**
+     * Tests that tokens without an expiration or subject are rejected before
+     * parsing, with the messages of the full validation.
+     */
+    @Test
+    void decode_missingClaims_throwsJwtAuthenticationException() {
+        log.info("Testing tokens without exp or sub are rejected before parsing");
+        assertThatThrownBy(() -> decode("{\"sub\":\"user\",\"roles\":[\"User\",\"Admin\"]}"))
+                .isInstanceOf(JwtAuthenticationException.class)
+                .hasMessage("JWT payload expiration date is null");
+        assertThatThrownBy(() -> decode("{\"exp\":4102444800,\"sub\":\"\",\"roles\":[\"User\",\"Admin\"]}"))
+                .isInstanceOf(JwtAuthenticationException.class)
+                .hasMessage("JWT payload subject is null or empty");
+    }
+
+    /**
+     * Tests that a valid payload, and payloads the scan cannot judge, are
+     * returned for parsing.
+     *
+     * @param json the payload
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"iss\":\"Test\",\"exp\":4102444800,\"sub\":\"username\",\"roles\":[\"User\",\"Admin\"]}",
+            "{\"exp\":\"soon\"}", "{\"ctx\":{\"exp\":1},\"exp\":4.1e9}", "null"})
+    void decode_undecidedPayload_returnedForParsing(String json) {
+        log.info("Testing '{}' is returned for parsing", json);
+        var decoded = decode(json);
+
+        assertThat(new String(decoded.json(), 0, decoded.length(), StandardCharsets.UTF_8)).isEqualTo(json);
+    }
+
+    private DecodedPayload decode(String json) {
+        String token = "Bearer x." + Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(json.getBytes(StandardCharsets.UTF_8)) + ".y";
+        return decoder.decode(token, 9, token.length() - 2);
+    }
+
+    private static byte[] decodeBytes(PayloadDecoder decoder, String token, int start, int end) {
+        var decoded = decoder.decode(token, start, end);
+        return Arrays.copyOf(decoded.json(), decoded.length());
+    }
+}
@@ -0,0 +1,112 @@
+package com.fmd.security_service.projection;
+
+import com.fmd.security_service.dto.JwtClaimProjectionProperties;
+import com.fmd.security_service.dto.JwtPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ClaimProjection}.
+ * <p>
+ * Verifies that configured standard and other claims are written as headers
+ * in configuration order, how values are converted to text, and that invalid
+ * or reserved header names fail at startup.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class ClaimProjectionTest {
+
+    private static final JwtPayload PAYLOAD = new JwtPayload("issuer", Instant.ofEpochSecond(1700000000),
+            Instant.ofEpochSecond(4102444800L), "aud", "user", "User Name", List.of("User", "Admin"), "token-id",
+            Map.of("tenant", "acme", "level", 3, "groups", List.of("a", "b"), "address", Map.of("city", "x")));
+
+    /**
+     * Tests that configured claims are projected in configuration order and
+     * missing claims are left out.
+     */
+    @Test
+    void testProject_configuredClaims() {
+        log.info("Testing configured claims are projected into headers");
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("tenant", "X-Auth-Tenant");
+        headers.put("name", "X-Auth-Name");
+        headers.put("roles", "X-Auth-Token-Roles");
+        headers.put("exp", "X-Auth-Expires");
+        headers.put("level", "X-Auth-Level");
+        headers.put("missing", "X-Auth-Missing");
+        ClaimProjection projection = new ClaimProjection(new JwtClaimProjectionProperties(headers));
+
+        Map<String, String> projected = new LinkedHashMap<>();
+        projection.project(PAYLOAD, projected::put);
+
+        assertThat(projection.isEmpty()).isFalse();
+        assertThat(projected).containsExactly(
+                Map.entry("X-Auth-Tenant", "acme"),
+                Map.entry("X-Auth-Name", "User Name"),
+                Map.entry("X-Auth-Token-Roles", "User,Admin"),
+                Map.entry("X-Auth-Expires", "4102444800"),
+                Map.entry("X-Auth-Level", "3"));
+    }
+
+    /**
+     * Tests that nothing is projected without configuration.
+     */
+    @Test
+    void testProject_noClaimsConfigured() {
+        log.info("Testing no headers are projected without configuration");
+        ClaimProjection projection = new ClaimProjection(new JwtClaimProjectionProperties(null));
+        Map<String, String> projected = new LinkedHashMap<>();
+
+        projection.project(PAYLOAD, projected::put);
+
+        assertThat(projection.isEmpty()).isTrue();
+        assertThat(projected).isEmpty();
+    }
+
+    /**
+     * Tests the conversion of claim values to header values.
+     */
+    @Test
+    void testToHeaderValue() {
+        log.info("Testing claim values are converted to header values");
+        assertThat(ClaimProjection.toHeaderValue("acme")).isEqualTo("acme");
+        assertThat(ClaimProjection.toHeaderValue(Instant.ofEpochSecond(42))).isEqualTo("42");
+        assertThat(ClaimProjection.toHeaderValue(1.5)).isEqualTo("1.5");
+        assertThat(ClaimProjection.toHeaderValue(true)).isEqualTo("true");
+        assertThat(ClaimProjection.toHeaderValue(List.of("a", 1))).isEqualTo("a,1");
+        assertThat(ClaimProjection.toHeaderValue(null)).isNull();
+        assertThat(ClaimProjection.toHeaderValue(Map.of("city", "x"))).isNull();
+        assertThat(ClaimProjection.toHeaderValue("evil\r\nSet-Cookie: x")).isNull();
+    }
+
+    /**
+     * Tests that invalid and reserved header names are rejected.
+     */
+    @Test
+    void testConstructor_invalidHeaderNames() {
+        log.info("Testing invalid and reserved header names are rejected");
+        assertThatThrownBy(() -> new ClaimProjection(new JwtClaimProjectionProperties(
+                Map.of("tenant", "X Auth Tenant"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Invalid header name");
+        assertThatThrownBy(() -> new ClaimProjection(new JwtClaimProjectionProperties(
+                Map.of("tenant", " "))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new ClaimProjection(new JwtClaimProjectionProperties(
+                Map.of("sub", "x-auth-user"))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("reserved");
+    }
+}
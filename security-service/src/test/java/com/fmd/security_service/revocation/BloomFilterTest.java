@@ -0,0 +1,69 @@
+package com.fmd.security_service.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link BloomFilter}.
+ * <p>
+ * Verifies that added ids are always found, that the false positive rate stays
+ * near its target, and the sizing of an empty filter.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class BloomFilterTest {
+
+    private static final List<String> IDS = IntStream.range(0, 10_000)
+            .mapToObj(i -> "revoked-" + i)
+            .toList();
+
+    /**
+     * Tests that every added id is reported as possibly present.
+     */
+    @Test
+    void testMightContain_addedIds_noFalseNegatives() {
+        log.info("Testing Bloom filter has no false negatives");
+        var filter = new BloomFilter(IDS, 0.01);
+
+        assertThat(IDS).allMatch(filter::mightContain);
+    }
+
+    /**
+     * Tests that the false positive rate of ids not added stays close to the
+     * configured rate.
+     */
+    @Test
+    void testMightContain_otherIds_falsePositiveRateNearTarget() {
+        log.info("Testing Bloom filter false positive rate");
+        var filter = new BloomFilter(IDS, 0.01);
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .mapToObj(i -> "active-" + i)
+                .filter(filter::mightContain)
+                .count();
+
+        assertThat(falsePositives).isLessThan(2_000);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    /**
+     * Tests that an empty filter is still usable and reports nothing.
+     */
+    @Test
+    void testMightContain_emptyFilter_reportsNothing() {
+        log.info("Testing empty Bloom filter");
+        var filter = new BloomFilter(List.of(), 0.01);
+
+        assertThat(filter.bitCount()).isPositive();
+        assertThat(filter.mightContain("any")).isFalse();
+    }
+}
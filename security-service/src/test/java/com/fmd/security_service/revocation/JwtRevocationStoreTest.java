@@ -0,0 +1,176 @@
+package com.fmd.security_service.revocation;
+
+import com.fmd.security_service.dto.JwtRevocationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link JwtRevocationStore}.
+ * <p>
+ * Verifies loading the revocation list file, keeping the current list when a
+ * reload fails, hot reload when the file or a Kubernetes {@code ..data}
+ * symlink changes, that partially written files are not published, and the
+ * disabled store.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class JwtRevocationStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private JwtRevocationStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (store != null) {
+            store.stop();
+        }
+    }
+
+    /**
+     * Tests that ids are loaded one per line, skipping comments and blank lines,
+     * and that a reload event is published.
+     */
+    @Test
+    void testStart_loadsFileSkippingCommentsAndBlankLines() throws IOException {
+        log.info("Testing revocation list file is loaded");
+        Path file = Files.writeString(directory.resolve("revoked.txt"), "# revoked tokens\nid-1\n\n  id-2  \n");
+        store = createStore(file);
+
+        store.start();
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.isRevoked("id-1")).isTrue();
+        assertThat(store.isRevoked("id-2")).isTrue();
+        assertThat(store.isRevoked("# revoked tokens")).isFalse();
+        assertThat(events).containsExactly(new RevocationListReloadedEvent(2));
+    }
+
+    /**
+     * Tests that the current list stays in effect when the file cannot be read.
+     */
+    @Test
+    void testReload_missingFile_keepsCurrentList() throws IOException {
+        log.info("Testing failed reload keeps the current list");
+        Path file = Files.writeString(directory.resolve("revoked.txt"), "id-1\n");
+        store = createStore(file);
+        store.start();
+
+        Files.delete(file);
+
+        assertThat(store.reload()).isFalse();
+        assertThat(store.isRevoked("id-1")).isTrue();
+        assertThat(events).hasSize(1);
+    }
+
+    /**
+     * Tests that replacing the file is picked up by the watcher without an
+     * explicit reload.
+     */
+    @Test
+    void testWatcher_fileReplaced_hotReloads() throws Exception {
+        log.info("Testing revocation list is reloaded when the file changes");
+        Path file = Files.writeString(directory.resolve("revoked.txt"), "id-1\n");
+        store = createStore(file);
+        store.start();
+
+        Path staged = Files.writeString(directory.resolve("revoked.tmp"), "id-1\nid-2\n");
+        Files.move(staged, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        awaitRevoked("id-2");
+        assertThat(store.isRevoked("id-2")).isTrue();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that a Kubernetes style update, swapping the {@code ..data}
+     * symlink the file links through, is picked up by the watcher.
+     */
+    @Test
+    void testWatcher_dataSymlinkSwapped_hotReloads() throws Exception {
+        log.info("Testing revocation list is reloaded when the ..data symlink is swapped");
+        Files.createDirectory(directory.resolve("..2030_01_01_v1"));
+        Files.writeString(directory.resolve("..2030_01_01_v1/revoked.txt"), "id-1\n");
+        Files.createSymbolicLink(directory.resolve("..data"), Path.of("..2030_01_01_v1"));
+        Path file = Files.createSymbolicLink(directory.resolve("revoked.txt"), Path.of("..data/revoked.txt"));
+        store = createStore(file);
+        store.start();
+
+        Files.createDirectory(directory.resolve("..2030_01_01_v2"));
+        Files.writeString(directory.resolve("..2030_01_01_v2/revoked.txt"), "id-1\nid-2\n");
+        Path staged = Files.createSymbolicLink(directory.resolve("..data_tmp"), Path.of("..2030_01_01_v2"));
+        Files.move(staged, directory.resolve("..data"), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        awaitRevoked("id-2");
+        assertThat(store.isRevoked("id-2")).isTrue();
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    /**
+     * Tests that a file written in several steps is only published once it
+     * stops changing, never with the part written so far.
+     */
+    @Test
+    void testWatcher_fileWrittenInSteps_publishesOnlyCompleteList() throws Exception {
+        log.info("Testing a partially written revocation list is not published");
+        Path file = Files.writeString(directory.resolve("revoked.txt"), "id-1\n");
+        store = createStore(file);
+        store.start();
+
+        try (var writer = Files.newBufferedWriter(file)) {
+            writer.write("id-1\nid-2\n");
+            writer.flush();
+            Thread.sleep(50);
+            writer.write("id-3\n");
+        }
+
+        awaitRevoked("id-3");
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(events).containsExactly(new RevocationListReloadedEvent(1), new RevocationListReloadedEvent(3));
+    }
+
+    /**
+     * Tests that without a file nothing is revoked and nothing is watched.
+     */
+    @Test
+    void testStart_noFile_disabled() throws IOException {
+        log.info("Testing revocation store without a file");
+        store = new JwtRevocationStore(new JwtRevocationProperties(null, null, null), events::add);
+
+        store.start();
+
+        assertThat(store.isRevoked("id-1")).isFalse();
+        assertThat(store.reload()).isFalse();
+        assertThat(events).isEmpty();
+    }
+
+    private JwtRevocationStore createStore(Path file) {
+        return new JwtRevocationStore(new JwtRevocationProperties(file, 0.01, Duration.ofMillis(500)), events::add);
+    }
+
+    private void awaitRevoked(String tokenId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!store.isRevoked(tokenId) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.fmd.security_service.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link RevocationList}.
+ * <p>
+ * Verifies exact answers despite Bloom filter false positives, and null and
+ * empty handling.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class RevocationListTest {
+
+    /**
+     * Tests that revoked ids are revoked and no other id is, even with a filter
+     * sized for a high false positive rate.
+     */
+    @Test
+    void testIsRevoked_exactDespiteFalsePositives() {
+        log.info("Testing revocation list answers exactly");
+        var revocationList = new RevocationList(List.of("a", "b", "c"), 0.5);
+
+        assertThat(revocationList.isRevoked("a")).isTrue();
+        assertThat(revocationList.isRevoked("c")).isTrue();
+        assertThat(IntStream.range(0, 10_000).mapToObj(i -> "active-" + i))
+                .noneMatch(revocationList::isRevoked);
+        assertThat(revocationList.size()).isEqualTo(3);
+    }
+
+    /**
+     * Tests that tokens without an id and the empty list revoke nothing.
+     */
+    @Test
+    void testIsRevoked_nullIdAndEmptyList() {
+        log.info("Testing null token id and empty revocation list");
+        assertThat(new RevocationList(List.of("a"), 0.01).isRevoked(null)).isFalse();
+        assertThat(RevocationList.EMPTY.isRevoked("a")).isFalse();
+        assertThat(RevocationList.EMPTY.size()).isZero();
+    }
+}
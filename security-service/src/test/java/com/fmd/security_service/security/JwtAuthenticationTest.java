@@ -0,0 +1,119 @@
+package com.fmd.security_service.security;
+
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.cache.CachedAuthentication;
+import com.fmd.security_service.dto.JwtPayload;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JwtAuthentication}.
+ * <p>
+ * Verifies the principal, name and authorities taken from the cached token,
+ * lazily built details, immutability, equality and that serialization is
+ * refused.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class JwtAuthenticationTest {
+
+    private final CachedAuthentication cachedAuthentication = new CachedAuthentication(
+            new JwtPayload("iss", Instant.now(), Instant.now().plusSeconds(600), "aud", "user", "User Name",
+                    List.of("User", "Admin"), "token-id", null),
+            new AuthorityRegistry().resolve(List.of("User", "Admin")));
+
+    /**
+     * Tests that the authentication exposes the cached payload and role set
+     * without copying them.
+     */
+    @Test
+    void testAccessors_wrapCachedPayloadAndRoleSet() {
+        log.info("Testing JwtAuthentication wraps the cached token");
+        var authentication = new JwtAuthentication(cachedAuthentication, () -> null);
+
+        assertThat(authentication.getName()).isEqualTo("user");
+        assertThat(authentication.getPrincipal()).isSameAs(cachedAuthentication.payload());
+        assertThat(authentication.getPayload()).isSameAs(cachedAuthentication.payload());
+        assertThat(authentication.getAuthorities()).isSameAs(cachedAuthentication.authorities());
+        assertThat(authentication.getRoleSet()).isSameAs(cachedAuthentication.roleSet());
+        assertThat(authentication.getCredentials()).isNull();
+        assertThat(authentication.isAuthenticated()).isTrue();
+    }
+
+    /**
+     * Tests that details are built once, on first access.
+     */
+    @Test
+    void testGetDetails_builtLazilyOnce() {
+        log.info("Testing details are built lazily");
+        var builds = new AtomicInteger();
+        var authentication = new JwtAuthentication(cachedAuthentication, () -> "details-" + builds.incrementAndGet());
+
+        assertThat(builds).hasValue(0);
+        assertThat(authentication.getDetails()).isEqualTo("details-1");
+        assertThat(authentication.getDetails()).isEqualTo("details-1");
+        assertThat(builds).hasValue(1);
+    }
+
+    /**
+     * Tests that the authentication cannot be marked as not authenticated.
+     */
+    @Test
+    void testSetAuthenticated_false_rejected() {
+        log.info("Testing JwtAuthentication is immutable");
+        var authentication = new JwtAuthentication(cachedAuthentication, () -> null);
+
+        authentication.setAuthenticated(true);
+        assertThatThrownBy(() -> authentication.setAuthenticated(false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(authentication.isAuthenticated()).isTrue();
+    }
+
+    /**
+     * Tests that authentications of the same token are equal, whatever their
+     * details.
+     */
+    @Test
+    void testEquals_sameToken_equal() {
+        log.info("Testing JwtAuthentication equality");
+        var authentication = new JwtAuthentication(cachedAuthentication, () -> "details");
+        var sameToken = new JwtAuthentication(new CachedAuthentication(cachedAuthentication.payload(),
+                cachedAuthentication.roleSet()), () -> null);
+        var otherToken = new JwtAuthentication(new CachedAuthentication(
+                new JwtPayload("iss", Instant.now(), Instant.now().plusSeconds(600), "aud", "other", "Other",
+                        List.of("User"), "other-id", null),
+                cachedAuthentication.roleSet()), () -> null);
+
+        assertThat(authentication).isEqualTo(sameToken).hasSameHashCodeAs(sameToken);
+        assertThat(authentication).isNotEqualTo(otherToken);
+    }
+
+    /**
+     * Tests that serialization fails instead of losing the payload and roles.
+     */
+    @Test
+    void testSerialization_refused() {
+        log.info("Testing JwtAuthentication is not serializable");
+        var authentication = new JwtAuthentication(cachedAuthentication, () -> null);
+
+        assertThatThrownBy(() -> {
+            try (var out = new ObjectOutputStream(new ByteArrayOutputStream())) {
+                out.writeObject(authentication);
+            }
+        }).isInstanceOf(NotSerializableException.class);
+    }
+}
@@ -0,0 +1,112 @@
+package com.fmd.security_service.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link PublicPathMatcher}.
+ * <p>
+ * Verifies exact and subtree rules, method restrictions, and that the public
+ * paths of {@link AccessRules} match exactly the requests their
+ * {@code permitAll} rules match with Spring's path patterns.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class PublicPathMatcherTest {
+    private final PublicPathMatcher matcher = new PublicPathMatcher(List.of(
+            PublicPathMatcher.permit("/health"),
+            PublicPathMatcher.permit("/actuator/**"),
+            PublicPathMatcher.permit(HttpMethod.GET, "/docs/**")));
+
+    /**
+     * Tests that an exact rule matches only its own path.
+     */
+    @Test
+    void exactRule_matchesOnlyItsPath() {
+        log.info("Testing exact rules match only their path");
+        assertThat(matcher.matches(HttpMethod.GET, "/health")).isTrue();
+        assertThat(matcher.matches(HttpMethod.POST, "/health")).isTrue();
+        assertThat(matcher.matches(HttpMethod.GET, "/health/")).isFalse();
+        assertThat(matcher.matches(HttpMethod.GET, "/healthz")).isFalse();
+        assertThat(matcher.matches(HttpMethod.GET, "/health/x")).isFalse();
+        assertThat(matcher.matches(HttpMethod.GET, "/heal")).isFalse();
+    }
+
+    /**
+     * Tests that a subtree rule matches its path and every path below it, but
+     * not paths sharing its prefix.
+     */
+    @Test
+    void subtreeRule_matchesPathAndBelow() {
+        log.info("Testing subtree rules match their path and below");
+        assertThat(matcher.matches(HttpMethod.GET, "/actuator")).isTrue();
+        assertThat(matcher.matches(HttpMethod.GET, "/actuator/")).isTrue();
+        assertThat(matcher.matches(HttpMethod.GET, "/actuator/health/readiness")).isTrue();
+        assertThat(matcher.matches(HttpMethod.GET, "/actuatorx")).isFalse();
+        assertThat(matcher.matches(HttpMethod.GET, "/api/actuator")).isFalse();
+    }
+
+    /**
+     * Tests that a rule for one method does not match other methods, including
+     * methods unknown to {@link HttpMethod}.
+     */
+    @Test
+    void methodRule_matchesOnlyItsMethod() {
+        log.info("Testing method rules match only their method");
+        assertThat(matcher.matches(HttpMethod.GET, "/docs/index.html")).isTrue();
+        assertThat(matcher.matches(HttpMethod.POST, "/docs/index.html")).isFalse();
+        assertThat(matcher.matches(HttpMethod.valueOf("PROPFIND"), "/docs")).isFalse();
+        assertThat(matcher.matches(HttpMethod.valueOf("PROPFIND"), "/actuator")).isTrue();
+    }
+
+    /**
+     * Tests that the public paths of the security configuration agree with
+     * Spring's path patterns for the same rules.
+     */
+    @Test
+    void publicPaths_agreeWithPathPatterns() {
+        log.info("Testing the public paths agree with Spring path patterns");
+        var parser = PathPatternParser.defaultInstance;
+        var paths = List.of("/", "/health", "/health/", "/healthz", "/error", "/errors", "/actuator", "/actuator/",
+                "/actuator/health", "/actuator/health/liveness", "/actuatorx", "/api/authenticate",
+                "/api/auth-request", "/api/introspect", "/api/health");
+        for (var method : HttpMethod.values()) {
+            for (var path : paths) {
+                boolean permitted = AccessRules.PUBLIC_PATHS.rules().stream()
+                        .anyMatch(rule -> (rule.method() == null || rule.method().equals(method))
+                                && parser.parse(rule.pattern()).matches(PathContainer.parsePath(path)));
+
+                assertThat(AccessRules.PUBLIC_PATHS.matches(method, path)).as("%s %s", method, path)
+                        .isEqualTo(permitted);
+            }
+        }
+    }
+
+    /**
+     * Tests that patterns the trie cannot represent are rejected when the
+     * rules are compiled.
+     *
+     * @param pattern the unsupported pattern
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/*", "/api/**/x", "/users/{id}", "/file?", "health"})
+    void unsupportedPattern_throwsIllegalArgumentException(String pattern) {
+        log.info("Testing pattern '{}' is rejected", pattern);
+        assertThatThrownBy(() -> new PublicPathMatcher(List.of(PublicPathMatcher.permit(pattern))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
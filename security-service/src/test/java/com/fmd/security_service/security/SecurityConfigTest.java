@@ -1,10 +1,13 @@
 package com.fmd.security_service.security;
 
+import com.fmd.security_service.authority.AuthorityRegistry;
 import com.fmd.security_service.exception.handler.CustomAccessDeniedHandler;
 import com.fmd.security_service.exception.handler.CustomAuthenticationEntryPoint;
 import com.fmd.security_service.filter.JwtAuthenticationFilter;
+import com.fmd.security_service.service.JwtAuthenticationService;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -36,10 +39,13 @@ import static org.mockito.Mockito.*;
  * @since 1.0
  */
 @Slf4j
+@DisabledInNativeImage // Mockito mocks need a JVM
 class SecurityConfigTest {
     private final CustomAuthenticationEntryPoint entryPoint = mock(CustomAuthenticationEntryPoint.class);
     private final CustomAccessDeniedHandler accessDeniedHandler = mock(CustomAccessDeniedHandler.class);
-    private final SecurityConfig securityConfig = new SecurityConfig(entryPoint, accessDeniedHandler);
+    private final JwtAuthenticationService jwtAuthenticationService = mock(JwtAuthenticationService.class);
+    private final SecurityConfig securityConfig = new SecurityConfig(entryPoint, accessDeniedHandler,
+            jwtAuthenticationService, new AuthorityRegistry());
 
     /**
      * Verifies that permitAllSecurityFilterChain configures HttpSecurity as
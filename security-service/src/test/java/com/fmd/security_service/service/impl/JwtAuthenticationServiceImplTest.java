@@ -0,0 +1,147 @@
+package com.fmd.security_service.service.impl;
+
+import com.fmd.security_service.accesslog.AuthAccessLog;
+import com.fmd.security_service.authority.AuthorityRegistry;
+import com.fmd.security_service.cache.JwtTokenCache;
+import com.fmd.security_service.dto.JwtAccessLogProperties;
+import com.fmd.security_service.dto.JwtCacheProperties;
+import com.fmd.security_service.dto.JwtClaimProjectionProperties;
+import com.fmd.security_service.dto.JwtRevocationProperties;
+import com.fmd.security_service.dto.JwtSignatureProperties;
+import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.metrics.JwtMetrics;
+import com.fmd.security_service.projection.ClaimProjection;
+import com.fmd.security_service.revocation.JwtRevocationStore;
+import com.fmd.security_service.signature.JwtKeyStore;
+import com.fmd.security_service.signature.JwtSignatureVerifier;
+import com.fmd.security_service.utils.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JwtAuthenticationServiceImpl}.
+ * <p>
+ * Verifies token validation through the cache, role set sharing and the
+ * authentication built for a validated token.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class JwtAuthenticationServiceImplTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtTokenCache tokenCache = new JwtTokenCache(new JwtCacheProperties(100L, Duration.ofMinutes(5), 100L,
+            Duration.ofMinutes(1)));
+    private final JwtSignatureProperties signatureProperties = new JwtSignatureProperties(null, null, null);
+    private final JwtAuthenticationServiceImpl service = new JwtAuthenticationServiceImpl(tokenCache,
+            new JwtSignatureVerifier(signatureProperties, new JwtKeyStore(signatureProperties)),
+            new AuthorityRegistry(), new JwtMetrics(meterRegistry), new JwtRevocationStore(
+                    new JwtRevocationProperties(null, null, null), event -> {
+                    }), new AuthAccessLog(new JwtAccessLogProperties(null, null)),
+            new ClaimProjection(new JwtClaimProjectionProperties(null)));
+
+    private static final String VALID_TOKEN = "Bearer eyJhbGciOiJIUzI1NiJ9.eyJpc" +
+            "3MiOiJUZXN0IiwiaWF0IjoxNzQ3OTI3NjkyLCJleHAiOjQxMDI0NDQ4MDAsImF1ZCI6" +
+            "ImF1ZGlhbmNlIiwic3ViIjoidXNlcm5hbWUiLCJuYW1lIjoiSm9obm55Iiwicm9sZXM" +
+            "iOlsiVXNlciIsIkFkbWluIl19.OwdthubQqNWtuIdkxO5gEo1zWDgD1AG2kam2zZr2DFM";
+
+    /**
+     * Tests that a valid token is validated once and then served from the cache.
+     */
+    @Test
+    void authenticate_validToken_cachedAfterFirstCall() {
+        log.info("Testing valid token is validated once and then cached");
+        var first = service.authenticate(VALID_TOKEN);
+        var second = service.authenticate(VALID_TOKEN);
+
+        assertThat(first.payload().subject()).isEqualTo("username");
+        assertThat(second).isSameAs(first);
+        assertThat(tokenCache.missCount()).isEqualTo(1);
+        assertThat(tokenCache.hitCount()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that an invalid token is rejected with an exception once, and then
+     * answered from the rejected token cache.
+     */
+    @Test
+    void authenticate_invalidToken_throwsOnceThenReturnsNull() {
+        log.info("Testing invalid token is rejected and remembered");
+        assertThatThrownBy(() -> service.authenticate("Bearer invalid.token.value"))
+                .isInstanceOf(JwtParseException.class);
+
+        assertThat(service.authenticate("Bearer invalid.token.value")).isNull();
+        assertThat(tokenCache.rejectedHitCount()).isEqualTo(1);
+    }
+
+    /**
+     * Tests that missing and oversized headers are rejected without touching the
+     * cache.
+     */
+    @Test
+    void authenticate_missingOrOversizedHeader_returnsNullWithoutCacheLookup() {
+        log.info("Testing missing and oversized headers are rejected up front");
+        assertThat(service.authenticate(null)).isNull();
+        assertThat(service.authenticate("")).isNull();
+        assertThat(service.authenticate("Bearer " + "a".repeat(JwtUtil.MAX_TOKEN_LENGTH))).isNull();
+
+        assertThat(tokenCache.stats().requestCount()).isZero();
+        assertThat(tokenCache.rejectedEstimatedSize()).isZero();
+    }
+
+    /**
+     * Tests that attempts are counted by outcome and validations are timed.
+     */
+    @Test
+    void authenticate_recordsMetricsByOutcome() {
+        log.info("Testing authentication metrics by outcome");
+        service.authenticate(VALID_TOKEN);
+        service.authenticate(VALID_TOKEN);
+        service.authenticate(null);
+        assertThatThrownBy(() -> service.authenticate("Bearer invalid.token.value"))
+                .isInstanceOf(JwtParseException.class);
+        service.authenticate("Bearer invalid.token.value");
+
+        assertThat(authentications("authenticated")).isEqualTo(2);
+        assertThat(authentications("missing")).isEqualTo(1);
+        assertThat(authentications("malformed")).isEqualTo(1);
+        assertThat(authentications("replayed")).isEqualTo(1);
+        assertThat(meterRegistry.get(JwtMetrics.VALIDATION_METRIC).tag("outcome", "valid").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(JwtMetrics.VALIDATION_METRIC).tag("outcome", "malformed").timer().count())
+                .isEqualTo(1);
+    }
+
+    /**
+     * Tests that the authentication wraps the payload and the shared
+     * authorities of the token.
+     */
+    @Test
+    void createAuthenticationToken_usesSubjectAndSharedAuthorities() {
+        log.info("Testing authentication built for a validated token");
+        var cachedAuthentication = service.authenticate(VALID_TOKEN);
+
+        var authentication = service.createAuthenticationToken(cachedAuthentication, () -> null);
+
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication.getName()).isEqualTo("username");
+        assertThat(authentication.getPrincipal()).isSameAs(cachedAuthentication.payload());
+        assertThat(authentication.getAuthorities())
+                .containsExactly(new SimpleGrantedAuthority("Admin"), new SimpleGrantedAuthority("User"))
+                .isSameAs(cachedAuthentication.authorities());
+        assertThat(authentication.getDetails()).isNull();
+    }
+
+    private double authentications(String outcome) {
+        return meterRegistry.get(JwtMetrics.AUTHENTICATION_METRIC).tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,187 @@
+package com.fmd.security_service.service.impl;
+
+import com.fmd.security_service.dto.JwtIntrospectionProperties;
+import com.fmd.security_service.dto.JwtRevocationProperties;
+import com.fmd.security_service.dto.JwtSignatureProperties;
+import com.fmd.security_service.dto.TokenIntrospection;
+import com.fmd.security_service.revocation.JwtRevocationStore;
+import com.fmd.security_service.signature.JwtKeyStore;
+import com.fmd.security_service.signature.JwtSignatureVerifier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link TokenIntrospectionServiceImpl}.
+ * <p>
+ * Verifies single token results, bare JWT handling and that batches keep the
+ * order of the tokens while validating on a bounded number of threads, and
+ * that results which fail or time out do not block the caller.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class TokenIntrospectionServiceImplTest {
+    private final JwtSignatureProperties signatureProperties = new JwtSignatureProperties(null, null, null);
+    private final TokenIntrospectionServiceImpl service = new TokenIntrospectionServiceImpl(
+            new JwtSignatureVerifier(signatureProperties, new JwtKeyStore(signatureProperties)),
+            new JwtRevocationStore(new JwtRevocationProperties(null, null, null), event -> {
+            }),
+            new JwtIntrospectionProperties(null, 4, null));
+
+    private static final String VALID_JWT = "eyJhbGciOiJIUzI1NiJ9.eyJpc" +
+            "3MiOiJUZXN0IiwiaWF0IjoxNzQ3OTI3NjkyLCJleHAiOjQxMDI0NDQ4MDAsImF1ZCI6" +
+            "ImF1ZGlhbmNlIiwic3ViIjoidXNlcm5hbWUiLCJuYW1lIjoiSm9obm55Iiwicm9sZXM" +
+            "iOlsiVXNlciIsIkFkbWluIl19.OwdthubQqNWtuIdkxO5gEo1zWDgD1AG2kam2zZr2DFM";
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    /**
+     * Tests that a valid token is active, with or without the Bearer prefix.
+     */
+    @Test
+    void introspect_validToken_activeWithClaims() {
+        log.info("Testing valid token introspection");
+        TokenIntrospection bare = service.introspect(VALID_JWT);
+        TokenIntrospection header = service.introspect("Bearer " + VALID_JWT);
+
+        assertThat(bare.active()).isTrue();
+        assertThat(bare.error()).isNull();
+        assertThat(bare.claims().subject()).isEqualTo("username");
+        assertThat(header).isEqualTo(bare);
+    }
+
+    /**
+     * Tests that rejected tokens are inactive with the outcome as reason.
+     */
+    @Test
+    void introspect_invalidTokens_inactiveWithReason() {
+        log.info("Testing rejected token introspection");
+        assertThat(service.introspect("invalid.token.value")).isEqualTo(TokenIntrospection.rejected("malformed"));
+        assertThat(service.introspect(null)).isEqualTo(TokenIntrospection.rejected("malformed"));
+    }
+
+    /**
+     * Tests that a batch returns one result per token, in token order.
+     */
+    @Test
+    void introspectAll_mixedBatch_resultsInTokenOrder() {
+        log.info("Testing batch introspection keeps token order");
+        List<String> tokens = new ArrayList<>(Collections.nCopies(50, VALID_JWT));
+        tokens.addAll(Arrays.asList("invalid", null, VALID_JWT));
+
+        List<TokenIntrospection> results = service.introspectAll(tokens).toList();
+
+        assertThat(results).hasSize(53);
+        assertThat(results.subList(0, 50)).allMatch(TokenIntrospection::active);
+        assertThat(results.subList(50, 52)).noneMatch(TokenIntrospection::active);
+        assertThat(results.get(52).active()).isTrue();
+    }
+
+    /**
+     * Tests that a batch is validated on no more threads than the configured
+     * parallelism.
+     */
+    @Test
+    void introspectAll_largeBatch_boundedThreads() {
+        log.info("Testing batch introspection uses a bounded number of threads");
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        TokenIntrospectionServiceImpl tracking = new TokenIntrospectionServiceImpl(
+                new JwtSignatureVerifier(signatureProperties, new JwtKeyStore(signatureProperties)),
+                new JwtRevocationStore(new JwtRevocationProperties(null, null, null), event -> {
+                }),
+                new JwtIntrospectionProperties(null, 4, null)) {
+            @Override
+            public TokenIntrospection introspect(String token) {
+                threads.add(Thread.currentThread());
+                return super.introspect(token);
+            }
+        };
+
+        List<TokenIntrospection> results = tracking.introspectAll(Collections.nCopies(500, VALID_JWT)).toList();
+        tracking.shutdown();
+
+        assertThat(results).hasSize(500).allMatch(TokenIntrospection::active);
+        assertThat(threads).hasSizeBetween(1, 4);
+    }
+
+    /**
+     * Tests that an error thrown while validating a token fails its result
+     * instead of leaving it incomplete, and the other tokens are still
+     * validated.
+     */
+    @Test
+    void introspectAll_validationError_failsResult() {
+        log.info("Testing batch introspection fails a result whose validation throws an error");
+        TokenIntrospectionServiceImpl failing = introspectionService(new JwtIntrospectionProperties(null, 1, null),
+                "overflow", () -> {
+                    throw new StackOverflowError();
+                });
+
+        var results = failing.introspectAll(List.of(VALID_JWT, "overflow", VALID_JWT)).iterator();
+        assertThat(results.next().active()).isTrue();
+        assertThatThrownBy(results::next)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(results.next().active()).isTrue();
+        failing.shutdown();
+    }
+
+    /**
+     * Tests that a result not ready within the timeout fails instead of
+     * blocking the caller.
+     */
+    @Test
+    void introspectAll_slowValidation_timesOut() {
+        log.info("Testing batch introspection times out slow results");
+        TokenIntrospectionServiceImpl slow = introspectionService(
+                new JwtIntrospectionProperties(null, 1, Duration.ofMillis(100)), "slow", () -> {
+                    try {
+                        Thread.sleep(Duration.ofSeconds(5));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        assertThatThrownBy(() -> slow.introspectAll(List.of("slow")).toList())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        slow.shutdown();
+    }
+
+    private TokenIntrospectionServiceImpl introspectionService(JwtIntrospectionProperties properties,
+            String specialToken, Runnable onSpecialToken) {
+        return new TokenIntrospectionServiceImpl(
+                new JwtSignatureVerifier(signatureProperties, new JwtKeyStore(signatureProperties)),
+                new JwtRevocationStore(new JwtRevocationProperties(null, null, null), event -> {
+                }),
+                properties) {
+            @Override
+            public TokenIntrospection introspect(String token) {
+                if (specialToken.equals(token)) {
+                    onSpecialToken.run();
+                }
+                return super.introspect(token);
+            }
+        };
+    }
+}
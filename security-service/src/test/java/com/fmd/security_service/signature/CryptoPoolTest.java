@@ -0,0 +1,80 @@
+package com.fmd.security_service.signature;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CryptoPool}.
+ * <p>
+ * Verifies that instances are reused, created on demand when none are idle,
+ * and that at most {@code maxIdle} instances are retained.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class CryptoPoolTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    /**
+     * Tests that a released instance is handed out again instead of creating a
+     * new one.
+     */
+    @Test
+    void testBorrow_reusesReleasedInstance() {
+        log.info("Testing released instances are reused");
+        CryptoPool<Object> pool = new CryptoPool<>(this::create, 2);
+
+        Object first = pool.borrow();
+        pool.release(first);
+        Object second = pool.borrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(created).hasValue(1);
+    }
+
+    /**
+     * Tests that new instances are created when none are idle.
+     */
+    @Test
+    void testBorrow_createsWhenEmpty() {
+        log.info("Testing new instances are created when none are idle");
+        CryptoPool<Object> pool = new CryptoPool<>(this::create, 2);
+
+        Object first = pool.borrow();
+        Object second = pool.borrow();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(created).hasValue(2);
+    }
+
+    /**
+     * Tests that instances released beyond maxIdle are dropped.
+     */
+    @Test
+    void testRelease_dropsBeyondMaxIdle() {
+        log.info("Testing at most maxIdle instances are retained");
+        CryptoPool<Object> pool = new CryptoPool<>(this::create, 2);
+
+        Object a = pool.borrow();
+        Object b = pool.borrow();
+        Object c = pool.borrow();
+        pool.release(a);
+        pool.release(b);
+        pool.release(c);
+
+        assertThat(pool.idleCount()).isEqualTo(2);
+    }
+
+    private Object create() {
+        created.incrementAndGet();
+        return new Object();
+    }
+}
@@ -0,0 +1,92 @@
+package com.fmd.security_service.signature;
+
+import com.fmd.security_service.dto.JwtSignatureProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JwtKeyStore}.
+ * <p>
+ * Verifies loading keys from configuration, lookups by key id, and atomic
+ * replacement of keys.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class JwtKeyStoreTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+    /**
+     * Tests that HS256, RS256 (PEM) and ES256 keys are loaded from configuration.
+     */
+    @Test
+    void testConstructor_loadsConfiguredKeys() throws Exception {
+        log.info("Testing configured keys are loaded");
+        var rsa = KeyPairGenerator.getInstance("RSA");
+        rsa.initialize(2048);
+        String rsaPem = "-----BEGIN PUBLIC KEY-----\n"
+                + Base64.getMimeEncoder().encodeToString(rsa.generateKeyPair().getPublic().getEncoded())
+                + "\n-----END PUBLIC KEY-----";
+        var ec = KeyPairGenerator.getInstance("EC");
+        ec.initialize(256);
+        String ecKey = Base64.getEncoder().encodeToString(ec.generateKeyPair().getPublic().getEncoded());
+
+        JwtKeyStore keyStore = new JwtKeyStore(new JwtSignatureProperties(null, null, Map.of(
+                "hmac", new JwtSignatureProperties.Key(JwtAlgorithm.HS256, SECRET, null),
+                "rsa", new JwtSignatureProperties.Key(JwtAlgorithm.RS256, null, rsaPem),
+                "ec", new JwtSignatureProperties.Key(JwtAlgorithm.ES256, null, ecKey))));
+
+        assertThat(keyStore.size()).isEqualTo(3);
+        assertThat(keyStore.find("hmac").getAlgorithm()).isEqualTo(JwtAlgorithm.HS256);
+        assertThat(keyStore.find("rsa").getAlgorithm()).isEqualTo(JwtAlgorithm.RS256);
+        assertThat(keyStore.find("ec").getAlgorithm()).isEqualTo(JwtAlgorithm.ES256);
+        assertThat(keyStore.find("unknown")).isNull();
+        assertThat(keyStore.find(null)).isNull();
+    }
+
+    /**
+     * Tests that keys with missing or invalid material fail at startup.
+     */
+    @Test
+    void testConstructor_invalidKey_throwsIllegalStateException() {
+        log.info("Testing invalid key configuration fails fast");
+        assertThatThrownBy(() -> new JwtKeyStore(new JwtSignatureProperties(null, null, Map.of(
+                "hmac", new JwtSignatureProperties.Key(JwtAlgorithm.HS256, null, null)))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtKeyStore(new JwtSignatureProperties(null, null, Map.of(
+                "rsa", new JwtSignatureProperties.Key(JwtAlgorithm.RS256, null, "bm90IGEga2V5")))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtKeyStore(new JwtSignatureProperties(null, null, Map.of(
+                "none", new JwtSignatureProperties.Key(null, SECRET, null)))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * Tests that put adds a key and replaceAll swaps the whole key set.
+     */
+    @Test
+    void testPutAndReplaceAll() {
+        log.info("Testing put and replaceAll update the key set");
+        JwtKeyStore keyStore = new JwtKeyStore(new JwtSignatureProperties(null, null, null));
+        assertThat(keyStore.size()).isZero();
+
+        keyStore.put(JwtVerificationKey.hmac("a", new byte[32]));
+        assertThat(keyStore.find("a")).isNotNull();
+
+        keyStore.replaceAll(List.of(JwtVerificationKey.hmac("b", new byte[32])));
+        assertThat(keyStore.find("a")).isNull();
+        assertThat(keyStore.find("b")).isNotNull();
+    }
+}
@@ -0,0 +1,189 @@
+package com.fmd.security_service.signature;
+
+import com.fmd.security_service.dto.JwtSignatureProperties;
+import com.fmd.security_service.exception.JwtAuthenticationException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JwtSignatureVerifier}.
+ * <p>
+ * Verifies HS256, RS256 and ES256 signatures, key selection by {@code kid},
+ * algorithm confusion protection, and the behaviour of each
+ * {@link SignatureVerificationMode}.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class JwtSignatureVerifierTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final String PAYLOAD = base64Url("{\"sub\":\"user\",\"exp\":4102444800}");
+
+    private static KeyPair rsaKeyPair;
+    private static KeyPair ecKeyPair;
+    private static JwtKeyStore keyStore;
+
+    @BeforeAll
+    static void setUpKeys() throws Exception {
+        var rsa = KeyPairGenerator.getInstance("RSA");
+        rsa.initialize(2048);
+        rsaKeyPair = rsa.generateKeyPair();
+        var ec = KeyPairGenerator.getInstance("EC");
+        ec.initialize(256);
+        ecKeyPair = ec.generateKeyPair();
+
+        keyStore = new JwtKeyStore(new JwtSignatureProperties(null, null, Map.of(
+                "hmac", new JwtSignatureProperties.Key(JwtAlgorithm.HS256,
+                        Base64.getEncoder().encodeToString(SECRET), null),
+                "rsa", new JwtSignatureProperties.Key(JwtAlgorithm.RS256, null,
+                        Base64.getEncoder().encodeToString(rsaKeyPair.getPublic().getEncoded())),
+                "ec", new JwtSignatureProperties.Key(JwtAlgorithm.ES256, null,
+                        Base64.getEncoder().encodeToString(ecKeyPair.getPublic().getEncoded())))));
+    }
+
+    /**
+     * Tests that valid signatures for each algorithm pass in enforce mode.
+     */
+    @Test
+    void testVerify_validSignatures_pass() throws Exception {
+        log.info("Testing valid HS256, RS256 and ES256 signatures");
+        var verifier = verifier(SignatureVerificationMode.ENFORCE, null);
+
+        assertThatCode(() -> verify(verifier, hs256Token("hmac"))).doesNotThrowAnyException();
+        assertThatCode(() -> verify(verifier, signedToken("RS256", "rsa", "SHA256withRSA", rsaKeyPair.getPrivate())))
+                .doesNotThrowAnyException();
+        assertThatCode(() -> verify(verifier,
+                signedToken("ES256", "ec", "SHA256withECDSAinP1363Format", ecKeyPair.getPrivate())))
+                .doesNotThrowAnyException();
+    }
+
+    /**
+     * Tests that the default key id is used when the header has no kid.
+     */
+    @Test
+    void testVerify_missingKid_usesDefaultKid() throws Exception {
+        log.info("Testing default kid is used when header has no kid");
+        var verifier = verifier(SignatureVerificationMode.ENFORCE, "hmac");
+        assertThatCode(() -> verify(verifier, hs256Token(null))).doesNotThrowAnyException();
+    }
+
+    /**
+     * Tests that a tampered payload is rejected in enforce mode.
+     */
+    @Test
+    void testVerify_tamperedPayload_rejected() throws Exception {
+        log.info("Testing tampered payload is rejected");
+        var verifier = verifier(SignatureVerificationMode.ENFORCE, null);
+        String token = hs256Token("hmac");
+        String tampered = token.replace(PAYLOAD, base64Url("{\"sub\":\"admin\",\"exp\":4102444800}"));
+
+        assertThatThrownBy(() -> verify(verifier, tampered))
+                .isInstanceOf(JwtAuthenticationException.class)
+                .hasMessageContaining("signature is invalid");
+    }
+
+    /**
+     * Tests that an HS256 token cannot be verified with an RS256 key.
+     */
+    @Test
+    void testVerify_algorithmMismatch_rejected() throws Exception {
+        log.info("Testing algorithm confusion is rejected");
+        var verifier = verifier(SignatureVerificationMode.ENFORCE, null);
+        assertThatThrownBy(() -> verify(verifier, hs256Token("rsa")))
+                .isInstanceOf(JwtAuthenticationException.class)
+                .hasMessageContaining("does not match key");
+    }
+
+    /**
+     * Tests that unknown key ids, unsupported algorithms and malformed
+     * signatures are rejected.
+     */
+    @Test
+    void testVerify_invalidHeaderOrSignature_rejected() {
+        log.info("Testing unknown kid, alg none and malformed signature are rejected");
+        var verifier = verifier(SignatureVerificationMode.ENFORCE, null);
+
+        assertThatThrownBy(() -> verify(verifier, hs256Token("unknown")))
+                .isInstanceOf(JwtAuthenticationException.class)
+                .hasMessageContaining("No JWT verification key");
+        assertThatThrownBy(() -> verify(verifier, base64Url("{\"alg\":\"none\"}") + "." + PAYLOAD + "."))
+                .isInstanceOf(JwtAuthenticationException.class)
+                .hasMessageContaining("not supported");
+        assertThatThrownBy(() -> verify(verifier, base64Url("{\"alg\":\"RS256\",\"kid\":\"rsa\"}") + "."
+                + PAYLOAD + ".AAAA"))
+                .isInstanceOf(JwtAuthenticationException.class);
+        assertThatThrownBy(() -> verify(verifier, "e30." + PAYLOAD + ".sig"))
+                .isInstanceOf(JwtAuthenticationException.class);
+    }
+
+    /**
+     * Tests that report mode logs failures without rejecting the token.
+     */
+    @Test
+    void testVerify_reportMode_doesNotThrow() {
+        log.info("Testing report mode does not reject invalid signatures");
+        var verifier = verifier(SignatureVerificationMode.REPORT, null);
+        assertThatCode(() -> verify(verifier, hs256Token("unknown"))).doesNotThrowAnyException();
+    }
+
+    /**
+     * Tests that disabled mode skips verification entirely.
+     */
+    @Test
+    void testVerify_disabledMode_skipsVerification() {
+        log.info("Testing disabled mode skips verification");
+        var verifier = verifier(SignatureVerificationMode.DISABLED, null);
+        assertThatCode(() -> verify(verifier, "garbage.garbage.garbage")).doesNotThrowAnyException();
+    }
+
+    private static JwtSignatureVerifier verifier(SignatureVerificationMode mode, String defaultKid) {
+        return new JwtSignatureVerifier(new JwtSignatureProperties(mode, defaultKid, null), keyStore);
+    }
+
+    /**
+     * Verifies an unprefixed compact JWS by locating its segments.
+     */
+    private static void verify(JwtSignatureVerifier verifier, String jws) {
+        int payloadStart = jws.indexOf('.') + 1;
+        int payloadEnd = jws.indexOf('.', payloadStart);
+        verifier.verify(jws, 0, payloadStart, payloadEnd);
+    }
+
+    private static String hs256Token(String kid) throws Exception {
+        String header = base64Url(kid == null ? "{\"alg\":\"HS256\"}" : "{\"alg\":\"HS256\",\"kid\":\"" + kid + "\"}");
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+        byte[] signature = mac.doFinal((header + "." + PAYLOAD).getBytes(StandardCharsets.US_ASCII));
+        return header + "." + PAYLOAD + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    private static String signedToken(String alg, String kid, String jcaName, PrivateKey key) throws Exception {
+        String header = base64Url("{\"alg\":\"" + alg + "\",\"kid\":\"" + kid + "\"}");
+        Signature signer = Signature.getInstance(jcaName);
+        signer.initSign(key);
+        signer.update((header + "." + PAYLOAD).getBytes(StandardCharsets.US_ASCII));
+        return header + "." + PAYLOAD + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signer.sign());
+    }
+
+    private static String base64Url(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,148 @@
+package com.fmd.security_service.utils;
+
+import com.fmd.security_service.exception.JwtParseException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static java.lang.reflect.Modifier.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link Base64UrlUtil} utility class.
+ * <p>
+ * Verifies that decoding matches the JDK base64url decoder for padded and
+ * unpadded input, that ranges inside a larger string are honoured, and that
+ * invalid input is rejected with a {@link JwtParseException}.
+ * </p>
+ *
+ * @author Shailesh Halor
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j
+class Base64UrlUtilTest {
+
+    /**
+     * Tests that the Base64UrlUtil class is defined as a Final class.
+     */
+    @Test
+    void testBase64UrlUtil_isFinal() {
+        log.info("Testing Base64UrlUtil is defined as a Final class");
+        assertThat(Base64UrlUtil.class)
+                .isFinal();
+    }
+
+    /**
+     * Tests that the Base64UrlUtil class has a private constructor.
+     */
+    @Test
+    void testBase64UrlUtil_hasPrivateConstructor() throws Exception {
+        log.info("Testing Base64UrlUtil has a private constructor");
+
+        var declaredConstructor = Base64UrlUtil.class.getDeclaredConstructor();
+        assertThat(declaredConstructor.getModifiers())
+                .as("Constructor should be private")
+                .isEqualTo(PRIVATE);
+        declaredConstructor.setAccessible(true);
+        assertThatThrownBy(declaredConstructor::newInstance)
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    /**
+     * Tests that decoding matches the JDK decoder for inputs of every remainder
+     * length, with and without padding.
+     *
+     * @param text the plain text to encode and decode
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "ab", "abc", "abcd", "{\"sub\":\"user\"}", "??>>~~ü€"})
+    void testDecode_matchesJdkDecoder(String text) {
+        log.info("Testing decode matches JDK decoder for '{}'", text);
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        String unpadded = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String padded = Base64.getUrlEncoder().encodeToString(bytes);
+
+        assertThat(Base64UrlUtil.decode(unpadded, 0, unpadded.length())).isEqualTo(bytes);
+        assertThat(Base64UrlUtil.decode(padded, 0, padded.length())).isEqualTo(bytes);
+    }
+
+    /**
+     * Tests that only the requested range of the source string is decoded.
+     */
+    @Test
+    void testDecode_rangeWithinLargerString() {
+        log.info("Testing decode of a range within a larger string");
+        String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString("payload".getBytes());
+        String source = "Bearer header." + encoded + ".signature";
+        int start = source.indexOf('.') + 1;
+
+        byte[] decoded = Base64UrlUtil.decode(source, start, start + encoded.length());
+
+        assertThat(new String(decoded, StandardCharsets.UTF_8)).isEqualTo("payload");
+    }
+
+    /**
+     * Tests that decoding into a caller-supplied array writes the decoded bytes
+     * and returns the decoded length.
+     */
+    @Test
+    void testDecode_intoTargetArray() {
+        log.info("Testing decode into a caller-supplied array");
+        String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString("hello".getBytes());
+        byte[] target = new byte[16];
+
+        int length = Base64UrlUtil.decode(encoded, 0, encoded.length(), target);
+
+        assertThat(length).isEqualTo(5);
+        assertThat(new String(target, 0, length, StandardCharsets.UTF_8)).isEqualTo("hello");
+    }
+
+    /**
+     * Tests that decoding into a caller-supplied array from an offset leaves
+     * the bytes before the offset untouched.
+     */
+    @Test
+    void testDecode_intoTargetArrayAtOffset() {
+        log.info("Testing decode into a caller-supplied array at an offset");
+        String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString("hello".getBytes());
+        byte[] target = "abc-------".getBytes(StandardCharsets.US_ASCII);
+
+        int length = Base64UrlUtil.decode(encoded, 0, encoded.length(), target, 3);
+
+        assertThat(length).isEqualTo(5);
+        assertThat(new String(target, 0, 3 + length, StandardCharsets.UTF_8)).isEqualTo("abchello");
+    }
+
+    /**
+     * Tests that characters outside the base64url alphabet are rejected.
+     *
+     * @param encoded the invalid encoded input
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"ab+/", "ab/c", "a b=", "abç=", "=abc"})
+    void testDecode_illegalCharacter_throwsJwtParseException(String encoded) {
+        log.info("Testing decode rejects illegal characters in '{}'", encoded);
+        assertThatThrownBy(() -> Base64UrlUtil.decode(encoded, 0, encoded.length()))
+                .isInstanceOf(JwtParseException.class);
+    }
+
+    /**
+     * Tests that an encoded length leaving a single trailing character is
+     * rejected.
+     */
+    @Test
+    void testDecode_invalidLength_throwsJwtParseException() {
+        log.info("Testing decode rejects invalid length");
+        assertThatThrownBy(() -> Base64UrlUtil.decode("abcde", 0, 5))
+                .isInstanceOf(JwtParseException.class)
+                .hasMessageContaining("length");
+    }
+}
@@ -1,26 +1,36 @@
 package com.fmd.security_service.utils;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fmd.security_service.dto.ApiError;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 import static java.lang.reflect.Modifier.PRIVATE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 /**
  * Unit tests for {@link ErrorResponseUtil}.
  * <p>
  * Verifies that ApiError is written as JSON with correct status and content
- * type.
+ * type, and that the templated 401/403 bodies match Jackson's output.
  * </p>
  *
  * @author Shailesh Halor
@@ -50,6 +60,7 @@ class ErrorResponseUtilTest {
      * </p>
      */
     @Test
+    @DisabledInNativeImage // reflective constructor access
     void testErrorResponse_hasPrivateConstructor() throws Exception {
         log.info("Testing ErrorResponseUtil has a private constructor");
 
@@ -77,23 +88,102 @@ class ErrorResponseUtilTest {
     void writeErrorResponse_writesJsonAndSetsStatusAndContentType() throws Exception {
         log.info("Testing writeErrorResponse writes JSON and sets status/content type");
         // Arrange
-        HttpServletResponse response = mock(HttpServletResponse.class);
-        StringWriter stringWriter = new StringWriter();
-        PrintWriter printWriter = new PrintWriter(stringWriter);
-        when(response.getWriter()).thenReturn(printWriter);
+        MockHttpServletResponse response = new MockHttpServletResponse();
         ApiError apiError = new ApiError(LocalDateTime.of(2025, 6, 9, 12, 0, 0), 400, "Bad Request", "Invalid input",
                 "/api/test");
         log.debug("ApiError to write: {}", apiError);
 
         // Act
         ErrorResponseUtil.writeErrorResponse(response, 400, apiError);
-        printWriter.flush();
 
         // Assert
-        verify(response).setStatus(400);
-        verify(response).setContentType(APPLICATION_JSON_VALUE);
-        String json = stringWriter.toString();
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentType()).startsWith(APPLICATION_JSON_VALUE);
+        assertThat(response.getCharacterEncoding()).isEqualTo("UTF-8");
+        String json = response.getContentAsString(StandardCharsets.UTF_8);
         log.debug("JSON written to response: {}", json);
         assertThat(json).isEqualTo(EXPECTED_JSON);
+        assertThat(response.getContentLength()).isEqualTo(json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    /**
+     * Tests that the body is written as bytes to the output stream, not through
+     * the writer.
+     *
+     * @throws Exception if an error occurs during response writing
+     */
+    @Test
+    @DisabledInNativeImage // Mockito mocks need a JVM
+    void writeErrorResponse_writesToOutputStream() throws Exception {
+        log.info("Testing writeErrorResponse writes to the output stream");
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ServletOutputStream outputStream = mock(ServletOutputStream.class);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        ErrorResponseUtil.writeErrorResponse(response, 401, new ApiError(UNAUTHORIZED, "denied", "/api/test"));
+
+        verify(outputStream).write(any(byte[].class));
+        verify(response, never()).getWriter();
+    }
+
+    /**
+     * Tests that the templated 401 and 403 bodies are byte-for-byte identical to
+     * the bodies produced by Jackson, including escaping and non-ASCII
+     * characters.
+     *
+     * @param status the status to render
+     * @throws Exception if serialization fails
+     */
+    @ParameterizedTest
+    @EnumSource(value = HttpStatus.class, names = {"UNAUTHORIZED", "FORBIDDEN"})
+    void toJsonBytes_templatedStatuses_matchJackson(HttpStatus status) throws Exception {
+        log.info("Testing templated {} body matches Jackson output", status);
+        ApiError apiError = new ApiError(LocalDateTime.of(2025, 6, 9, 12, 0, 0), status.value(),
+                status.getReasonPhrase(), "Failed: \"quoted\" \\ back\nslash \u00e9\u20ac", "/api/t\u00e9st?a=\"b\"");
+
+        assertThat(new String(ErrorResponseUtil.toJsonBytes(apiError), StandardCharsets.UTF_8))
+                .isEqualTo(jackson(apiError));
+    }
+
+    /**
+     * Tests that null fields in a templated body are written as JSON null, as
+     * Jackson does.
+     *
+     * @throws Exception if serialization fails
+     */
+    @Test
+    void toJsonBytes_nullFields_writtenAsJsonNull() throws Exception {
+        log.info("Testing null fields are written as JSON null");
+        ApiError apiError = new ApiError(null, 401, "Unauthorized", null, null);
+
+        String json = new String(ErrorResponseUtil.toJsonBytes(apiError), StandardCharsets.UTF_8);
+
+        assertThat(json).isEqualTo(jackson(apiError))
+                .isEqualTo("{\"timestamp\":null,\"status\":401,\"error\":\"Unauthorized\",\"message\":null,\"path\":null}");
+    }
+
+    /**
+     * Tests that a 401 status with a non-standard error falls back to Jackson.
+     *
+     * @throws Exception if serialization fails
+     */
+    @Test
+    void toJsonBytes_nonStandardError_fallsBackToMapper() throws Exception {
+        log.info("Testing non-standard error text falls back to the mapper");
+        ApiError apiError = new ApiError(LocalDateTime.of(2025, 6, 9, 12, 0, 0), 401, "Custom", "m", "/p");
+
+        assertThat(new String(ErrorResponseUtil.toJsonBytes(apiError), StandardCharsets.UTF_8))
+                .isEqualTo(jackson(apiError));
+    }
+
+    /**
+     * Serializes the ApiError with a freshly configured Jackson mapper, as the
+     * original implementation did.
+     */
+    private static String jackson(ApiError apiError) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper.writeValueAsString(apiError);
     }
 }
@@ -1,19 +1,32 @@
 package com.fmd.security_service.utils;
 
 import com.fmd.security_service.dto.JwtPayload;
+import com.fmd.security_service.dto.JwtSignatureProperties;
 import com.fmd.security_service.exception.JwtAuthenticationException;
 import com.fmd.security_service.exception.JwtParseException;
+import com.fmd.security_service.exception.JwtRevokedException;
+import com.fmd.security_service.payload.JwtPayloadDeserializer;
+import com.fmd.security_service.revocation.JwtRevocationStore;
+import com.fmd.security_service.signature.JwtAlgorithm;
+import com.fmd.security_service.signature.JwtKeyStore;
+import com.fmd.security_service.signature.JwtSignatureVerifier;
+import com.fmd.security_service.signature.SignatureVerificationMode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 
 import java.lang.reflect.InvocationTargetException;
 import java.time.Instant;
 import java.util.Base64;
+import java.util.List;
+import java.util.Map;
 
 import static java.lang.reflect.Modifier.PRIVATE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for {@link JwtUtil} utility class.
@@ -33,9 +46,9 @@ import static org.junit.jupiter.api.Assertions.*;
 class JwtUtilTest {
 
     private static final String VALID_TOKEN = "Bearer eyJhbGciOiJIUzI1NiJ9.eyJpc" +
-            "3MiOiJUZXN0IiwiaWF0IjoxNzQ3OTI3NjkyLCJleHAiOjE3Nzk0NjM2OTcsImF1ZCI6" +
+            "3MiOiJUZXN0IiwiaWF0IjoxNzQ3OTI3NjkyLCJleHAiOjQxMDI0NDQ4MDAsImF1ZCI6" +
             "ImF1ZGlhbmNlIiwic3ViIjoidXNlcm5hbWUiLCJuYW1lIjoiSm9obm55Iiwicm9sZXM" +
-            "iOlsiVXNlciIsIkFkbWluIl19.2gS8pFXJuQ1u19GjDp7UcyTRVVlmBWNnJSukjDz2ENQ";
+            "iOlsiVXNlciIsIkFkbWluIl19.OwdthubQqNWtuIdkxO5gEo1zWDgD1AG2kam2zZr2DFM";
 
     /**
      * Tests that the JwtUtil class is defined as a Final class.
@@ -54,6 +67,7 @@ class JwtUtilTest {
      * </p>
      */
     @Test
+    @DisabledInNativeImage // reflective constructor access
     void testJwtUtil_hasPrivateConstructor() throws Exception {
         log.info("Testing JwtUtil has a private constructor");
 
@@ -84,6 +98,23 @@ class JwtUtilTest {
         assertThat(payload.roles()).containsExactlyInAnyOrder("User", "Admin");
     }
 
+    /**
+     * Tests that a correctly signed token passes with an enforcing signature
+     * verifier, and that the same token fails once its signature is altered.
+     */
+    @Test
+    void testValidateAndExtractPayload_enforcedSignature() {
+        log.info("Testing JWT token extraction with enforced signature verification");
+        var properties = new JwtSignatureProperties(SignatureVerificationMode.ENFORCE, "test", Map.of("test",
+                new JwtSignatureProperties.Key(JwtAlgorithm.HS256, Base64.getEncoder().encodeToString(
+                        "security-service-test-secret-0123456789abcdef".getBytes()), null)));
+        var verifier = new JwtSignatureVerifier(properties, new JwtKeyStore(properties));
+
+        assertThat(JwtUtil.validateAndExtractPayload(VALID_TOKEN, verifier).subject()).isEqualTo("username");
+        String forged = VALID_TOKEN.substring(0, VALID_TOKEN.lastIndexOf('.') + 1) + "AAAA";
+        assertThrows(JwtAuthenticationException.class, () -> JwtUtil.validateAndExtractPayload(forged, verifier));
+    }
+
     /**
      * Tests that passing a null token throws a JwtParseException.
      */
@@ -112,6 +143,32 @@ class JwtUtilTest {
         assertThrows(JwtParseException.class, () -> JwtUtil.validateAndExtractPayload(token));
     }
 
+    /**
+     * Tests that a short token without the 'Bearer ' prefix is rejected with a
+     * JwtParseException rather than an index error.
+     */
+    @Test
+    void testValidateAndExtractPayload_shortTokenWithoutBearer() {
+        log.info("Testing short token without 'Bearer ' prefix");
+        assertThatThrownBy(() -> JwtUtil.validateAndExtractPayload("abc"))
+                .isInstanceOf(JwtParseException.class)
+                .hasMessageContaining("abc");
+    }
+
+    /**
+     * Tests that an oversized token is rejected before it is decoded, and that
+     * the rejection carries no stack trace.
+     */
+    @Test
+    void testValidateAndExtractPayload_oversizedToken() {
+        log.info("Testing oversized token");
+        String token = "Bearer " + "a".repeat(JwtUtil.MAX_TOKEN_LENGTH);
+        assertThatThrownBy(() -> JwtUtil.validateAndExtractPayload(token))
+                .isInstanceOf(JwtParseException.class)
+                .hasMessageContaining("exceeds")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
     /**
      * Tests that a token with an invalid number of parts throws a
      * JwtParseException.
@@ -123,6 +180,50 @@ class JwtUtilTest {
         assertThrows(JwtParseException.class, () -> JwtUtil.validateAndExtractPayload(token));
     }
 
+    /**
+     * Tests that a token with more than 3 parts throws a JwtParseException.
+     */
+    @Test
+    void testValidateAndExtractPayload_tooManyParts() {
+        log.info("Testing token with too many parts");
+        String token = VALID_TOKEN + ".extra";
+        assertThrows(JwtParseException.class, () -> JwtUtil.validateAndExtractPayload(token));
+    }
+
+    /**
+     * Tests that a token with an empty signature part throws a
+     * JwtParseException.
+     */
+    @Test
+    void testValidateAndExtractPayload_emptySignaturePart() {
+        log.info("Testing token with empty signature part");
+        String token = VALID_TOKEN.substring(0, VALID_TOKEN.lastIndexOf('.') + 1);
+        JwtParseException exception = assertThrows(JwtParseException.class,
+                () -> JwtUtil.validateAndExtractPayload(token));
+        assertThat(exception).hasMessage("JWT token does not have 3 parts");
+    }
+
+    /**
+     * Tests that a token with an empty payload part throws a JwtParseException.
+     */
+    @Test
+    void testValidateAndExtractPayload_emptyPayloadPart() {
+        log.info("Testing token with empty payload part");
+        String token = "Bearer header..signature";
+        assertThrows(JwtParseException.class, () -> JwtUtil.validateAndExtractPayload(token));
+    }
+
+    /**
+     * Tests that a token with characters outside the base64url alphabet throws a
+     * JwtParseException.
+     */
+    @Test
+    void testValidateAndExtractPayload_illegalBase64Character() {
+        log.info("Testing token with illegal base64url character");
+        String token = "Bearer header.ab+/cd.signature";
+        assertThrows(JwtParseException.class, () -> JwtUtil.validateAndExtractPayload(token));
+    }
+
     /**
      * Tests that a token with a malformed Base64 payload throws a
      * JwtParseException.
@@ -162,6 +263,57 @@ class JwtUtilTest {
         assertThrows(JwtAuthenticationException.class, () -> JwtUtil.validateAndExtractPayload(token));
     }
 
+    /**
+     * Tests that a token whose jti is on the revocation list throws a
+     * JwtRevokedException, and that other token ids pass.
+     */
+    @Test
+    @DisabledInNativeImage // Mockito mocks need a JVM
+    void testValidateAndExtractPayload_revokedToken() {
+        log.info("Testing token with revoked jti");
+        JwtRevocationStore revocationStore = mock(JwtRevocationStore.class);
+        when(revocationStore.isRevoked("revoked-id")).thenReturn(true);
+        String header = Base64.getUrlEncoder().encodeToString("{\"alg\":\"none\"}".getBytes());
+        long exp = Instant.now().getEpochSecond() + 10000;
+
+        String revoked = "Bearer " + header + "." + Base64.getUrlEncoder().encodeToString(
+                ("{\"sub\":\"user\",\"exp\":" + exp + ",\"jti\":\"revoked-id\"}").getBytes()) + ".sig";
+        String active = "Bearer " + header + "." + Base64.getUrlEncoder().encodeToString(
+                ("{\"sub\":\"user\",\"exp\":" + exp + ",\"jti\":\"active-id\"}").getBytes()) + ".sig";
+
+        assertThatThrownBy(() -> JwtUtil.validateAndExtractPayload(revoked, null, revocationStore))
+                .isInstanceOf(JwtRevokedException.class)
+                .hasMessage("JWT token has been revoked");
+        assertThat(JwtUtil.validateAndExtractPayload(active, null, revocationStore).tokenId())
+                .isEqualTo("active-id");
+    }
+
+    /**
+     * Tests that retained claims without a record component are kept by name
+     * and that other unknown claims are skipped instead of failing the parse.
+     */
+    @Test
+    void testValidateAndExtractPayload_otherClaims() {
+        log.info("Testing token with additional claims");
+        var payloadReader = JwtPayloadDeserializer.reader(List.of("tenant", "level", "groups"));
+        String payloadJson = "{\"sub\":\"user\",\"exp\":" + (Instant.now().getEpochSecond() + 10000)
+                + ",\"tenant\":\"acme\",\"level\":3,\"groups\":[\"a\",\"b\"]"
+                + ",\"skipped\":{\"nested\":[1,{\"deep\":true}]},\"skippedText\":\"x\"}";
+        String header = Base64.getUrlEncoder().encodeToString("{\"alg\":\"none\"}".getBytes());
+        String payload = Base64.getUrlEncoder().encodeToString(payloadJson.getBytes());
+        String token = "Bearer " + header + "." + payload + ".sig";
+        JwtPayload jwtPayload = JwtUtil.validateAndExtractPayload(token, null, null, payloadReader);
+
+        assertThat(jwtPayload.otherClaims()).containsOnlyKeys("tenant", "level", "groups");
+        assertThat(jwtPayload.claim("tenant")).isEqualTo("acme");
+        assertThat(jwtPayload.claim("level")).isEqualTo(3);
+        assertThat(jwtPayload.claim("groups")).isEqualTo(List.of("a", "b"));
+        assertThat(jwtPayload.claim("sub")).isEqualTo("user");
+        assertThat(jwtPayload.claim("missing")).isNull();
+        assertThat(jwtPayload.claim("skipped")).isNull();
+        assertThat(JwtUtil.validateAndExtractPayload(token).otherClaims()).isEmpty();
+    }
+
     /**
      * Tests that a token with a null subject throws a JwtAuthenticationException.
      */
@@ -191,6 +343,31 @@ class JwtUtilTest {
         assertThrows(JwtAuthenticationException.class, () -> JwtUtil.validateAndExtractPayload(token));
     }
 
+    /**
+     * Tests that a token whose payload is the JSON literal null throws a
+     * JwtParseException.
+     */
+    @Test
+    void testValidateAndExtractPayload_jsonNullPayload() {
+        log.info("Testing token with JSON null payload");
+        String header = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"alg\":\"none\"}".getBytes());
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString("null".getBytes());
+        String token = "Bearer " + header + "." + payload + ".sig";
+        assertThrows(JwtParseException.class, () -> JwtUtil.validateAndExtractPayload(token));
+    }
+
+    /**
+     * Tests that the same valid token can be parsed repeatedly with the shared
+     * reader and yields equal payloads.
+     */
+    @Test
+    void testValidateAndExtractPayload_repeatedCallsYieldEqualPayloads() {
+        log.info("Testing repeated extraction of the same token");
+        JwtPayload first = JwtUtil.validateAndExtractPayload(VALID_TOKEN);
+        JwtPayload second = JwtUtil.validateAndExtractPayload(VALID_TOKEN);
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
     /**
      * Tests that a token with a null payload throws a JwtAuthenticationException.
      */